@@ -0,0 +1,35 @@
+package org.xpertss.measure.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached so every result carries
+ * its allocation rate ({@code gc.alloc.rate} and {@code gc.alloc.rate.norm}).
+ * <p/>
+ * Accepts the usual JMH command line, for example a benchmark regex to run
+ * a subset:
+ * <pre>
+ *    java -jar target/benchmarks.jar Parse
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+   private BenchmarkRunner() { }
+
+   public static void main(String[] args)
+      throws RunnerException, CommandLineOptionException
+   {
+      Options options = new OptionsBuilder()
+                              .parent(new CommandLineOptions(args))
+                              .addProfiler(GCProfiler.class)
+                              .build();
+      new Runner(options).run();
+   }
+
+}
@@ -0,0 +1,78 @@
+package org.xpertss.measure.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.function.AddConverter;
+import tech.units.indriya.function.ConverterCompositionHandler;
+import tech.units.indriya.function.MultiplyConverter;
+
+import javax.measure.UnitConverter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks concatenation of a chain of Indriya converters, with and without
+ * memoization of the normal-form compositions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterCompositionBenchmark {
+
+   @Param({ "true", "false" })
+   public boolean memoized;
+
+   private ConverterCompositionHandler installed;
+   private UnitConverter[] chain;
+
+   @Setup
+   public void setup()
+   {
+      installed = AbstractConverter.UNIT_COMPOSITION_HANDLER;
+      ConverterCompositionHandler handler = ConverterCompositionHandler.yieldingNormalForm();
+      AbstractConverter.UNIT_COMPOSITION_HANDLER = memoized
+                                                   ? ConverterCompositionHandler.memoizing(handler)
+                                                   : handler;
+      chain = new UnitConverter[] {
+         MultiplyConverter.ofTenExponent(3),
+         new AddConverter(273.15),
+         MultiplyConverter.ofRational(5, 18),
+         MultiplyConverter.ofPiExponent(1),
+         new AddConverter(-32),
+         MultiplyConverter.ofExponent(2, 10),
+         MultiplyConverter.of(1.609344),
+         MultiplyConverter.ofRational(9, 5)
+      };
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      AbstractConverter.UNIT_COMPOSITION_HANDLER = installed;
+   }
+
+
+   @Benchmark
+   public UnitConverter concatenate()
+   {
+      UnitConverter converter = chain[0];
+      for(int i = 1; i < chain.length; i++) {
+         converter = converter.concatenate(chain[i]);
+      }
+      return converter;
+   }
+
+}
@@ -0,0 +1,102 @@
+package org.xpertss.measure.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.units.indriya.quantity.Quantities;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Speed;
+import java.util.concurrent.TimeUnit;
+
+import static javax.measure.MetricPrefix.KILO;
+import static tech.units.indriya.unit.Units.*;
+
+/**
+ * Benchmarks converter lookup and quantity arithmetic in the Indriya API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndriyaQuantityBenchmark {
+
+   private Unit<Length> kilometre;
+   private Unit<Speed> kmPerHour;
+
+   private Quantity<Length> metres;
+   private Quantity<Length> kilometres;
+   private Quantity<Length> decimalMetres;
+
+   @Setup
+   public void setup()
+   {
+      kilometre = KILO(METRE);
+      kmPerHour = KILOMETRE_PER_HOUR;
+      metres = Quantities.getQuantity(1500, METRE);
+      kilometres = Quantities.getQuantity(2.5, kilometre);
+      decimalMetres = Quantities.getQuantity(new java.math.BigDecimal("12.75"), METRE);
+   }
+
+
+   @Benchmark
+   public UnitConverter getConverterToPrefixed()
+   {
+      return kilometre.getConverterTo(METRE);
+   }
+
+   @Benchmark
+   public UnitConverter getConverterToProduct()
+   {
+      return kmPerHour.getConverterTo(METRE_PER_SECOND);
+   }
+
+   @Benchmark
+   public Quantity<Length> addSameUnit()
+   {
+      return metres.add(metres);
+   }
+
+   @Benchmark
+   public Quantity<Length> addMixedUnits()
+   {
+      return metres.add(kilometres);
+   }
+
+   @Benchmark
+   public Quantity<Length> addMixedNumbers()
+   {
+      return metres.add(decimalMetres);
+   }
+
+   @Benchmark
+   public Quantity<?> multiplyQuantity()
+   {
+      return metres.multiply(kilometres);
+   }
+
+   @Benchmark
+   public Quantity<Length> multiplyScalar()
+   {
+      return kilometres.multiply(3);
+   }
+
+   @Benchmark
+   public Quantity<Length> to()
+   {
+      return kilometres.to(METRE);
+   }
+
+}
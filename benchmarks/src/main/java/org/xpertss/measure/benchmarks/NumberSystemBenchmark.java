@@ -0,0 +1,100 @@
+package org.xpertss.measure.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.units.indriya.function.DefaultNumberSystem;
+import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.spi.NumberSystem;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DefaultNumberSystem} arithmetic across every pairing of
+ * Integer, Long, BigDecimal and RationalNumber operands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberSystemBenchmark {
+
+   @Param({ "Integer", "Long", "BigDecimal", "RationalNumber" })
+   public String left;
+
+   @Param({ "Integer", "Long", "BigDecimal", "RationalNumber" })
+   public String right;
+
+   private NumberSystem ns;
+   private Number x;
+   private Number y;
+
+   @Setup
+   public void setup()
+   {
+      ns = new DefaultNumberSystem();
+      x = number(left, 1234);
+      y = number(right, 56);
+   }
+
+
+   @Benchmark
+   public Number add()
+   {
+      return ns.add(x, y);
+   }
+
+   @Benchmark
+   public Number multiply()
+   {
+      return ns.multiply(x, y);
+   }
+
+   @Benchmark
+   public Number divide()
+   {
+      return ns.divide(x, y);
+   }
+
+   @Benchmark
+   public int compare()
+   {
+      return ns.compare(x, y);
+   }
+
+   @Benchmark
+   public Number narrow()
+   {
+      return ns.narrow(x);
+   }
+
+
+
+   private static Number number(String type, int value)
+   {
+      switch(type) {
+         case "Integer":
+            return value;
+         case "Long":
+            return (long) value;
+         case "BigDecimal":
+            return BigDecimal.valueOf(value).movePointLeft(1);
+         case "RationalNumber":
+            return RationalNumber.of(value, 7);
+         default:
+            throw new IllegalArgumentException(type);
+      }
+   }
+
+}
@@ -0,0 +1,101 @@
+package org.xpertss.measure.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import systems.uom.ucum.format.UCUMFormat;
+import systems.uom.ucum.internal.format.UCUMUnitParser;
+import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.format.SymbolMap;
+
+import javax.measure.Unit;
+import javax.measure.format.UnitFormat;
+import java.text.ParsePosition;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+import static systems.uom.ucum.format.UCUMFormat.Variant.CASE_SENSITIVE;
+
+/**
+ * Benchmarks unit parsing through {@link SimpleUnitFormat} and {@link UCUMFormat}.
+ * <p/>
+ * Both formats cache parsed units, so the plain benchmarks measure cache hits. The
+ * uncached variants measure the parsers themselves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitParseBenchmark {
+
+   @State(Scope.Benchmark)
+   public static class SimpleInput {
+
+      @Param({ "m", "km/h", "kg·m/s²" })
+      public String expression;
+
+      private UnitFormat format;
+      private String padded;
+
+      @Setup
+      public void setup()
+      {
+         format = SimpleUnitFormat.getInstance();
+         // SimpleUnitFormat only caches parses starting at index 0
+         padded = " " + expression;
+      }
+   }
+
+   @State(Scope.Benchmark)
+   public static class UcumInput {
+
+      @Param({ "m", "km/h", "kg.m/s2", "mg/dL" })
+      public String expression;
+
+      private UnitFormat format;
+      private UCUMUnitParser parser;
+
+      @Setup
+      public void setup()
+      {
+         format = UCUMFormat.getInstance(CASE_SENSITIVE);
+         SymbolMap symbols = SymbolMap.of(ResourceBundle.getBundle(UCUMFormat.class.getName() + "_CS"));
+         parser = new UCUMUnitParser(symbols, true);
+      }
+   }
+
+
+   @Benchmark
+   public Unit<?> simpleUnitFormatParse(SimpleInput input)
+   {
+      return input.format.parse(input.expression);
+   }
+
+   @Benchmark
+   public Unit<?> simpleUnitFormatParseUncached(SimpleInput input)
+   {
+      return input.format.parse(input.padded, new ParsePosition(1));
+   }
+
+   @Benchmark
+   public Unit<?> ucumFormatParse(UcumInput input)
+   {
+      return input.format.parse(input.expression);
+   }
+
+   @Benchmark
+   public Unit<?> ucumFormatParseUncached(UcumInput input)
+   {
+      return input.parser.parse(input.expression, 0, input.expression.length());
+   }
+
+}
@@ -0,0 +1,106 @@
+package org.xpertss.measure.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xpertss.measure.Unit;
+import org.xpertss.measure.UnitConverter;
+import xpertss.unit.converters.AffineConverter;
+import xpertss.unit.converters.RationalConverter;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static org.xpertss.measure.units.SI.*;
+
+/**
+ * Benchmarks {@link Unit#getConverterTo(Unit)} and converter evaluation in
+ * the org.xpertss.measure API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XpertssConversionBenchmark {
+
+   private Unit<?> hour;
+   private Unit<?> minute;
+   private Unit<?> kmPerHour;
+   private Unit<?> metresPerSecond;
+
+   private UnitConverter rational;
+   private BigDecimal decimal;
+   private double value;
+   private double[] frame;
+   private double[] converted;
+
+   @Setup
+   public void setup()
+   {
+      hour = HOUR;
+      minute = MINUTE;
+      kmPerHour = METRE.multiply(1000).divide(HOUR);
+      metresPerSecond = METRES_PER_SECOND;
+      rational = new RationalConverter(1, 1000);
+      decimal = new BigDecimal("1234.5678");
+      value = 1234.5678;
+      frame = new double[4096];
+      for(int i = 0; i < frame.length; i++) frame[i] = i * 0.5;
+      converted = new double[frame.length];
+   }
+
+
+   @Benchmark
+   public UnitConverter getConverterToSimple()
+   {
+      return hour.getConverterTo(minute);
+   }
+
+   @Benchmark
+   public UnitConverter getConverterToProduct()
+   {
+      return kmPerHour.getConverterTo(metresPerSecond);
+   }
+
+   /**
+    * Builds the converter the way {@link Unit#getConverterTo(Unit)} does on a cache
+    * miss, without touching the shared converter cache.
+    */
+   @Benchmark
+   public UnitConverter getConverterToUncached()
+   {
+      UnitConverter thisToSI = kmPerHour.toSystemUnit();
+      UnitConverter thatToSI = metresPerSecond.toSystemUnit();
+      return AffineConverter.normalize(thatToSI.inverse().concatenate(thisToSI));
+   }
+
+   @Benchmark
+   public BigDecimal rationalConvertDecimal()
+   {
+      return rational.convert(decimal);
+   }
+
+   @Benchmark
+   public double rationalConvertDouble()
+   {
+      return rational.convert(value);
+   }
+
+   @Benchmark
+   public double[] rationalConvertArray()
+   {
+      // converting in place would shrink the values towards subnormals on every call
+      rational.convert(frame, 0, converted, 0, frame.length);
+      return converted;
+   }
+
+}
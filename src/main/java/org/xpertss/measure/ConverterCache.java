@@ -0,0 +1,191 @@
+package org.xpertss.measure;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, lock-free cache of the converters produced by
+ * {@link Unit#getConverterTo(Unit)}.
+ * <p/>
+ * The cache is direct mapped. Each (source, target) unit pair hashes to exactly
+ * one slot and a newly computed converter simply replaces whatever pair occupied
+ * that slot before it. Readers never block and writers never wait on one another,
+ * the worst outcome of a race being a converter computed twice.
+ * <p/>
+ * Units and converters are immutable so the cached values never go stale.
+ */
+public final class ConverterCache {
+
+   /**
+    * The default number of slots.
+    */
+   public static final int DEFAULT_CAPACITY = 1024;
+
+   /**
+    * Holds the cache used by {@link Unit#getConverterTo(Unit)}.
+    */
+   private static final ConverterCache DEFAULT = new ConverterCache(DEFAULT_CAPACITY);
+
+
+   private final AtomicReferenceArray<Entry> slots;
+   private final int mask;
+
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder evictions = new LongAdder();
+
+
+   /**
+    * Creates a converter cache holding at most the specified number of
+    * unit pairs. The capacity is rounded up to the next power of two.
+    *
+    * @param capacity the maximum number of cached unit pairs.
+    * @throws IllegalArgumentException if <code>capacity &lt;= 0</code>
+    */
+   public ConverterCache(int capacity)
+   {
+      if(capacity <= 0 || capacity > (1 << 30))
+         throw new IllegalArgumentException("Invalid capacity: " + capacity);
+      int size = Integer.highestOneBit(capacity);
+      if(size < capacity) size <<= 1;
+      this.slots = new AtomicReferenceArray<>(size);
+      this.mask = size - 1;
+   }
+
+
+   /**
+    * Returns the cache backing {@link Unit#getConverterTo(Unit)}.
+    *
+    * @return the default converter cache.
+    */
+   public static ConverterCache getDefault()
+   {
+      return DEFAULT;
+   }
+
+
+   /**
+    * Returns the cached converter from the source unit to the target unit or
+    * {@code null} if no such converter is currently cached.
+    *
+    * @param source the unit being converted from.
+    * @param target the unit being converted to.
+    * @return the cached converter or {@code null}
+    */
+   public UnitConverter get(Unit<?> source, Unit<?> target)
+   {
+      Entry entry = slots.get(indexOf(source, target));
+      if(entry != null && entry.matches(source, target)) {
+         hits.increment();
+         return entry.converter;
+      }
+      misses.increment();
+      return null;
+   }
+
+   /**
+    * Caches the converter from the source unit to the target unit, evicting
+    * any other pair that shared the same slot.
+    *
+    * @param source the unit being converted from.
+    * @param target the unit being converted to.
+    * @param converter the converter between the two.
+    */
+   public void put(Unit<?> source, Unit<?> target, UnitConverter converter)
+   {
+      Entry entry = new Entry(source, target, Objects.requireNonNull(converter));
+      Entry previous = slots.getAndSet(entry.index & mask, entry);
+      if(previous != null && !previous.matches(source, target)) {
+         evictions.increment();
+      }
+   }
+
+   /**
+    * Removes all cached converters. The statistics are left untouched.
+    */
+   public void clear()
+   {
+      for(int i = 0; i < slots.length(); i++) {
+         slots.set(i, null);
+      }
+   }
+
+
+   /**
+    * Returns the maximum number of unit pairs this cache can hold.
+    */
+   public int getCapacity()
+   {
+      return slots.length();
+   }
+
+   /**
+    * Returns the number of lookups that found a cached converter.
+    */
+   public long getHitCount()
+   {
+      return hits.sum();
+   }
+
+   /**
+    * Returns the number of lookups that did not find a cached converter.
+    */
+   public long getMissCount()
+   {
+      return misses.sum();
+   }
+
+   /**
+    * Returns the number of cached pairs displaced by a different pair.
+    */
+   public long getEvictionCount()
+   {
+      return evictions.sum();
+   }
+
+
+   @Override
+   public String toString()
+   {
+      return "ConverterCache(capacity=" + getCapacity() + ", hits=" + getHitCount() +
+               ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + ")";
+   }
+
+
+
+   private int indexOf(Unit<?> source, Unit<?> target)
+   {
+      return hash(source, target) & mask;
+   }
+
+   private static int hash(Unit<?> source, Unit<?> target)
+   {
+      int h = 31 * source.hashCode() + target.hashCode();
+      return h ^ (h >>> 16);
+   }
+
+
+   private static final class Entry {
+
+      private final Unit<?> source;
+      private final Unit<?> target;
+      private final UnitConverter converter;
+      private final int index;
+
+      private Entry(Unit<?> source, Unit<?> target, UnitConverter converter)
+      {
+         this.source = source;
+         this.target = target;
+         this.converter = converter;
+         this.index = hash(source, target);
+      }
+
+      private boolean matches(Unit<?> source, Unit<?> target)
+      {
+         return (this.source == source || this.source.equals(source)) &&
+                  (this.target == target || this.target.equals(target));
+      }
+   }
+
+}
@@ -1,14 +1,12 @@
 package org.xpertss.measure;
 
 
-import org.xpertss.measure.quantity.Dimensionless;
-import xpertss.unit.types.BaseUnit;
-import xpertss.unit.types.ProductUnit;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
- * TODO - Should this be an Enum vs a class?
- * <p/>
  * Represents the dimension of a unit.
  * <p/>
  * Concrete dimensions are obtained through the {@link Unit#getDimension()}
@@ -17,78 +15,121 @@ import xpertss.unit.types.ProductUnit;
  * Two units {@code u1} and {@code u2} are {@link Unit#isCompatible(Unit)
  * compatible} if and only if
  * {@code u1.getDimension().equals(u2.getDimension())}.
+ * <p/>
+ * A dimension is held as a vector of rational exponents over the seven base
+ * dimensions (L, M, T, I, Θ, N, J). Instances are interned, there is exactly one
+ * instance per exponent vector, so equality is a reference comparison.
  *
  * @see <a href="http://en.wikipedia.org/wiki/Dimensional_analysis">Wikipedia:
  * Dimensional Analysis</a>
  */
-public class Dimension {
+public final class Dimension {
+
+   /**
+    * The symbols of the base dimensions in exponent vector order.
+    */
+   private static final char[] SYMBOLS = { 'L', 'M', 'T', 'I', 'Θ', 'N', 'J' };
+
+   /**
+    * Holds the canonical instances.
+    */
+   private static final ConcurrentMap<Key, Dimension> INTERNED = new ConcurrentHashMap<>();
+
+   /**
+    * Holds a reusable key per thread, so looking up an existing instance does not
+    * allocate.
+    */
+   private static final ThreadLocal<Key> PROBE = new ThreadLocal<Key>() {
+      @Override
+      protected Key initialValue()
+      {
+         return new Key(new int[SYMBOLS.length], new int[SYMBOLS.length]);
+      }
+   };
 
 
    /**
     * Holds dimensionless.
     */
-   public static final Dimension NONE = new Dimension(new ProductUnit<Dimensionless>());
+   public static final Dimension NONE = intern(unitRoots(probe()));
 
    /**
     * Holds length dimension (L).
     */
-   public static final Dimension LENGTH = new Dimension('L');
+   public static final Dimension LENGTH = valueOf('L');
 
    /**
     * Holds mass dimension (M).
     */
-   public static final Dimension MASS = new Dimension('M');
+   public static final Dimension MASS = valueOf('M');
 
    /**
     * Holds time dimension (T).
     */
-   public static final Dimension TIME = new Dimension('T');
+   public static final Dimension TIME = valueOf('T');
 
    /**
     * Holds electric current dimension (I).
     */
-   public static final Dimension ELECTRIC_CURRENT = new Dimension('I');
+   public static final Dimension ELECTRIC_CURRENT = valueOf('I');
 
    /**
     * Holds temperature dimension (Θ).
     */
-   public static final Dimension TEMPERATURE = new Dimension('Θ');
+   public static final Dimension TEMPERATURE = valueOf('Θ');
 
    /**
     * Holds amount of substance dimension (N).
     */
-   public static final Dimension AMOUNT_OF_SUBSTANCE = new Dimension('N');
+   public static final Dimension AMOUNT_OF_SUBSTANCE = valueOf('N');
 
    /**
     * Holds luminous intensity dimension (J).
     */
-   public static final Dimension LUMINOUS_INTENSITY = new Dimension('J');
+   public static final Dimension LUMINOUS_INTENSITY = valueOf('J');
 
 
    /**
-    * Holds the pseudo unit associated to this dimension.
+    * Holds the power exponent of each base dimension.
     */
-   private final Unit<?> pseudoUnit;
+   private final int[] pow;
 
+   /**
+    * Holds the root exponent of each base dimension (always positive).
+    */
+   private final int[] root;
 
    /**
-    * Returns the physical dimension having the specified symbol.
-    *
-    * @param symbol the associated symbol.
+    * Holds the hashcode (optimization).
     */
-   public Dimension(char symbol)
+   private final int hashCode;
+
+
+   private Dimension(int[] pow, int[] root, int hashCode)
    {
-      pseudoUnit = new BaseUnit("[" + symbol + ']', NONE);
+      this.pow = pow;
+      this.root = root;
+      this.hashCode = hashCode;
    }
 
+
    /**
-    * Constructor from pseudo-unit (not visible).
+    * Returns the base dimension having the specified symbol.
     *
-    * @param pseudoUnit the pseudo-unit.
+    * @param symbol the associated symbol (one of L, M, T, I, Θ, N or J).
+    * @return the canonical base dimension.
+    * @throws IllegalArgumentException if the symbol is not a base dimension.
     */
-   private Dimension(Unit<?> pseudoUnit)
+   public static Dimension valueOf(char symbol)
    {
-      this.pseudoUnit = pseudoUnit;
+      for(int i = 0; i < SYMBOLS.length; i++) {
+         if(SYMBOLS[i] == symbol) {
+            Key probe = unitRoots(probe());
+            probe.pow[i] = 1;
+            return intern(probe);
+         }
+      }
+      throw new IllegalArgumentException("Unknown base dimension: " + symbol);
    }
 
 
@@ -100,7 +141,14 @@ public class Dimension {
     */
    public Dimension multiply(Dimension that)
    {
-      return new Dimension(this.pseudoUnit.multiply(that.pseudoUnit));
+      if(this == NONE) return that;
+      if(that == NONE) return this;
+      Key probe = probe();
+      for(int i = 0; i < SYMBOLS.length; i++) {
+         probe.pow[i] = (this.pow[i] * that.root[i]) + (that.pow[i] * this.root[i]);
+         probe.root[i] = this.root[i] * that.root[i];
+      }
+      return intern(probe);
    }
 
    /**
@@ -123,7 +171,14 @@ public class Dimension {
     */
    public final Dimension pow(int n)
    {
-      return new Dimension(this.pseudoUnit.pow(n));
+      if(n == 1 || this == NONE) return this;
+      if(n == 0) return NONE;
+      Key probe = probe();
+      for(int i = 0; i < SYMBOLS.length; i++) {
+         probe.pow[i] = this.pow[i] * n;
+         probe.root[i] = this.root[i];
+      }
+      return intern(probe);
    }
 
    /**
@@ -135,27 +190,131 @@ public class Dimension {
     */
    public final Dimension root(int n)
    {
-      return new Dimension(this.pseudoUnit.root(n));
+      if(n == 0) throw new ArithmeticException("Root's order of zero");
+      if(n == 1 || this == NONE) return this;
+      Key probe = probe();
+      for(int i = 0; i < SYMBOLS.length; i++) {
+         probe.pow[i] = (n < 0) ? -this.pow[i] : this.pow[i];
+         probe.root[i] = this.root[i] * Math.abs(n);
+      }
+      return intern(probe);
    }
 
 
    @Override
    public boolean equals(Object that)
    {
-      return this == that || (that instanceof Dimension) && pseudoUnit.equals(((Dimension) that).pseudoUnit);
+      return this == that; // Instances are canonical.
    }
 
    @Override
    public int hashCode()
    {
-      return pseudoUnit.hashCode();
+      return hashCode;
    }
 
    @Override
    public String toString()
    {
-      return pseudoUnit.toString();
+      StringBuilder buf = new StringBuilder();
+      for(int i = 0; i < SYMBOLS.length; i++) {
+         if(pow[i] == 0) continue;
+         if(buf.length() > 0) buf.append('·');
+         buf.append('[').append(SYMBOLS[i]).append(']');
+         if(pow[i] != 1 || root[i] != 1) {
+            buf.append('^').append(pow[i]);
+            if(root[i] != 1) buf.append('/').append(root[i]);
+         }
+      }
+      return (buf.length() == 0) ? "1" : buf.toString();
+   }
+
+
+
+
+
+   /**
+    * Returns the canonical dimension for the exponents held by the specified probe
+    * of the current thread, reducing each rational exponent to its simplest form
+    * first. The probe is copied only if there is no such dimension yet.
+    */
+   private static Dimension intern(Key probe)
+   {
+      int[] pow = probe.pow;
+      int[] root = probe.root;
+      for(int i = 0; i < pow.length; i++) {
+         if(pow[i] == 0) {
+            root[i] = 1;
+         } else {
+            int gcd = gcd(Math.abs(pow[i]), root[i]);
+            pow[i] /= gcd;
+            root[i] /= gcd;
+         }
+      }
+      probe.rehash();
+      Dimension dimension = INTERNED.get(probe);
+      if(dimension == null) {
+         Key key = new Key(pow.clone(), root.clone());
+         dimension = new Dimension(key.pow, key.root, key.hashCode);
+         Dimension previous = INTERNED.putIfAbsent(key, dimension);
+         if(previous != null) dimension = previous;
+      }
+      return dimension;
+   }
+
+   private static Key probe()
+   {
+      return PROBE.get();
+   }
+
+   private static Key unitRoots(Key probe)
+   {
+      Arrays.fill(probe.pow, 0);
+      Arrays.fill(probe.root, 1);
+      return probe;
+   }
+
+   private static int gcd(int m, int n)
+   {
+      return (n == 0) ? m : gcd(n, m % n);
    }
 
 
+   /**
+    * Structural key of the intern table. Keys in the table are never modified,
+    * probes are refilled and {@link #rehash() rehashed} for each lookup.
+    */
+   private static final class Key {
+
+      private final int[] pow;
+      private final int[] root;
+      private int hashCode;
+
+      private Key(int[] pow, int[] root)
+      {
+         this.pow = pow;
+         this.root = root;
+         rehash();
+      }
+
+      private void rehash()
+      {
+         this.hashCode = 31 * Arrays.hashCode(pow) + Arrays.hashCode(root);
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if(!(obj instanceof Key)) return false;
+         Key that = (Key) obj;
+         return Arrays.equals(pow, that.pow) && Arrays.equals(root, that.root);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hashCode;
+      }
+   }
+
 }
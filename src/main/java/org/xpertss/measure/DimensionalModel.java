@@ -0,0 +1,151 @@
+package org.xpertss.measure;
+
+import xpertss.unit.types.AlternateUnit;
+import xpertss.unit.types.BaseUnit;
+import xpertss.unit.types.ProductUnit;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Represents the physical model used for dimensional analysis.
+ * <p/>
+ * In principle, dimensions of physical quantities could be defined as "fundamental"
+ * (such as momentum or energy or electric current) making such quantities uncommensurate
+ * (not comparable). Modern physics, however, allows for these dimensions to be related
+ * to one another, the model defining how a fundamental dimension maps onto the others.
+ * <p/>
+ * {@link Unit#getConverterTo(Unit)} relies on the current model to convert between
+ * units that have different system units but compatible dimensions. The transform of
+ * each fundamental dimension is computed once and kept for the life of the model.
+ *
+ * @see <a href="http://en.wikipedia.org/wiki/Dimensional_analysis">Wikipedia:
+ * Dimensional Analysis</a>
+ */
+public abstract class DimensionalModel {
+
+   /**
+    * The standard model. Every fundamental dimension is independent of the others
+    * and so its transform is the identity.
+    */
+   public static final DimensionalModel STANDARD = new Standard();
+
+
+   private static volatile DimensionalModel current = STANDARD;
+
+
+   /**
+    * Holds the transforms already computed for fundamental dimensions.
+    */
+   private final ConcurrentMap<Dimension, UnitConverter> transforms = new ConcurrentHashMap<>();
+
+
+   /**
+    * Default constructor.
+    */
+   protected DimensionalModel() { }
+
+
+   /**
+    * Returns the model used for dimensional analysis.
+    *
+    * @return the current dimensional model.
+    */
+   public static DimensionalModel getCurrent()
+   {
+      return current;
+   }
+
+   /**
+    * Sets the model used for dimensional analysis. Cached converters are
+    * discarded as they may have been derived from the previous model.
+    *
+    * @param model the new dimensional model.
+    */
+   public static void setCurrent(DimensionalModel model)
+   {
+      current = Objects.requireNonNull(model, "model");
+      ConverterCache.getDefault().clear();
+   }
+
+
+   /**
+    * Returns the transform of the specified fundamental dimension. The
+    * transform is computed the first time it is requested and cached.
+    *
+    * @param dimension the fundamental dimension.
+    * @return the dimensional transform converter.
+    */
+   public final UnitConverter getTransform(Dimension dimension)
+   {
+      UnitConverter transform = transforms.get(dimension);
+      if(transform == null) {
+         transform = Objects.requireNonNull(computeTransform(dimension), "transform");
+         UnitConverter previous = transforms.putIfAbsent(dimension, transform);
+         if(previous != null) transform = previous;
+      }
+      return transform;
+   }
+
+   /**
+    * Returns the transform of the specified system unit. The result is the
+    * product of the transforms of the fundamental dimensions of the base units
+    * from which the system unit is built.
+    *
+    * @param systemUnit the system unit.
+    * @return the dimensional transform converter.
+    * @throws UnconvertibleException if the unit holds a base unit with a
+    *                                fractional exponent.
+    */
+   public final UnitConverter getTransform(Unit<?> systemUnit)
+   {
+      if(systemUnit instanceof BaseUnit) {
+         return getTransform(systemUnit.getDimension());
+      }
+      if(systemUnit instanceof AlternateUnit) {
+         return getTransform(((AlternateUnit<?>) systemUnit).getParentUnit());
+      }
+      ProductUnit<?> productUnit = (ProductUnit<?>) systemUnit;
+      UnitConverter converter = UnitConverter.IDENTITY;
+      for(int i = 0; i < productUnit.getUnitCount(); i++) {
+         UnitConverter cvtr = getTransform(productUnit.getUnit(i).getSystemUnit());
+         if(cvtr.isIdentity()) continue;
+         if(productUnit.getUnitRoot(i) != 1)
+            throw new UnconvertibleException(productUnit.getUnit(i) + " holds a base unit with fractional exponent");
+         int pow = productUnit.getUnitPow(i);
+         if(pow < 0) { // Negative power.
+            pow = -pow;
+            cvtr = cvtr.inverse();
+         }
+         for(int j = 0; j < pow; j++) {
+            converter = converter.concatenate(cvtr);
+         }
+      }
+      return converter;
+   }
+
+
+   /**
+    * Computes the transform of the specified fundamental dimension. Called at
+    * most once per dimension in the absence of contention.
+    *
+    * @param dimension the fundamental dimension.
+    * @return the dimensional transform converter (never {@code null}).
+    */
+   protected abstract UnitConverter computeTransform(Dimension dimension);
+
+
+
+
+   private static final class Standard extends DimensionalModel {
+
+      @Override
+      protected UnitConverter computeTransform(Dimension dimension)
+      {
+         return UnitConverter.IDENTITY;
+      }
+
+   }
+
+}
@@ -1,6 +1,7 @@
 package org.xpertss.measure;
 
 import xpertss.unit.converters.AddConverter;
+import xpertss.unit.converters.AffineConverter;
 import xpertss.unit.converters.DivideConverter;
 import xpertss.unit.converters.MultiplyConverter;
 import xpertss.unit.converters.RationalConverter;
@@ -191,6 +192,13 @@ public abstract class Unit<Q extends Quantity<Q>> {
 
    /**
     * Returns a converter of numeric values from this unit to another unit of same type.
+    * <p/>
+    * Units with different system units but compatible dimensions are converted
+    * using the transforms of the {@linkplain DimensionalModel#getCurrent() current
+    * dimensional model}.
+    * <p/>
+    * Converters are kept in the {@link ConverterCache#getDefault() default converter
+    * cache} so repeated requests for the same pair of units are a single lookup.
     *
     * @param that the unit of same type to which to convert the numeric values.
     * @return the converter from this unit to {@code that} unit.
@@ -199,15 +207,26 @@ public abstract class Unit<Q extends Quantity<Q>> {
    public final UnitConverter getConverterTo(Unit<?> that)
       throws UnconvertibleException
    {
-
       if((this == that) || this.equals(that)) return UnitConverter.IDENTITY; // Shortcut.
+      ConverterCache cache = ConverterCache.getDefault();
+      UnitConverter converter = cache.get(this, that);
+      if(converter == null) {
+         converter = computeConverterTo(that);
+         if(converter != null) cache.put(this, that, converter);
+      }
+      return converter;
+   }
+
+   private UnitConverter computeConverterTo(Unit<?> that)
+      throws UnconvertibleException
+   {
       Unit<?> thisSystemUnit = this.getSystemUnit();
       Unit<?> thatSystemUnit = that.getSystemUnit();
 
       if(thisSystemUnit.equals(thatSystemUnit)) {
          UnitConverter thisToSI = this.toSystemUnit();
          UnitConverter thatToSI = that.getConverterTo(thatSystemUnit);
-         return thatToSI.inverse().concatenate(thisToSI);
+         return AffineConverter.normalize(thatToSI.inverse().concatenate(thisToSI));
       }
 
 
@@ -216,8 +235,10 @@ public abstract class Unit<Q extends Quantity<Q>> {
          throw new UnconvertibleException(this + " is not compatible with " + that);
       }
 
-      // TODO Must impl the dimensional transform.. Two different Impls between old/new code
-      return null;
+      DimensionalModel model = DimensionalModel.getCurrent();
+      UnitConverter thisTransform = model.getTransform(thisSystemUnit).concatenate(this.toSystemUnit());
+      UnitConverter thatTransform = model.getTransform(thatSystemUnit).concatenate(that.toSystemUnit());
+      return AffineConverter.normalize(thatTransform.inverse().concatenate(thisTransform));
 
    }
 
@@ -1,6 +1,9 @@
 package org.xpertss.measure;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A converter of numeric values between different units.
@@ -77,7 +80,142 @@ public abstract class UnitConverter {
     */
    public abstract BigDecimal convert(BigDecimal value);
 
-   // TODO Do we want convert(long) and convert(BigInteger) here as well
+   /**
+    * Converts a double value.
+    * <p/>
+    * This is a fast path for callers that only require double precision. Unlike
+    * {@link #convert(BigDecimal)} it is subject to the rounding rules of IEEE-754
+    * arithmetic. The default implementation delegates to the decimal conversion,
+    * subclasses are expected to override it with primitive arithmetic.
+    *
+    * @param value the numeric value to convert.
+    * @return the double value after conversion.
+    */
+   public double convert(double value)
+   {
+      return convert(BigDecimal.valueOf(value)).doubleValue();
+   }
+
+   /**
+    * Converts a long value to a double value.
+    *
+    * @param value the numeric value to convert.
+    * @return the double value after conversion.
+    * @see #convert(double)
+    */
+   public double convert(long value)
+   {
+      return convert((double) value);
+   }
+
+   // TODO Do we want convert(BigInteger) here as well
+
+
+   /**
+    * Converts a range of double values. Element {@code sourceOffset + i} of the
+    * source array is converted into element {@code targetOffset + i} of the
+    * target array for every {@code i} less than {@code length}.
+    * <p/>
+    * The source and target may be the same array, in which case the values are
+    * converted in place provided both offsets are equal. Any other overlap of the
+    * two ranges yields unspecified results.
+    *
+    * @param source the values to convert.
+    * @param sourceOffset the index of the first value to convert.
+    * @param target the array receiving the converted values.
+    * @param targetOffset the index at which to store the first converted value.
+    * @param length the number of values to convert.
+    * @throws IndexOutOfBoundsException if either range falls outside its array.
+    */
+   public final void convert(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      checkRange(source.length, sourceOffset, length);
+      checkRange(target.length, targetOffset, length);
+      convertArray(source, sourceOffset, target, targetOffset, length);
+   }
+
+   /**
+    * Converts a range of long values into a range of double values.
+    *
+    * @param source the values to convert.
+    * @param sourceOffset the index of the first value to convert.
+    * @param target the array receiving the converted values.
+    * @param targetOffset the index at which to store the first converted value.
+    * @param length the number of values to convert.
+    * @throws IndexOutOfBoundsException if either range falls outside its array.
+    * @see #convert(double[], int, double[], int, int)
+    */
+   public final void convert(long[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      checkRange(source.length, sourceOffset, length);
+      checkRange(target.length, targetOffset, length);
+      convertArray(source, sourceOffset, target, targetOffset, length);
+   }
+
+   /**
+    * Converts a range of decimal values.
+    *
+    * @param source the values to convert.
+    * @param sourceOffset the index of the first value to convert.
+    * @param target the array receiving the converted values.
+    * @param targetOffset the index at which to store the first converted value.
+    * @param length the number of values to convert.
+    * @throws IndexOutOfBoundsException if either range falls outside its array.
+    * @see #convert(double[], int, double[], int, int)
+    */
+   public final void convert(BigDecimal[] source, int sourceOffset, BigDecimal[] target, int targetOffset, int length)
+   {
+      checkRange(source.length, sourceOffset, length);
+      checkRange(target.length, targetOffset, length);
+      convertArray(source, sourceOffset, target, targetOffset, length);
+   }
+
+
+   /**
+    * Converts a range of double values once the ranges have been validated.
+    * Subclasses should override this with a tight loop over their own
+    * arithmetic so the per batch cost of dispatch is paid only once.
+    */
+   protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = convert(source[sourceOffset + i]);
+      }
+   }
+
+   /**
+    * Converts a range of long values once the ranges have been validated.
+    */
+   protected void convertArray(long[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = convert(source[sourceOffset + i]);
+      }
+   }
+
+   /**
+    * Converts a range of decimal values once the ranges have been validated.
+    */
+   protected void convertArray(BigDecimal[] source, int sourceOffset, BigDecimal[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = convert(source[sourceOffset + i]);
+      }
+   }
+
+   /**
+    * Returns the steps of fundamental converters making up this converter, or
+    * {@code this} if the converter is a fundamental converter. Steps are listed
+    * left to right, that is in the reverse of the order in which they are applied.
+    * For example {@code c1.concatenate(c2).getConversionSteps()} returns
+    * {@code c1, c2}.
+    *
+    * @return the list of fundamental converters which concatenated make up this converter.
+    */
+   public List<UnitConverter> getConversionSteps()
+   {
+      return Collections.singletonList(this);
+   }
 
    /**
     * Concatenates this converter with another converter. The resulting
@@ -96,6 +234,14 @@ public abstract class UnitConverter {
 
 
 
+   private static void checkRange(int arrayLength, int offset, int length)
+   {
+      if(offset < 0 || length < 0 || offset > arrayLength - length)
+         throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + arrayLength);
+   }
+
+
+
    /**
     * This class represents the identity converter (singleton).
     */
@@ -120,6 +266,26 @@ public abstract class UnitConverter {
          return value;
       }
 
+      @Override
+      public double convert(double value)
+      {
+         return value;
+      }
+
+      @Override
+      protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+      {
+         if(source != target || sourceOffset != targetOffset)
+            System.arraycopy(source, sourceOffset, target, targetOffset, length);
+      }
+
+      @Override
+      protected void convertArray(BigDecimal[] source, int sourceOffset, BigDecimal[] target, int targetOffset, int length)
+      {
+         if(source != target || sourceOffset != targetOffset)
+            System.arraycopy(source, sourceOffset, target, targetOffset, length);
+      }
+
       @Override
       public UnitConverter concatenate(UnitConverter converter)
       {
@@ -205,6 +371,44 @@ public abstract class UnitConverter {
          return left.convert(right.convert(value));
       }
 
+      @Override
+      public double convert(double value)
+      {
+         return left.convert(right.convert(value));
+      }
+
+      @Override
+      protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+      {
+         right.convertArray(source, sourceOffset, target, targetOffset, length);
+         left.convertArray(target, targetOffset, target, targetOffset, length);
+      }
+
+      @Override
+      protected void convertArray(long[] source, int sourceOffset, double[] target, int targetOffset, int length)
+      {
+         right.convertArray(source, sourceOffset, target, targetOffset, length);
+         left.convertArray(target, targetOffset, target, targetOffset, length);
+      }
+
+      @Override
+      protected void convertArray(BigDecimal[] source, int sourceOffset, BigDecimal[] target, int targetOffset, int length)
+      {
+         right.convertArray(source, sourceOffset, target, targetOffset, length);
+         left.convertArray(target, targetOffset, target, targetOffset, length);
+      }
+
+      @Override
+      public List<UnitConverter> getConversionSteps()
+      {
+         List<UnitConverter> leftSteps = left.getConversionSteps();
+         List<UnitConverter> rightSteps = right.getConversionSteps();
+         List<UnitConverter> steps = new ArrayList<>(leftSteps.size() + rightSteps.size());
+         steps.addAll(leftSteps);
+         steps.addAll(rightSteps);
+         return steps;
+      }
+
       @Override
       public boolean equals(Object cvtr)
       {
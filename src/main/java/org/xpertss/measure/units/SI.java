@@ -3,6 +3,7 @@ package org.xpertss.measure.units;
 import org.xpertss.measure.quantity.*;
 import org.xpertss.measure.spi.SystemOfUnits;
 import xpertss.unit.converters.AddConverter;
+import xpertss.unit.converters.LogConverter;
 import xpertss.unit.converters.MultiplyConverter;
 import xpertss.unit.converters.PiMultiplierConverter;
 import xpertss.unit.converters.RationalConverter;
@@ -495,13 +496,13 @@ public final class SI implements SystemOfUnits {
     * it has not been adopted by the General Conference on Weights and Measures
     * (CGPM, Conférence Générale des Poids et Mesures) and is thus not an SI unit.
     */
-   // TODO public static final Unit<Dimensionless> NEPER = new TransformedUnit<>(ONE, new LogConverter(MathLib.E).inverse());
+   public static final Unit<Dimensionless> NEPER = new TransformedUnit<>(ONE, new LogConverter(Math.E).inverse());
 
    /**
     * A dimensionless unit accepted for use with SI units (standard name <code>B</code>).
     * The bel is most commonly used with the SI prefix deci: 1 dB = 0.1 B
     */
-   // TODO public static final Unit<Dimensionless> BEL = new TransformedUnit<>(ONE, new LogConverter(10).inverse());
+   public static final Unit<Dimensionless> BEL = new TransformedUnit<>(ONE, new LogConverter(10).inverse());
 
    /**
     * An energy unit accepted for use with SI units (standard name <code>eV</code>).
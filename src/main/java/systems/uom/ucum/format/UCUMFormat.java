@@ -29,7 +29,6 @@
  */
 package systems.uom.ucum.format;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.text.ParsePosition;
 import java.util.Arrays;
@@ -51,13 +50,12 @@ import static tech.units.indriya.AbstractUnit.ONE;
 
 import si.uom.SI;
 import systems.uom.ucum.format.UCUMFormatHelper.SymbolProvider;
-import systems.uom.ucum.internal.format.UCUMFormatParser;
+import systems.uom.ucum.internal.format.UCUMUnitParser;
 import tech.units.indriya.AbstractUnit;
 import tech.units.indriya.format.AbstractUnitFormat;
 import tech.units.indriya.format.SymbolMap;
-import tech.units.indriya.format.TokenException;
-import tech.units.indriya.format.TokenMgrError;
 import tech.units.indriya.function.MultiplyConverter;
+import tech.units.indriya.internal.format.UnitFormatCache;
 import tech.units.indriya.unit.TransformedUnit;
 
 /**
@@ -74,7 +72,7 @@ import tech.units.indriya.unit.TransformedUnit;
  * <p>
  * As of revision 1.16, the BNF in the UCUM standard contains an <a href="http://unitsofmeasure.org/ticket/4">error</a>. I've attempted to work around
  * the problem by modifying the BNF productions for &lt;Term&gt;. Once the error in the standard is corrected, it may be necessary to modify the
- * productions in the UCUMFormatParser.jj file to conform to the standard.
+ * productions in the UCUMUnitParser to conform to the standard.
  * </p>
  *
  * @author <a href="mailto:eric-r@northwestern.edu">Eric Russell</a>
@@ -105,9 +103,9 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
     public static UCUMFormat getInstance(Variant variant) {
         switch (variant) {
             case CASE_INSENSITIVE:
-                return Parsing.DEFAULT_CI;
+                return Parsing.Defaults.DEFAULT_CI;
             case CASE_SENSITIVE:
-                return Parsing.DEFAULT_CS;
+                return Parsing.Defaults.DEFAULT_CS;
             case PRINT:
                 return Print.DEFAULT;
             default:
@@ -428,42 +426,56 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
      */
     private static final class Parsing extends UCUMFormat {
         // private static final long serialVersionUID = -922531801940132715L;
-        private static final SymbolMap CASE_SENSITIVE_SYMBOLS = SymbolMap
-                .of(ResourceBundle.getBundle(BUNDLE_BASE + "_CS", new ResourceBundle.Control() {
-                    @Override
-                    public List<Locale> getCandidateLocales(String baseName, Locale locale) {
-                        if (baseName == null)
-                            throw new NullPointerException();
-                        if (locale.equals(new Locale("", "CS"))) {
-                            return Arrays.asList(locale, Locale.ROOT);
+        /**
+         * Holds the bundle-backed default instances, so that a {@code Parsing} built over a caller-supplied {@link SymbolMap} does not load the
+         * UCUM resource bundles.
+         */
+        private static final class Defaults {
+            private static final SymbolMap CASE_SENSITIVE_SYMBOLS = SymbolMap
+                    .of(ResourceBundle.getBundle(BUNDLE_BASE + "_CS", new ResourceBundle.Control() {
+                        @Override
+                        public List<Locale> getCandidateLocales(String baseName, Locale locale) {
+                            if (baseName == null)
+                                throw new NullPointerException();
+                            if (locale.equals(new Locale("", "CS"))) {
+                                return Arrays.asList(locale, Locale.ROOT);
+                            }
+                            return super.getCandidateLocales(baseName, locale);
                         }
-                        return super.getCandidateLocales(baseName, locale);
-                    }
-                }));
-        private static final SymbolMap CASE_INSENSITIVE_SYMBOLS = SymbolMap
-                .of(ResourceBundle.getBundle(BUNDLE_BASE + "_CI", new ResourceBundle.Control() {
-                    @Override
-                    public List<Locale> getCandidateLocales(String baseName, Locale locale) {
-                        if (baseName == null)
-                            throw new NullPointerException();
-                        if (locale.equals(new Locale("", "CI"))) {
-                            return Arrays.asList(locale, Locale.ROOT);
-                        } else if (locale.equals(Locale.GERMANY)) {
-                            // TODO why GERMANY?
-                            return Arrays.asList(locale,
-                                    // no Locale.GERMAN here
-                                    Locale.ROOT);
+                    }));
+            private static final SymbolMap CASE_INSENSITIVE_SYMBOLS = SymbolMap
+                    .of(ResourceBundle.getBundle(BUNDLE_BASE + "_CI", new ResourceBundle.Control() {
+                        @Override
+                        public List<Locale> getCandidateLocales(String baseName, Locale locale) {
+                            if (baseName == null)
+                                throw new NullPointerException();
+                            if (locale.equals(new Locale("", "CI"))) {
+                                return Arrays.asList(locale, Locale.ROOT);
+                            } else if (locale.equals(Locale.GERMANY)) {
+                                // TODO why GERMANY?
+                                return Arrays.asList(locale,
+                                        // no Locale.GERMAN here
+                                        Locale.ROOT);
+                            }
+                            return super.getCandidateLocales(baseName, locale);
                         }
-                        return super.getCandidateLocales(baseName, locale);
-                    }
-                }));
-        private static final Parsing DEFAULT_CS = new Parsing(CASE_SENSITIVE_SYMBOLS, true);
-        private static final Parsing DEFAULT_CI = new Parsing(CASE_INSENSITIVE_SYMBOLS, false);
+                    }));
+            private static final Parsing DEFAULT_CS = new Parsing(CASE_SENSITIVE_SYMBOLS, true);
+            private static final Parsing DEFAULT_CI = new Parsing(CASE_INSENSITIVE_SYMBOLS, false);
+        }
+
         private final boolean caseSensitive;
+        private final UCUMUnitParser parser;
+
+        /**
+         * Holds recently parsed units, keyed by their (trimmed) source.
+         */
+        private final UnitFormatCache<String, Unit<?>> parseCache = new UnitFormatCache<>(UnitFormatCache.DEFAULT_CAPACITY, false);
 
         public Parsing(SymbolMap symbols, boolean caseSensitive) {
             super(symbols);
             this.caseSensitive = caseSensitive;
+            this.parser = new UCUMUnitParser(symbols, caseSensitive);
         }
 
         @Override
@@ -474,29 +486,26 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
             if (end <= start) {
                 return ONE;
             }
-            String source = csq.subSequence(start, end).toString().trim();
+            final String source = csq.subSequence(start, end).toString().trim();
             if (source.length() == 0) {
                 return ONE;
             }
-            if (!caseSensitive) {
-                source = source.toUpperCase();
-            }
-            UCUMFormatParser parser = new UCUMFormatParser(symbolMap, new ByteArrayInputStream(source.getBytes()));
-            try {
-                Unit<?> result = parser.parseUnit();
-                cursor.setIndex(end);
-                return result;
-            } catch (TokenException e) {
-                if (e.getToken() != null) {
-                    cursor.setErrorIndex(start + e.getToken().endColumn);
-                } else {
+            final int generation = symbolMap.getGeneration();
+            Unit<?> result = parseCache.get(source, generation);
+            if (result == null) {
+                try {
+                    result = parser.parse(source, 0, source.length());
+                } catch (MeasurementParseException e) {
+                    cursor.setErrorIndex(start + e.getPosition());
+                    throw e;
+                } catch (IllegalArgumentException e) {
                     cursor.setErrorIndex(start);
+                    throw e;
                 }
-                throw new MeasurementParseException(e);
-            } catch (TokenMgrError e) {
-                cursor.setErrorIndex(start);
-                throw new IllegalArgumentException(e.getMessage());
+                parseCache.put(source, result, generation);
             }
+            cursor.setIndex(end);
+            return result;
         }
 
         @Override
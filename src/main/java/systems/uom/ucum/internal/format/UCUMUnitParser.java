@@ -0,0 +1,367 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2024, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.internal.format;
+
+import static tech.units.indriya.AbstractUnit.ONE;
+
+import java.util.Locale;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.function.MultiplyConverter;
+
+/**
+ * <p>
+ * Hand-written parser for {@link Unit}s according to the <a href="http://unitsofmeasure.org">Uniform Code for CommonUnits of Measure</a>,
+ * accepting the same grammar as {@link UCUMFormatParser}:
+ * </p>
+ * <pre>
+ * Term        := Component ( ( '.' | '/' ) Component )*
+ * Component   := Annotatable ANNOTATION? | ANNOTATION | FACTOR | '/' Component | '(' Term ')'
+ * Annotatable := ATOM ( SIGN? FACTOR )?
+ * </pre>
+ * <p>
+ * Tokens are read directly from the given {@link CharSequence}, without intermediate streams or token objects. Instances hold no parsing state,
+ * hence are thread-safe as long as the {@link SymbolMap} is not modified concurrently.
+ * </p>
+ *
+ * @see <a href="http://unitsofmeasure.org">UCUM</a>
+ * @since 2.2
+ */
+public final class UCUMUnitParser {
+
+    private final SymbolMap symbols;
+    private final boolean caseSensitive;
+
+    /**
+     * @param symbols
+     *            the symbols to resolve atoms with.
+     * @param caseSensitive
+     *            if {@code false}, atoms and annotations are upper-cased before being resolved, as for the case insensitive variant.
+     */
+    public UCUMUnitParser(SymbolMap symbols, boolean caseSensitive) {
+        this.symbols = symbols;
+        this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * Parses the characters from {@code start} (inclusive) to {@code end} (exclusive) as a whole.
+     *
+     * @param csq
+     *            the characters to parse.
+     * @param start
+     *            the index of the first character.
+     * @param end
+     *            the index after the last character.
+     * @return the parsed unit.
+     * @throws MeasurementParseException
+     *             if the characters do not conform to the grammar, or contain unknown atoms.
+     * @throws IllegalArgumentException
+     *             if the characters contain a lexical error.
+     */
+    @SuppressWarnings("rawtypes")
+    public Unit<?> parse(CharSequence csq, int start, int end) throws MeasurementParseException {
+        final Lexer lexer = new Lexer(csq, start, end);
+        final Unit result = term(lexer);
+        if (lexer.kind != EOF) {
+            throw unexpected(lexer);
+        }
+        return result;
+    }
+
+    // -- PRODUCTIONS
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Unit term(Lexer lexer) {
+        Unit result = component(lexer);
+        while (true) {
+            switch (lexer.kind) {
+                case DOT:
+                    lexer.next();
+                    result = result.multiply(component(lexer));
+                    break;
+                case SOLIDUS:
+                    lexer.next();
+                    result = result.divide(component(lexer));
+                    break;
+                default:
+                    return result;
+            }
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Unit component(Lexer lexer) {
+        final Unit result;
+        switch (lexer.kind) {
+            case ATOM:
+                result = annotatable(lexer);
+                if (lexer.kind == ANNOTATION) {
+                    return annotate(result, lexer);
+                }
+                return result;
+            case ANNOTATION:
+                return annotate(ONE, lexer);
+            case FACTOR:
+                final long factor = Long.parseLong(lexer.image());
+                lexer.next();
+                return ONE.multiply(factor);
+            case SOLIDUS:
+                lexer.next();
+                return ONE.divide(component(lexer));
+            case OPEN_PAREN:
+                lexer.next();
+                result = term(lexer);
+                if (lexer.kind != CLOSE_PAREN) {
+                    throw unexpected(lexer);
+                }
+                lexer.next();
+                return result;
+            default:
+                throw unexpected(lexer);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Unit annotatable(Lexer lexer) {
+        final Unit result = simpleUnit(lexer);
+        boolean negative = false;
+        if (lexer.kind == SIGN) {
+            negative = lexer.charAt(lexer.tokenStart) == '-';
+            lexer.next();
+            if (lexer.kind != FACTOR) {
+                throw unexpected(lexer);
+            }
+        }
+        if (lexer.kind != FACTOR) {
+            return result;
+        }
+        final int exponent = Integer.parseInt(lexer.image());
+        lexer.next();
+        return result.pow(negative ? -exponent : exponent);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Unit simpleUnit(Lexer lexer) {
+        final String symbol = caseSensitive ? lexer.image() : lexer.image().toUpperCase(Locale.ROOT);
+        Unit unit = symbols.getUnit(symbol);
+        if (unit == null) {
+            final Prefix prefix = symbols.getPrefix(symbol);
+            if (prefix != null) {
+                unit = symbols.getUnit(symbol.substring(symbols.getSymbol(prefix).length()));
+                if (unit != null) {
+                    unit = unit.transform(MultiplyConverter.ofPrefix(prefix));
+                }
+            }
+            if (unit == null) {
+                throw new MeasurementParseException("Unknown unit symbol " + symbol, lexer.csq, lexer.tokenStart);
+            }
+        }
+        lexer.next();
+        return unit;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Unit annotate(Unit unit, Lexer lexer) {
+        String annotation = lexer.image();
+        annotation = annotation.substring(1, annotation.length() - 1);
+        if (!caseSensitive) {
+            annotation = annotation.toUpperCase(Locale.ROOT);
+        }
+        lexer.next();
+        return ((AbstractUnit) unit).annotate(annotation);
+    }
+
+    private static MeasurementParseException unexpected(Lexer lexer) {
+        final String encountered = lexer.kind == EOF ? "end of input" : "\"" + lexer.image() + "\"";
+        return new MeasurementParseException("Unexpected " + encountered, lexer.csq, lexer.tokenEnd);
+    }
+
+    // -- LEXER
+
+    private static final int EOF = 0;
+    private static final int ANNOTATION = 1;
+    private static final int FACTOR = 2;
+    private static final int SIGN = 3;
+    private static final int DOT = 4;
+    private static final int SOLIDUS = 5;
+    private static final int ATOM = 6;
+    private static final int OPEN_PAREN = 7;
+    private static final int CLOSE_PAREN = 8;
+
+    /**
+     * Splits the characters into tokens, holding the kind and bounds of the current token only. Like the lexer generated from the UCUM grammar,
+     * it yields the longest match, preferring factors over atoms of equal length.
+     */
+    private static final class Lexer {
+        private final CharSequence csq;
+        private final int end;
+        private int kind;
+        private int tokenStart;
+        private int tokenEnd;
+
+        private Lexer(CharSequence csq, int start, int end) {
+            this.csq = csq;
+            this.end = end;
+            this.tokenEnd = start;
+            next();
+        }
+
+        private char charAt(int index) {
+            return csq.charAt(index);
+        }
+
+        private String image() {
+            return csq.subSequence(tokenStart, tokenEnd).toString();
+        }
+
+        private void next() {
+            tokenStart = tokenEnd;
+            if (tokenStart >= end) {
+                kind = EOF;
+                return;
+            }
+            final char c = csq.charAt(tokenStart);
+            switch (c) {
+                case '.':
+                    token(DOT, tokenStart + 1);
+                    return;
+                case '/':
+                    token(SOLIDUS, tokenStart + 1);
+                    return;
+                case '(':
+                    token(OPEN_PAREN, tokenStart + 1);
+                    return;
+                case ')':
+                    token(CLOSE_PAREN, tokenStart + 1);
+                    return;
+                case '+':
+                case '-':
+                    token(SIGN, tokenStart + 1);
+                    return;
+                case '{':
+                    int i = tokenStart + 1;
+                    while (i < end && isAnnotationChar(csq.charAt(i))) {
+                        i++;
+                    }
+                    if (i < end && csq.charAt(i) == '}') {
+                        token(ANNOTATION, i + 1);
+                        return;
+                    }
+                    throw lexicalError(i);
+                default:
+                    final int factorEnd = scan(tokenStart, CharClass.DIGIT);
+                    final int atomEnd = atomEnd();
+                    if (factorEnd > tokenStart && factorEnd >= atomEnd) {
+                        token(FACTOR, factorEnd);
+                    } else if (atomEnd > tokenStart) {
+                        token(ATOM, atomEnd);
+                    } else {
+                        throw lexicalError(tokenStart);
+                    }
+            }
+        }
+
+        private void token(int kind, int tokenEnd) {
+            this.kind = kind;
+            this.tokenEnd = tokenEnd;
+        }
+
+        /**
+         * Returns the end of the longest atom starting at the current token, or the start of the token if there is none. Atoms are either a run of
+         * atom characters ending with a terminal one, or such a run followed by a bracketed part and optionally another run ending with a terminal
+         * character.
+         */
+        private int atomEnd() {
+            final int runEnd = scan(tokenStart, CharClass.ATOM);
+            if (runEnd < end && csq.charAt(runEnd) == '[') {
+                final int escapedEnd = scan(runEnd + 1, CharClass.ESCAPED);
+                if (escapedEnd > runEnd + 1 && escapedEnd < end && csq.charAt(escapedEnd) == ']') {
+                    final int tailStart = escapedEnd + 1;
+                    return Math.max(tailStart, lastTerminalEnd(tailStart, scan(tailStart, CharClass.ATOM)));
+                }
+            }
+            return lastTerminalEnd(tokenStart, runEnd);
+        }
+
+        private int lastTerminalEnd(int from, int to) {
+            for (int i = to; i > from; i--) {
+                if (CharClass.TERMINAL.contains(csq.charAt(i - 1))) {
+                    return i;
+                }
+            }
+            return from;
+        }
+
+        private int scan(int from, CharClass charClass) {
+            int i = from;
+            while (i < end && charClass.contains(csq.charAt(i))) {
+                i++;
+            }
+            return i;
+        }
+
+        private static boolean isAnnotationChar(char c) {
+            return (c >= '!' && c <= 'z') || c == '|' || c == '~';
+        }
+
+        private IllegalArgumentException lexicalError(int index) {
+            return new IllegalArgumentException(index < end
+                    ? "Lexical error at index " + index + ". Encountered: \"" + csq.charAt(index) + "\""
+                    : "Lexical error at index " + index + ". Encountered: end of input");
+        }
+    }
+
+    /**
+     * Character classes of the UCUM grammar, all of them within printable ASCII.
+     */
+    private static enum CharClass {
+        DIGIT("0123456789"),
+        ATOM("!#$%&'*,0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ\\^_`abcdefghijklmnopqrstuvwxyz|~"),
+        TERMINAL("!#$%&'*,:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ\\^_`abcdefghijklmnopqrstuvwxyz|~"),
+        ESCAPED("!\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ\\^_`abcdefghijklmnopqrstuvwxyz{|}~");
+
+        private final boolean[] members = new boolean[128];
+
+        private CharClass(String chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                members[chars.charAt(i)] = true;
+            }
+        }
+
+        private boolean contains(char c) {
+            return c < 128 && members[c];
+        }
+    }
+}
@@ -53,6 +53,7 @@ import tech.units.indriya.function.Calculus;
 import tech.units.indriya.function.MultiplyConverter;
 import tech.units.indriya.function.RationalNumber;
 import tech.units.indriya.internal.function.Calculator;
+import tech.units.indriya.internal.function.ConverterCache;
 import tech.units.indriya.spi.DimensionalModel;
 import tech.units.indriya.unit.AlternateUnit;
 import tech.units.indriya.unit.AnnotatedUnit;
@@ -121,6 +122,11 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	 */
 	protected static final transient Map<String, Unit<?>> SYMBOL_TO_UNIT = new HashMap<>();
 
+	/**
+	 * Holds the converters computed by {@link #getConverterTo(Unit)} and {@link #getConverterToAny(Unit)}.
+	 */
+	private static final transient ConverterCache CONVERTER_CACHE = new ConverterCache(ConverterCache.DEFAULT_CAPACITY);
+
 	/**
 	 * Default constructor.
 	 */
@@ -323,6 +329,9 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	@SuppressWarnings("rawtypes")
 	@Override
 	public final UnitConverter getConverterToAny(Unit<?> that) throws IncommensurableException, UnconvertibleException {
+		final UnitConverter cached = CONVERTER_CACHE.get(this, that);
+		if (cached != null)
+			return cached; // only compatible pairs are ever cached
 		if (!isCompatible(that))
 			throw new IncommensurableException(this + " is not compatible with " + that);
 		AbstractUnit thatAbstr = (AbstractUnit) that; // Since both units are
@@ -334,7 +343,9 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 		Unit thatSystemUnit = thatAbstr.getSystemUnit();
 		UnitConverter thatToDimension = model.getDimensionalTransform(thatSystemUnit.getDimension())
 				.concatenate(thatAbstr.getSystemConverter());
-		return thatToDimension.inverse().concatenate(thisToDimension);
+		final UnitConverter converter = thatToDimension.inverse().concatenate(thisToDimension);
+		CONVERTER_CACHE.put(this, that, converter);
+		return converter;
 	}
 
 	@Override
@@ -416,6 +427,9 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 			if (this == that)
 				return AbstractConverter.IDENTITY;
 		}
+		final UnitConverter cached = CONVERTER_CACHE.get(this, that);
+		if (cached != null)
+			return cached;
 		Unit<Q> thisSystemUnit = this.getSystemUnit();
 		Unit<Q> thatSystemUnit = that.getSystemUnit();
 		if (!thisSystemUnit.equals(thatSystemUnit))
@@ -426,7 +440,9 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 			}
 		UnitConverter thisToSI = this.getSystemConverter();
 		UnitConverter thatToSI = that.getConverterTo(thatSystemUnit);
-		return thatToSI.inverse().concatenate(thisToSI);
+		final UnitConverter converter = thatToSI.inverse().concatenate(thisToSI);
+		CONVERTER_CACHE.put(this, that, converter);
+		return converter;
 	}
 
 	/**
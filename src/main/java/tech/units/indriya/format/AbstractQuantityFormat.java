@@ -151,10 +151,8 @@ public abstract class AbstractQuantityFormat extends Format implements QuantityF
      * @return Formatted string.
      */
     public final String format(Quantity<?> quantity) {
-      if (quantity instanceof ComparableQuantity) return format((ComparableQuantity<?>) quantity, new StringBuffer()).toString();
-
       try {
-        return (this.format(quantity, new StringBuffer())).toString();
+        return (this.format(quantity, new StringBuilder())).toString();
       } catch (IOException ex) {
         throw new MeasurementException(ex); // Should never happen.
       }
@@ -34,11 +34,10 @@ import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 
 import tech.units.indriya.AbstractUnit;
-import tech.units.indriya.internal.format.UnitFormatParser;
+import tech.units.indriya.internal.format.UnitExpressionParser;
 import tech.units.indriya.unit.AnnotatedUnit;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.text.ParsePosition;
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -187,6 +186,8 @@ public class EBNFUnitFormat extends AbstractUnitFormat {
    */
   private final transient SymbolMap symbolMap;
 
+  private final transient UnitExpressionParser parser;
+
   // ////////////////
   // Constructors //
   // ////////////////
@@ -207,6 +208,7 @@ public class EBNFUnitFormat extends AbstractUnitFormat {
    */
   private EBNFUnitFormat(SymbolMap symbols) {
     symbolMap = symbols;
+    parser = new UnitExpressionParser(symbols);
   }
 
   // //////////////////////
@@ -257,8 +259,7 @@ public class EBNFUnitFormat extends AbstractUnitFormat {
       return AbstractUnit.ONE;
     }
     try {
-      UnitFormatParser parser = new UnitFormatParser(symbolMap, new StringReader(source));
-      Unit<?> result = parser.parseUnit();
+      Unit<?> result = parser.parse(source, 0, source.length());
       if (cursor != null)
         cursor.setIndex(end);
       return result;
@@ -37,7 +37,7 @@ import javax.measure.Unit;
 import javax.measure.UnitConverter;
 import javax.measure.format.MeasurementParseException;
 import tech.units.indriya.AbstractUnit;
-import tech.units.indriya.internal.format.UnitFormatParser;
+import tech.units.indriya.internal.format.UnitExpressionParser;
 import tech.units.indriya.unit.AlternateUnit;
 import tech.units.indriya.unit.AnnotatedUnit;
 import tech.units.indriya.unit.BaseUnit;
@@ -50,7 +50,6 @@ import static tech.units.indriya.unit.Units.KILOGRAM;
 import static tech.units.indriya.unit.Units.LITRE;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.text.ParsePosition;
 import java.util.Locale;
 import java.util.Map;
@@ -202,6 +201,8 @@ public class LocalUnitFormat extends AbstractUnitFormat {
    */
   private final transient SymbolMap symbolMap;
 
+  private final transient UnitExpressionParser parser;
+
   // ////////////////
   // Constructors //
   // ////////////////
@@ -213,6 +214,7 @@ public class LocalUnitFormat extends AbstractUnitFormat {
    */
   private LocalUnitFormat(SymbolMap symbols) {
     symbolMap = symbols;
+    parser = new UnitExpressionParser(symbols);
   }
 
   ////////////////////////
@@ -266,8 +268,7 @@ public class LocalUnitFormat extends AbstractUnitFormat {
       return AbstractUnit.ONE;
     }
     try {
-      UnitFormatParser parser = new UnitFormatParser(symbolMap, new StringReader(source));
-      Unit<?> result = parser.parseUnit();
+      Unit<?> result = parser.parse(source, 0, source.length());
       cursor.setIndex(end);
       return result;
     } catch (TokenException e) {
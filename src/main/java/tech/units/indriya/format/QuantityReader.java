@@ -0,0 +1,552 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.format.UnitFormat;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Reads a stream of quantity records such as {@code "12.5 kg, 3 m/s; 0.25 km\n"}, without
+ * allocating per record.
+ * <p>
+ * Records are separated by {@code ','}, {@code ';'} or line breaks, blank records are skipped. Each
+ * record is a decimal number (optionally signed, with fraction and exponent, e.g. {@code -1.5E-3})
+ * within the range of {@code double}, optionally followed by whitespace and a unit. Records without a unit are {@link AbstractUnit#ONE
+ * dimensionless}. Numbers are parsed independent of any locale, units by the given
+ * {@link UnitFormat} ({@link SimpleUnitFormat} by default).
+ * <p>
+ * The text is read in chunks into a buffer, which records are parsed from in place. Each distinct
+ * unit text is parsed only once, then resolved by its characters. Distinct units are numbered in the
+ * order of their first occurrence, so values can be consumed as pairs of a {@code double} and a
+ * unit id, see {@link #forEachRemaining(RecordHandler)}. Since units are cached for the lifetime of
+ * a reader, changes of the labels of the unit format are not seen by a reader in use.
+ * <p>
+ * Typical usage:
+ * <pre>
+ * try (QuantityReader reader = QuantityReader.of(Files.newBufferedReader(path))) {
+ *     while (reader.next()) {
+ *         process(reader.doubleValue(), reader.getUnit());
+ *     }
+ * }
+ * </pre>
+ * Instances are not safe for use by multiple concurrent threads.
+ * 
+ * @see SimpleQuantityFormat
+ * @since 2.2
+ */
+public final class QuantityReader implements Closeable {
+
+    /**
+     * Receives the values read, together with the id of their unit.
+     * 
+     * @see QuantityReader#getUnit(int)
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        void accept(double value, int unitId);
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int INITIAL_TABLE_SIZE = 64;
+    private static final int MAX_FAST_PATH_SCALE = 22;
+    private static final long MAX_FAST_PATH_MANTISSA = 1L << 53;
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final int MAX_EXPONENT = 9999;
+
+    private static final double[] POWERS_OF_TEN = new double[MAX_FAST_PATH_SCALE + 1];
+
+    static {
+        double power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private final Reader reader;
+    private final CharBuffer charBuffer;
+    private final UnitFormat unitFormat;
+
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    /**
+     * Offset of {@code buffer[0]} within the text, for error messages.
+     */
+    private long offset;
+
+    // unit text -> unit id, open addressing with linear probing
+    private char[][] keys = new char[INITIAL_TABLE_SIZE][];
+    private int[] hashes = new int[INITIAL_TABLE_SIZE];
+    private int[] ids = new int[INITIAL_TABLE_SIZE];
+    private int keyCount;
+
+    // unit id -> unit
+    private Unit<?>[] units = new Unit<?>[8];
+    private int unitCount;
+    private final Map<Unit<?>, Integer> unitIds = new HashMap<>();
+
+    private double value;
+    private int unitId = -1;
+
+    private QuantityReader(Reader reader, CharBuffer charBuffer, UnitFormat unitFormat) {
+        this.reader = reader;
+        this.charBuffer = charBuffer;
+        this.unitFormat = Objects.requireNonNull(unitFormat);
+    }
+
+    /**
+     * Returns a reader of the quantities in the given text, parsing units with
+     * {@link SimpleUnitFormat}.
+     * 
+     * @param reader the text.
+     * @return the quantity reader.
+     */
+    public static QuantityReader of(Reader reader) {
+        return of(reader, SimpleUnitFormat.getInstance());
+    }
+
+    /**
+     * Returns a reader of the quantities in the given text, parsing units with the given format.
+     * 
+     * @param reader the text.
+     * @param unitFormat the format of units.
+     * @return the quantity reader.
+     */
+    public static QuantityReader of(Reader reader, UnitFormat unitFormat) {
+        return new QuantityReader(Objects.requireNonNull(reader), null, unitFormat);
+    }
+
+    /**
+     * Returns a reader of the quantities in the remaining characters of the given buffer, parsing
+     * units with {@link SimpleUnitFormat}. Reading advances the position of the buffer.
+     * 
+     * @param charBuffer the text.
+     * @return the quantity reader.
+     */
+    public static QuantityReader of(CharBuffer charBuffer) {
+        return of(charBuffer, SimpleUnitFormat.getInstance());
+    }
+
+    /**
+     * Returns a reader of the quantities in the remaining characters of the given buffer, parsing
+     * units with the given format. Reading advances the position of the buffer.
+     * 
+     * @param charBuffer the text.
+     * @param unitFormat the format of units.
+     * @return the quantity reader.
+     */
+    public static QuantityReader of(CharBuffer charBuffer, UnitFormat unitFormat) {
+        return new QuantityReader(null, Objects.requireNonNull(charBuffer), unitFormat);
+    }
+
+    /**
+     * Advances to the next record.
+     * 
+     * @return {@code true} if a record was read, {@code false} at the end of the text.
+     * @throws IOException if reading the text fails.
+     * @throws MeasurementParseException if the record is not a valid quantity, or its value
+     *          overflows a {@code double}.
+     */
+    public boolean next() throws IOException {
+        unitId = -1;
+        for (;;) {
+            int start = position;
+            int end = start;
+            for (;;) {
+                while (end < limit && !isRecordDelimiter(buffer[end])) {
+                    end++;
+                }
+                if (end < limit || endOfInput) {
+                    break;
+                }
+                // the record continues beyond the buffer
+                end -= start;
+                compact(start);
+                start = 0;
+                fill();
+            }
+            if (end < limit) {
+                position = end + 1;
+            } else if (start == end) {
+                position = end;
+                return false; // end of input
+            } else {
+                position = end;
+            }
+            if (parseRecord(start, end)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reads all remaining records, passing each to the given handler.
+     * 
+     * @param handler the receiver of values and unit ids.
+     * @return the number of records read.
+     * @throws IOException if reading the text fails.
+     * @throws MeasurementParseException if a record is not a valid quantity.
+     */
+    public long forEachRemaining(RecordHandler handler) throws IOException {
+        Objects.requireNonNull(handler);
+        long count = 0;
+        while (next()) {
+            handler.accept(value, unitId);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the value of the current record.
+     * 
+     * @return the value.
+     * @throws IllegalStateException if there is no current record.
+     */
+    public double doubleValue() {
+        checkRecord();
+        return value;
+    }
+
+    /**
+     * Returns the id of the unit of the current record.
+     * 
+     * @return the unit id.
+     * @throws IllegalStateException if there is no current record.
+     * @see #getUnit(int)
+     */
+    public int getUnitId() {
+        checkRecord();
+        return unitId;
+    }
+
+    /**
+     * Returns the unit of the current record.
+     * 
+     * @return the unit.
+     * @throws IllegalStateException if there is no current record.
+     */
+    public Unit<?> getUnit() {
+        checkRecord();
+        return units[unitId];
+    }
+
+    /**
+     * Returns the unit with the given id.
+     * 
+     * @param unitId the id of a unit as passed to {@link RecordHandler} or returned by 
+     *          {@link #getUnitId()}.
+     * @return the unit.
+     * @throws IndexOutOfBoundsException if no unit has been read with the given id (yet).
+     */
+    public Unit<?> getUnit(int unitId) {
+        if (unitId < 0 || unitId >= unitCount) {
+            throw new IndexOutOfBoundsException("Unknown unit id: " + unitId);
+        }
+        return units[unitId];
+    }
+
+    /**
+     * Returns the number of distinct units read so far, their ids range from {@code 0} to this 
+     * number (exclusive).
+     * 
+     * @return the number of units.
+     */
+    public int getUnitCount() {
+        return unitCount;
+    }
+
+    /**
+     * Returns the current record as a {@link Quantity}.
+     * 
+     * @return the quantity.
+     * @throws IllegalStateException if there is no current record.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Quantity<?> getQuantity() {
+        checkRecord();
+        return Quantities.getQuantity(value, (Unit) units[unitId]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    private void checkRecord() {
+        if (unitId < 0) {
+            throw new IllegalStateException("No current record");
+        }
+    }
+
+    private static boolean isRecordDelimiter(char c) {
+        return c == ',' || c == ';' || c == '\n' || c == '\r';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Discards the characters before {@code from}, growing the buffer if it is full thereafter.
+     */
+    private void compact(int from) {
+        final int remaining = limit - from;
+        if (from > 0) {
+            System.arraycopy(buffer, from, buffer, 0, remaining);
+            offset += from;
+        }
+        limit = remaining;
+        position = 0;
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        }
+    }
+
+    private void fill() throws IOException {
+        final int free = buffer.length - limit;
+        int read;
+        if (reader != null) {
+            read = reader.read(buffer, limit, free);
+        } else {
+            read = Math.min(charBuffer.remaining(), free);
+            charBuffer.get(buffer, limit, read);
+            if (read == 0) {
+                read = -1;
+            }
+        }
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /**
+     * Parses the record in {@code buffer[start, end)}.
+     * 
+     * @return {@code false} if the record is blank.
+     */
+    private boolean parseRecord(int start, int end) {
+        int i = start;
+        while (i < end && Character.isWhitespace(buffer[i])) {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        final int numberStart = i;
+        boolean negative = false;
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean exact = true;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            final char c = buffer[i];
+            if (isDigit(c)) {
+                digits++;
+                if (mantissa == 0 && c == '0') {
+                    // leading zero
+                } else if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    mantissaDigits++;
+                } else {
+                    exact = false;
+                    continue;
+                }
+                if (fraction) {
+                    scale--;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            throw parseError("Number expected", start, end, i);
+        }
+        if (i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            int j = i + 1;
+            boolean negativeExponent = false;
+            if (j < end && (buffer[j] == '-' || buffer[j] == '+')) {
+                negativeExponent = buffer[j] == '-';
+                j++;
+            }
+            // otherwise the 'e' starts the unit
+            if (j < end && isDigit(buffer[j])) {
+                int exponent = 0;
+                for (; j < end && isDigit(buffer[j]); j++) {
+                    if (exponent < MAX_EXPONENT) {
+                        exponent = exponent * 10 + (buffer[j] - '0');
+                    }
+                }
+                scale += negativeExponent ? -exponent : exponent;
+                i = j;
+            }
+        }
+        final int numberEnd = i;
+
+        if (!exact || mantissa >= MAX_FAST_PATH_MANTISSA || scale < -MAX_FAST_PATH_SCALE || scale > MAX_FAST_PATH_SCALE) {
+            value = mantissa == 0 ? (negative ? -0.0 : 0.0) : Double.parseDouble(new String(buffer, numberStart, numberEnd - numberStart));
+            if (Double.isInfinite(value)) {
+                throw parseError("Number out of range", start, end, start);
+            }
+        } else {
+            final double magnitude = scale < 0 ? mantissa / POWERS_OF_TEN[-scale] : mantissa * POWERS_OF_TEN[scale];
+            value = negative ? -magnitude : magnitude;
+        }
+
+        while (i < end && Character.isWhitespace(buffer[i])) {
+            i++;
+        }
+        int unitEnd = end;
+        while (unitEnd > i && Character.isWhitespace(buffer[unitEnd - 1])) {
+            unitEnd--;
+        }
+        if (i > numberEnd || i == unitEnd) {
+            unitId = unitIdOf(start, end, i, unitEnd);
+        } else {
+            throw parseError("Whitespace expected", start, end, i);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the id of the unit denoted by {@code buffer[from, to)}, parsing it if not seen before.
+     */
+    private int unitIdOf(int start, int end, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        final int mask = keys.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        for (char[] key; (key = keys[slot]) != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && key.length == to - from && regionMatches(key, from)) {
+                return ids[slot];
+            }
+        }
+        final char[] key = Arrays.copyOfRange(buffer, from, to);
+        final Unit<?> unit;
+        if (key.length == 0) {
+            unit = AbstractUnit.ONE;
+        } else {
+            try {
+                unit = unitFormat.parse(new String(key));
+            } catch (MeasurementParseException | IllegalArgumentException e) {
+                final MeasurementParseException error = parseError("Cannot parse unit", start, end, from);
+                error.initCause(e);
+                throw error;
+            }
+        }
+        final int id = register(unit);
+        keys[slot] = key;
+        hashes[slot] = hash;
+        ids[slot] = id;
+        if (++keyCount > keys.length >> 1) {
+            rehash();
+        }
+        return id;
+    }
+
+    private boolean regionMatches(char[] key, int from) {
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != buffer[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int register(Unit<?> unit) {
+        final Integer known = unitIds.get(unit);
+        if (known != null) {
+            return known;
+        }
+        if (unitCount == units.length) {
+            units = Arrays.copyOf(units, unitCount << 1);
+        }
+        units[unitCount] = unit;
+        unitIds.put(unit, unitCount);
+        return unitCount++;
+    }
+
+    private void rehash() {
+        final char[][] oldKeys = keys;
+        final int[] oldHashes = hashes;
+        final int[] oldIds = ids;
+        final int size = oldKeys.length << 1;
+        final int mask = size - 1;
+        keys = new char[size][];
+        hashes = new int[size];
+        ids = new int[size];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = (oldHashes[i] ^ (oldHashes[i] >>> 16)) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                hashes[slot] = oldHashes[i];
+                ids[slot] = oldIds[i];
+            }
+        }
+    }
+
+    private MeasurementParseException parseError(String message, int start, int end, int index) {
+        final String record = new String(buffer, start, end - start);
+        return new MeasurementParseException(message + " at offset " + (offset + index) + " in '" + record + "'", record, index - start);
+    }
+}
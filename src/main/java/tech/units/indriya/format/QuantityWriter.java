@@ -0,0 +1,281 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.internal.format.NumberRenderer;
+import tech.units.indriya.internal.function.Calculator;
+import tech.units.indriya.quantity.DoubleQuantity;
+import tech.units.indriya.quantity.LongQuantity;
+
+/**
+ * Writes quantities as text into caller supplied buffers, without allocating per quantity.
+ * <p>
+ * The text is the same as produced by {@link SimpleQuantityFormat#getInstance()}, that is the value
+ * followed by a space and the unit as formatted by the given {@link SimpleUnitFormat}, the unit being
+ * omitted for {@link AbstractUnit#ONE}. Values are rendered to ASCII directly, {@link DoubleQuantity} 
+ * and {@link LongQuantity} without boxing their amount. Values of other types (e.g. 
+ * {@link java.math.BigDecimal} or {@link tech.units.indriya.function.RationalNumber}) are rendered
+ * by their {@code toString()} method. The text of each unit is cached, for byte buffers UTF-8 encoded.
+ * <p>
+ * Writing to a {@link CharBuffer} or {@link ByteBuffer} either writes the whole text or throws
+ * {@link BufferOverflowException} leaving the buffer unchanged.
+ * <p>
+ * Typical usage:
+ * <pre>
+ * QuantityWriter writer = QuantityWriter.of();
+ * StringBuilder line = new StringBuilder();
+ * for (Quantity&lt;?&gt; quantity : quantities) {
+ *     line.setLength(0);
+ *     log(writer.format(quantity, line));
+ * }
+ * </pre>
+ * Instances are not safe for use by multiple concurrent threads.
+ * 
+ * @see QuantityReader
+ * @since 2.2
+ */
+public final class QuantityWriter {
+
+    private static final char DELIMITER = ' ';
+    private static final int CACHE_SIZE = 64;
+    private static final double MAX_EXACT_INTEGER = 0x1p53;
+
+    private final SimpleUnitFormat unitFormat;
+
+    // value text, rendered by renderValue
+    private char[] chars = new char[32];
+    private byte[] bytes = new byte[32];
+    private final StringBuilder text = new StringBuilder(32);
+
+    // unit -> text, direct mapped by identity
+    private final Unit<?>[] units = new Unit<?>[CACHE_SIZE];
+    private final boolean[] dimensionless = new boolean[CACHE_SIZE];
+    private final String[] symbols = new String[CACHE_SIZE];
+    private final byte[][] encodedSymbols = new byte[CACHE_SIZE][];
+    private int slot;
+
+    private QuantityWriter(SimpleUnitFormat unitFormat) {
+        this.unitFormat = Objects.requireNonNull(unitFormat);
+    }
+
+    /**
+     * Returns a new writer, formatting units with {@link SimpleUnitFormat#getInstance()}.
+     * 
+     * @return the quantity writer.
+     */
+    public static QuantityWriter of() {
+        return of(SimpleUnitFormat.getInstance());
+    }
+
+    /**
+     * Returns a new writer, formatting units with the given format.
+     * 
+     * @param unitFormat the format of units.
+     * @return the quantity writer.
+     */
+    public static QuantityWriter of(SimpleUnitFormat unitFormat) {
+        return new QuantityWriter(unitFormat);
+    }
+
+    /**
+     * Appends the given quantity to a {@link StringBuilder}.
+     * 
+     * @param quantity the quantity to format.
+     * @param dest the destination.
+     * @return {@code dest}.
+     */
+    public StringBuilder format(Quantity<?> quantity, StringBuilder dest) {
+        final int length = renderValue(quantity);
+        final String symbol = symbolOf(quantity.getUnit());
+        dest.append(chars, 0, length);
+        if (symbol != null) {
+            dest.append(DELIMITER).append(symbol);
+        }
+        return dest;
+    }
+
+    /**
+     * Writes the given quantity to a {@link CharBuffer}.
+     * 
+     * @param quantity the quantity to format.
+     * @param dest the destination.
+     * @return {@code dest}.
+     * @throws BufferOverflowException if the remaining space of {@code dest} is insufficient.
+     */
+    public CharBuffer format(Quantity<?> quantity, CharBuffer dest) {
+        final int length = renderValue(quantity);
+        final String symbol = symbolOf(quantity.getUnit());
+        if (dest.remaining() < (symbol == null ? length : length + 1 + symbol.length())) {
+            throw new BufferOverflowException();
+        }
+        dest.put(chars, 0, length);
+        if (symbol != null) {
+            dest.put(DELIMITER).put(symbol);
+        }
+        return dest;
+    }
+
+    /**
+     * Writes the given quantity UTF-8 encoded to a {@link ByteBuffer}.
+     * 
+     * @param quantity the quantity to format.
+     * @param dest the destination.
+     * @return {@code dest}.
+     * @throws BufferOverflowException if the remaining space of {@code dest} is insufficient.
+     */
+    public ByteBuffer format(Quantity<?> quantity, ByteBuffer dest) {
+        final int length = encodeValue(renderValue(quantity));
+        final byte[] symbol = symbolOf(quantity.getUnit()) == null ? null : encodedSymbol();
+        if (dest.remaining() < (symbol == null ? length : length + 1 + symbol.length)) {
+            throw new BufferOverflowException();
+        }
+        dest.put(bytes, 0, length);
+        if (symbol != null) {
+            dest.put((byte) DELIMITER).put(symbol);
+        }
+        return dest;
+    }
+
+    /**
+     * Renders the value of the given quantity to {@code chars}, as {@code getValue().toString()}.
+     * 
+     * @return the number of characters.
+     */
+    private int renderValue(Quantity<?> quantity) {
+        // the amount narrowed as by getValue(), without boxing
+        if (Calculator.isDefaultNumberSystem()) {
+            if (quantity instanceof LongQuantity) {
+                return NumberRenderer.render(((LongQuantity<?>) quantity).longValue(), chars, 0);
+            }
+            if (quantity instanceof DoubleQuantity) {
+                final double value = ((DoubleQuantity<?>) quantity).doubleValue();
+                if (value % 1 != 0) {
+                    return renderDouble(value); // not narrowed
+                }
+                if (value != 0 && Math.abs(value) < MAX_EXACT_INTEGER) {
+                    return NumberRenderer.render((long) value, chars, 0);
+                }
+            }
+        }
+        final Number value = quantity.getValue();
+        if (value instanceof Integer || value instanceof Long) {
+            return NumberRenderer.render(value.longValue(), chars, 0);
+        }
+        if (value instanceof Double) {
+            return renderDouble(value.doubleValue());
+        }
+        text.setLength(0);
+        return copyText(text.append(value));
+    }
+
+    /**
+     * Encodes the first {@code length} characters of {@code chars} to {@code bytes}.
+     * 
+     * @return the number of bytes.
+     */
+    private int encodeValue(int length) {
+        if (bytes.length < length) {
+            bytes = new byte[chars.length];
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = chars[i];
+            if (c >= 0x80) {
+                // values render to ASCII, except for toString() of custom number types
+                bytes = new String(chars, 0, length).getBytes(StandardCharsets.UTF_8);
+                return bytes.length;
+            }
+            bytes[i] = (byte) c;
+        }
+        return length;
+    }
+
+    private int renderDouble(double value) {
+        final int length = NumberRenderer.renderDecimal(value, chars, 0);
+        if (length >= 0) {
+            return length;
+        }
+        text.setLength(0);
+        return copyText(text.append(value));
+    }
+
+    private int copyText(StringBuilder text) {
+        final int length = text.length();
+        if (chars.length < length) {
+            chars = Arrays.copyOf(chars, Math.max(length, chars.length << 1));
+        }
+        text.getChars(0, length, chars, 0);
+        return length;
+    }
+
+    /**
+     * Looks up the text of the given unit, setting {@code slot} to its cache entry.
+     * 
+     * @return the text of the unit, {@code null} for {@link AbstractUnit#ONE}.
+     */
+    private String symbolOf(Unit<?> unit) {
+        slot = System.identityHashCode(unit) & (CACHE_SIZE - 1);
+        if (units[slot] != unit) {
+            units[slot] = unit;
+            dimensionless[slot] = unit.equals(AbstractUnit.ONE);
+            symbols[slot] = null;
+            encodedSymbols[slot] = null;
+        }
+        if (dimensionless[slot]) {
+            return null;
+        }
+        // labels might have changed since cached, formats caching their text return the same string
+        final String symbol = unitFormat.symbolOf(unit);
+        if (!symbol.equals(symbols[slot])) {
+            symbols[slot] = symbol;
+            encodedSymbols[slot] = null;
+        }
+        return symbol;
+    }
+
+    private byte[] encodedSymbol() {
+        byte[] encoded = encodedSymbols[slot];
+        if (encoded == null) {
+            encoded = symbols[slot].getBytes(StandardCharsets.UTF_8);
+            encodedSymbols[slot] = encoded;
+        }
+        return encoded;
+    }
+}
@@ -98,6 +98,8 @@ import tech.units.indriya.quantity.Quantities;
  * </ul> 
  * @version 2.1, June 5, 2023
  * @since 2.0
+ * @see QuantityReader
+ * @see QuantityWriter
  */
 @SuppressWarnings("rawtypes")
 public class SimpleQuantityFormat extends AbstractQuantityFormat {
@@ -197,12 +199,14 @@ public class SimpleQuantityFormat extends AbstractQuantityFormat {
 	@Override
 	public Quantity<?> parse(CharSequence csq, ParsePosition cursor) throws MeasurementParseException {
 	    
-	    final NumberFormat numberFormat = NumberFormat.getInstance();
 	    final SimpleUnitFormat simpleUnitFormat = SimpleUnitFormat.getInstance();
 	    
-        if (mixDelimiter != null && !mixDelimiter.equals(delimiter)) {
-            return parseMixedAsLeading(csq.toString(), numberFormat, simpleUnitFormat, delimiter, mixDelimiter, cursor.getIndex());
-        } else if (mixDelimiter != null && mixDelimiter.equals(delimiter)) {
+        if (mixDelimiter != null) {
+            // NumberFormat.getInstance() creates a new instance, so only obtain it where needed
+            final NumberFormat numberFormat = NumberFormat.getInstance();
+            if (!mixDelimiter.equals(delimiter)) {
+                return parseMixedAsLeading(csq.toString(), numberFormat, simpleUnitFormat, delimiter, mixDelimiter, cursor.getIndex());
+            }
             return parseMixedAsLeading(csq.toString(), numberFormat, simpleUnitFormat, delimiter, cursor.getIndex());
         }
         
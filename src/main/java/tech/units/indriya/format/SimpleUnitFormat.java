@@ -34,6 +34,7 @@ import java.text.FieldPosition;
 import java.text.ParsePosition;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,6 +54,7 @@ import tech.units.indriya.AbstractUnit;
 import tech.units.indriya.function.AddConverter;
 import tech.units.indriya.function.MultiplyConverter;
 import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.internal.format.UnitFormatCache;
 import tech.units.indriya.unit.AlternateUnit;
 import tech.units.indriya.unit.AnnotatedUnit;
 import tech.units.indriya.unit.BaseUnit;
@@ -184,6 +186,18 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
      */
     public abstract Appendable format(Unit<?> unit, Appendable appendable) throws IOException;
 
+    /**
+     * Returns the specified unit formatted as by {@link #format(Unit, Appendable)}. Formats caching
+     * their output return the cached text, rather than a new string.
+     *
+     * @param unit
+     *          the unit to format.
+     * @return the text of the unit.
+     */
+    String symbolOf(Unit<?> unit) {
+        return format(unit);
+    }
+
     /**
      * Parses a sequence of character to produce a unit or a rational product of unit.
      *
@@ -386,6 +400,20 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
          */
         private final Map<String, Unit<?>> symbolToUnit = new HashMap<>();
 
+        /**
+         * Generation of the labels and aliases of all formats, incremented on any change. Shared, as the ASCII format falls back 
+         * to the labels of the default format.
+         */
+        private static final AtomicInteger LABELS_GENERATION = new AtomicInteger();
+
+        /**
+         * Holds recently parsed units (parsing from index zero), and recently formatted units (by structure, see 
+         * {@link #formatsAlike(Unit, Unit)}, so freshly created product units hit as well).
+         */
+        private final UnitFormatCache<String, ParsedUnit> parseCache = new UnitFormatCache<>(UnitFormatCache.DEFAULT_CAPACITY, false);
+        private final UnitFormatCache<Unit<?>, String> formatCache = new UnitFormatCache<>(UnitFormatCache.DEFAULT_CAPACITY, 
+                DefaultFormat::formatHash, DefaultFormat::formatsAlike);
+
         private static enum Token { EOF, IDENTIFIER, OPEN_PAREN, CLOSE_PAREN, EXPONENT, MULTIPLY, DIVIDE,
             PLUS, INTEGER, FLOAT };
 
@@ -503,6 +531,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 nameToUnit.put(label, unit);
                 unitToName.put(unit, label);
             }
+            LABELS_GENERATION.incrementAndGet();
         }
 
         @Override
@@ -512,23 +541,27 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
             synchronized (this) {
                 nameToUnit.put(alias, unit);
             }
+            LABELS_GENERATION.incrementAndGet();
         }
 
         @Override
 		public void removeAlias(Unit<?> unit, String alias) {
 			nameToUnit.remove(alias);
+			LABELS_GENERATION.incrementAndGet();
 		}
         
 		@Override
 		public void removeAliases(Unit<?> unit) {
 			final String alias = unitToName.get(unit);
 			nameToUnit.entrySet().removeIf(e -> e.getValue().equals(unit) && !e.getKey().equals(alias));
+			LABELS_GENERATION.incrementAndGet();
 		}
 
 		@Override
 		public void removeLabel(Unit<?> unit) {
 			unitToName.remove(unit);
 			nameToUnit.entrySet().removeIf(e -> e.getValue().equals(unit));
+			LABELS_GENERATION.incrementAndGet();
 		}
 
         @Override
@@ -899,6 +932,68 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
 
         @Override
         public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+            return appendable.append(symbolOf(unit));
+        }
+
+        @Override
+        String symbolOf(Unit<?> unit) {
+            final int generation = LABELS_GENERATION.get();
+            String formatted = formatCache.get(unit, generation);
+            if (formatted == null) {
+                try {
+                    formatted = formatUnit(unit, new StringBuilder()).toString();
+                } catch (IOException e) {
+                    throw new MeasurementError(e); // Should never happen.
+                }
+                formatCache.put(unit, formatted, generation);
+            }
+            return formatted;
+        }
+
+        /**
+         * Whether both units are formatted alike. Unlike {@code equals}, product units must agree in the order of their elements.
+         */
+        private static boolean formatsAlike(Unit<?> a, Unit<?> b) {
+            if (a == b) {
+                return true;
+            }
+            if (!(a instanceof ProductUnit) || !(b instanceof ProductUnit)) {
+                return !(a instanceof ProductUnit) && !(b instanceof ProductUnit) && a.equals(b);
+            }
+            final ProductUnit<?> productA = (ProductUnit<?>) a;
+            final ProductUnit<?> productB = (ProductUnit<?>) b;
+            final int count = productA.getUnitCount();
+            if (count != productB.getUnitCount()) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (productA.getUnitPow(i) != productB.getUnitPow(i) || productA.getUnitRoot(i) != productB.getUnitRoot(i)
+                        || !formatsAlike(productA.getUnit(i), productB.getUnit(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Hash consistent with {@link #formatsAlike(Unit, Unit)}, computed without allocation for product units.
+         */
+        private static int formatHash(Unit<?> unit) {
+            if (!(unit instanceof ProductUnit)) {
+                return unit.hashCode();
+            }
+            final ProductUnit<?> product = (ProductUnit<?>) unit;
+            int hash = 1;
+            for (int i = 0; i < product.getUnitCount(); i++) {
+                hash = 31 * hash + formatHash(product.getUnit(i));
+                hash = 31 * hash + product.getUnitPow(i);
+                hash = 31 * hash + product.getUnitRoot(i);
+            }
+            return hash;
+        }
+
+        // Formats the specified unit, bypassing the cache.
+        protected Appendable formatUnit(Unit<?> unit, Appendable appendable) throws IOException {
             String name = nameFor(unit);
             if (name != null) {
                 return appendable.append(name);
@@ -916,7 +1011,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 // is the sub-unit known under a given label?
                 if (nameFor(powerUnit) == null)
                     // apply the power to the sub-units and format those instead
-                    return format(ProductUnit.ofPow(powerUnit, productUnit.getUnitPow(0)), appendable);
+                    return formatUnit(ProductUnit.ofPow(powerUnit, productUnit.getUnitPow(0)), appendable);
             }
 
             int invNbr = 0;
@@ -1000,7 +1095,29 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
 
         @Override
         public Unit<?> parse(CharSequence csq, ParsePosition cursor) throws IllegalArgumentException {
-            return parseObject(csq.toString(), cursor);
+            final String source = csq.toString();
+            if (cursor.getIndex() != 0) {
+                return parseObject(source, cursor);
+            }
+            final int generation = LABELS_GENERATION.get();
+            final ParsedUnit cached = parseCache.get(source, generation);
+            if (cached != null) {
+                cursor.setIndex(cached.endIndex);
+                return cached.unit;
+            }
+            final Unit<?> unit = parseObject(source, cursor);
+            parseCache.put(source, new ParsedUnit(unit, cursor.getIndex()), generation);
+            return unit;
+        }
+
+        private static final class ParsedUnit {
+            private final Unit<?> unit;
+            private final int endIndex;
+
+            private ParsedUnit(Unit<?> unit, int endIndex) {
+                this.unit = unit;
+                this.endIndex = endIndex;
+            }
         }
     }
 
@@ -1110,7 +1227,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         }
 
         @Override
-        public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+        protected Appendable formatUnit(Unit<?> unit, Appendable appendable) throws IOException {
             String name = nameFor(unit);
             if (name != null)
                 return appendable.append(name);
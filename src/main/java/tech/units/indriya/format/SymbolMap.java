@@ -79,6 +79,16 @@ public final class SymbolMap {
   private final Map<Object, String> prefixToSymbol;
   private final Map<UnitConverter, Prefix> converterToPrefix;
 
+  /**
+   * Prefix symbols ordered by descending length, computed on demand.
+   */
+  private volatile List<String> prefixSymbolsByLength;
+
+  /**
+   * Incremented on every modification.
+   */
+  private volatile int generation;
+
   /**
    * Creates an empty mapping.
    */
@@ -156,6 +166,7 @@ public final class SymbolMap {
   public void label(Unit<?> unit, String symbol) {
     symbolToUnit.put(symbol, unit);
     unitToSymbol.put(unit, symbol);
+    generation++;
   }
 
   /**
@@ -170,6 +181,7 @@ public final class SymbolMap {
    */
   public void alias(Unit<?> unit, String symbol) {
     symbolToUnit.put(symbol, unit);
+    generation++;
   }
 
   /**
@@ -182,6 +194,8 @@ public final class SymbolMap {
     symbolToPrefix.put(symbol, prefix);
     prefixToSymbol.put(prefix, symbol);
     converterToPrefix.put(MultiplyConverter.ofPrefix(prefix), prefix);
+    prefixSymbolsByLength = null;
+    generation++;
   }
 
   /**
@@ -214,9 +228,13 @@ public final class SymbolMap {
    * @return the corresponding prefix or <code>null</code> if none.
    */
   public Prefix getPrefix(String symbol) {
-	final List<String> list = symbolToPrefix.keySet().stream().collect(Collectors.toList());
-	final Comparator<String> comparator = Comparator.comparing(String::length);
-	Collections.sort(list, comparator.reversed());
+	List<String> list = prefixSymbolsByLength;
+	if (list == null) {
+	    list = symbolToPrefix.keySet().stream().collect(Collectors.toList());
+	    final Comparator<String> comparator = Comparator.comparing(String::length);
+	    Collections.sort(list, comparator.reversed());
+	    prefixSymbolsByLength = list;
+	}
 
 	for (String key : list) {
 	    if (symbol.startsWith(key)) {
@@ -248,6 +266,17 @@ public final class SymbolMap {
     return prefixToSymbol.get(prefix);
   }
 
+  /**
+   * Returns a number that changes whenever labels, aliases or prefixes are added, allowing callers to detect when values derived from this map
+   * (e.g. cached parse results) are stale.
+   *
+   * @return the current generation of this map.
+   * @since 2.2
+   */
+  public int getGeneration() {
+    return generation;
+  }
+
 @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -75,7 +75,8 @@ public abstract class AbstractConverter
     /**
      * Allows for plug in of a custom UnitCompositionHandler.
      */
-    public static ConverterCompositionHandler UNIT_COMPOSITION_HANDLER = ConverterCompositionHandler.yieldingNormalForm();
+    public static ConverterCompositionHandler UNIT_COMPOSITION_HANDLER = 
+            ConverterCompositionHandler.memoizing(ConverterCompositionHandler.yieldingNormalForm());
 
     /**
      * memorization for getConversionSteps
@@ -238,6 +239,102 @@ public abstract class AbstractConverter
         return convertWhenNotIdentity(value);
     }
     
+    // -- BULK CONVERSION CONTRACTS (MAY BE OVERRIDDEN BY SUB-CLASSES)
+
+    /**
+     * Non-API
+     * <p>
+     * Converts a range of double values, for cases where the transformation is not the
+     * identity transformation. Ranges are already validated when this is called.
+     * </p>
+     * The default implementation applies the factor of a {@link MultiplyConverter} in a
+     * single tight loop and otherwise falls back to converting each element in turn.
+     */
+    protected void convertWhenNotIdentity(double[] source, int sourceOffset, double[] target, int targetOffset, int length) {
+        if(this instanceof MultiplyConverter) {
+            final double factor = ((MultiplyConverter) this).getAsDouble();
+            for (int i = 0; i < length; i++) {
+                target[targetOffset + i] = source[sourceOffset + i] * factor;
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = convertWhenNotIdentity(source[sourceOffset + i]).doubleValue();
+        }
+    }
+
+    /**
+     * Non-API
+     * <p>
+     * Converts a range of {@code Number} values, for cases where the transformation is not the
+     * identity transformation. Ranges are already validated when this is called.
+     * </p>
+     */
+    protected void convertWhenNotIdentity(Number[] source, int sourceOffset, Number[] target, int targetOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            final Number value = source[sourceOffset + i];
+            if (value == null) {
+                throw new IllegalArgumentException("Value cannot be null");
+            }
+            target[targetOffset + i] = convertWhenNotIdentity(value);
+        }
+    }
+
+    // -- BULK CONVERSION INTERFACE IMPLEMENTATION (FINAL)
+
+    /**
+     * Converts {@code length} values of {@code source}, starting at {@code sourceOffset}, into
+     * {@code target}, starting at {@code targetOffset}.
+     * <p>
+     * Source and target may be the same array, with the same offset, to convert in place. Any other
+     * overlap of the two ranges yields unspecified results.
+     * </p>
+     * @throws IndexOutOfBoundsException
+     *             if either range lies outside its array.
+     */
+    public final void convert(double[] source, int sourceOffset, double[] target, int targetOffset, int length) {
+        checkRange(source.length, sourceOffset, length);
+        checkRange(target.length, targetOffset, length);
+        if(isIdentity()) {
+            copyRange(source, sourceOffset, target, targetOffset, length);
+            return;
+        }
+        convertWhenNotIdentity(source, sourceOffset, target, targetOffset, length);
+    }
+
+    /**
+     * Converts {@code length} values of {@code source}, starting at {@code sourceOffset}, into
+     * {@code target}, starting at {@code targetOffset}.
+     * 
+     * @throws IndexOutOfBoundsException
+     *             if either range lies outside its array.
+     * @throws IllegalArgumentException
+     *             if any of the values is <code>null</code>.
+     * @see #convert(double[], int, double[], int, int)
+     */
+    public final void convert(Number[] source, int sourceOffset, Number[] target, int targetOffset, int length) {
+        checkRange(source.length, sourceOffset, length);
+        checkRange(target.length, targetOffset, length);
+        if(isIdentity()) {
+            copyRange(source, sourceOffset, target, targetOffset, length);
+            return;
+        }
+        convertWhenNotIdentity(source, sourceOffset, target, targetOffset, length);
+    }
+
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d + %d) out of bounds for length %d", offset, offset, length, arrayLength));
+        }
+    }
+
+    private static void copyRange(Object source, int sourceOffset, Object target, int targetOffset, int length) {
+        if (source != target || sourceOffset != targetOffset) {
+            System.arraycopy(source, sourceOffset, target, targetOffset, length);
+        }
+    }
+
     /**
      * Even though transformations may be composed of addition and multiplication, the first
      * derivative might just be a linear function. This is strictly required for Quantities that 
@@ -362,6 +459,11 @@ public abstract class AbstractConverter
          */
         private final UnitConverter right;
 
+        /**
+         * Memoized hash code, zero if not yet calculated (recursive over the whole tree otherwise).
+         */
+        private transient int hashCode;
+
         /**
          * Creates a pair converter resulting from the combined transformation of the
          * specified converters.
@@ -449,6 +551,58 @@ public abstract class AbstractConverter
             final AbstractConverter absRight = (AbstractConverter) right;
             return absLeft.convertWhenNotIdentity(absRight.convertWhenNotIdentity(value));
         }   
+
+        /**
+         * Chains of {@link MultiplyConverter} and {@link AddConverter} steps collapse into a
+         * single {@code a * x + b} loop, anything else is converted one step at a time over 
+         * the whole range.
+         */
+        @Override
+        protected void convertWhenNotIdentity(double[] source, int sourceOffset, double[] target, int targetOffset, int length) {
+            final List<? extends UnitConverter> steps = getConversionSteps();
+            double a = 1.0;
+            double b = 0.0;
+            boolean affine = true;
+            for (int i = steps.size() - 1; i >= 0 && affine; i--) {
+                final UnitConverter step = steps.get(i);
+                if (step instanceof MultiplyConverter) {
+                    final double factor = ((MultiplyConverter) step).getAsDouble();
+                    a *= factor;
+                    b *= factor;
+                } else if (step instanceof AddConverter) {
+                    b += ((AddConverter) step).getOffset().doubleValue();
+                } else {
+                    affine = step.isIdentity();
+                }
+            }
+            if (affine) {
+                for (int i = 0; i < length; i++) {
+                    target[targetOffset + i] = a * source[sourceOffset + i] + b;
+                }
+                return;
+            }
+            convertStep(right, source, sourceOffset, target, targetOffset, length);
+            convertStep(left, target, targetOffset, target, targetOffset, length);
+        }
+
+        @Override
+        protected void convertWhenNotIdentity(Number[] source, int sourceOffset, Number[] target, int targetOffset, int length) {
+            if(!(left instanceof AbstractConverter) || !(right instanceof AbstractConverter)) {
+                throw requiresAbstractConverter();
+            }
+            ((AbstractConverter) right).convert(source, sourceOffset, target, targetOffset, length);
+            ((AbstractConverter) left).convert(target, targetOffset, target, targetOffset, length);
+        }
+
+        private static void convertStep(UnitConverter step, double[] source, int sourceOffset, double[] target, int targetOffset, int length) {
+            if (step instanceof AbstractConverter) {
+                ((AbstractConverter) step).convert(source, sourceOffset, target, targetOffset, length);
+                return;
+            }
+            for (int i = 0; i < length; i++) {
+                target[targetOffset + i] = step.convert(source[sourceOffset + i]);
+            }
+        }
         
         @Override
         public boolean equals(Object obj) {
@@ -464,7 +618,11 @@ public abstract class AbstractConverter
 
         @Override
         public int hashCode() {
-            return Objects.hash(left, right);
+            int h = hashCode;
+            if (h == 0) {
+                hashCode = h = Objects.hash(left, right);
+            }
+            return h;
         }
 
         public UnitConverter getLeft() {
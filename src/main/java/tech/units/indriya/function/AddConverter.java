@@ -108,6 +108,14 @@ public final class AddConverter extends AbstractConverter implements ValueSuppli
               .peek();
   }
 
+  @Override
+  protected void convertWhenNotIdentity(double[] source, int sourceOffset, double[] target, int targetOffset, int length) {
+    final double doubleOffset = offset.doubleValue();
+    for (int i = 0; i < length; i++) {
+      target[targetOffset + i] = source[sourceOffset + i] + doubleOffset;
+    }
+  }
+
   @Override
   public String transformationLiteral() {
     NumberSystem ns = Calculus.currentNumberSystem();
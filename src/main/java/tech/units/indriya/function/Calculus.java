@@ -38,6 +38,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
@@ -67,9 +68,31 @@ public final class Calculus {
 	 */
 	public static MathContext MATH_CONTEXT = DEFAULT_MATH_CONTEXT;
 	
-	private static NumberSystem currentSystem;
+	/**
+	 * Global override of the default number system, {@code null} if none was set.
+	 */
+	private static volatile NumberSystem currentSystem;
+	
+	/**
+	 * Per thread override, the innermost scope opened by {@link #withNumberSystem(NumberSystem)}.
+	 */
+	private static final ThreadLocal<NumberSystemScope> innermostScope = new ThreadLocal<>();
+	
+	/**
+	 * Whether any scope was ever opened, allows to skip the {@link ThreadLocal} lookup 
+	 * as long as scopes are not in use. Only ever written once, hence not contended.
+	 */
+	private static volatile boolean scopesInUse;
 	
     private static final String DEFAULT_NUMBER_SYSTEM = "tech.units.indriya.function.DefaultNumberSystem";
+    
+    /**
+     * Lazy holder of the default number system, the JVM guarantees the ServiceLoader 
+     * lookup to happen exactly once and the result to be safely published.
+     */
+    private static final class DefaultSystemHolder {
+        private static final NumberSystem INSTANCE = getNumberSystem(DEFAULT_NUMBER_SYSTEM);
+    }
 
     /**
      * All available {@link NumberSystem NumberSystems} used for Number arithmetic.
@@ -83,24 +106,110 @@ public final class Calculus {
 
     /**
      * Returns the current {@link NumberSystem} used for Number arithmetic.
+     * <p>
+     * That is the one installed for the calling thread by {@link #withNumberSystem(NumberSystem)}, 
+     * if any, otherwise the one set by {@link #setCurrentNumberSystem(NumberSystem)}, if any,
+     * otherwise the {@link DefaultNumberSystem}.
      */
     public static NumberSystem currentNumberSystem() {
-    	if (currentSystem == null) {
-    		currentSystem = getNumberSystem(DEFAULT_NUMBER_SYSTEM);
-    	}
-        return currentSystem;
+        if (scopesInUse) {
+            final NumberSystemScope scope = innermostScope.get();
+            if (scope != null) {
+                return scope.system;
+            }
+        }
+        final NumberSystem system = currentSystem;
+        return system != null 
+                ? system
+                : DefaultSystemHolder.INSTANCE;
     }
     
     /**
      * Sets the current number system
      *
      * @param system
-     *          the new current number system.
+     *          the new current number system, {@code null} to revert to the default.
      * @see #currentNumberSystem
      */
     public static void setCurrentNumberSystem(NumberSystem system) {
     	currentSystem = system;
     }
+    
+    /**
+     * Installs given {@code system} as the current number system of the calling thread, 
+     * until the returned scope is closed. Meant to be used with try-with-resources:
+     * <pre>
+     * try (NumberSystemScope scope = Calculus.withNumberSystem(new DoubleNumberSystem())) {
+     *     ...
+     * }
+     * </pre>
+     * Scopes may be nested, closing a scope restores the number system that was current 
+     * for the thread before. Scopes must be closed by the thread that opened them and in 
+     * reverse order of opening, otherwise {@link NumberSystemScope#close()} throws an 
+     * {@link IllegalStateException}.
+     *
+     * @param system
+     *          the number system to use within the scope
+     * @return the scope, to be closed by the same thread that opened it
+     * @see #currentNumberSystem
+     * @since 2.2
+     */
+    public static NumberSystemScope withNumberSystem(NumberSystem system) {
+        Objects.requireNonNull(system);
+        final NumberSystemScope scope = new NumberSystemScope(system, innermostScope.get());
+        innermostScope.set(scope);
+        if (!scopesInUse) {
+            scopesInUse = true;
+        }
+        return scope;
+    }
+    
+    /**
+     * A thread confined override of the current {@link NumberSystem}, see 
+     * {@link Calculus#withNumberSystem(NumberSystem)}.
+     * 
+     * @since 2.2
+     */
+    public static final class NumberSystemScope implements AutoCloseable {
+        
+        private final NumberSystem system;
+        private final NumberSystemScope enclosing;
+        private final Thread owner;
+        private boolean closed;
+        
+        private NumberSystemScope(NumberSystem system, NumberSystemScope enclosing) {
+            this.system = system;
+            this.enclosing = enclosing;
+            this.owner = Thread.currentThread();
+        }
+
+        /**
+         * Restores the number system that was current for the calling thread when this
+         * scope was opened. Closing a scope more than once has no effect.
+         * 
+         * @throws IllegalStateException if called by a thread other than the one that opened
+         *          this scope, or while a scope nested within this one is still open
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            if (Thread.currentThread() != owner) {
+                throw new IllegalStateException("NumberSystemScope opened by thread " + owner.getName() 
+                    + " cannot be closed by thread " + Thread.currentThread().getName());
+            }
+            if (innermostScope.get() != this) {
+                throw new IllegalStateException("NumberSystemScope closed while a nested scope is still open");
+            }
+            closed = true;
+            if (enclosing != null) {
+                innermostScope.set(enclosing);
+            } else {
+                innermostScope.remove();
+            }
+        }
+    }
 
     /**
      * Returns the given {@link NumberSystem} used for Number arithmetic by (class) name.
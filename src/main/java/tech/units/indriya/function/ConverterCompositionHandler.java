@@ -32,6 +32,7 @@ package tech.units.indriya.function;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 
+import tech.units.indriya.internal.function.simplify.MemoizingCompositionHandler;
 import tech.units.indriya.internal.function.simplify.UnitCompositionHandlerYieldingNormalForm;
 
 /**
@@ -76,5 +77,14 @@ public interface ConverterCompositionHandler {
     public static ConverterCompositionHandler yieldingNormalForm() {
         return new UnitCompositionHandlerYieldingNormalForm();
     }
+    
+    /**
+     * @param delegate the handler doing the actual composition
+     * @return a UnitCompositionHandler that memoizes the compositions of given {@code delegate}
+     * @since 2.2
+     */
+    public static ConverterCompositionHandler memoizing(ConverterCompositionHandler delegate) {
+        return new MemoizingCompositionHandler(delegate);
+    }
 
 }
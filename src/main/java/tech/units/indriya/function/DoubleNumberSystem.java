@@ -0,0 +1,367 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tech.units.indriya.spi.NumberSystem;
+
+/**
+ * {@link NumberSystem} implementation that keeps all arithmetic within Java's primitive
+ * {@code long} and {@code double} types.
+ * <p>
+ * Integer arithmetic is exact as long as results fit into a {@code long}, on overflow results
+ * are widened to {@code double}. Any arithmetic involving a fractional argument is carried out
+ * in {@code double} precision. Unlike {@link DefaultNumberSystem}, no intermediate 
+ * {@link java.math.BigDecimal} or {@link RationalNumber} values are ever created, hence results
+ * follow IEEE-754 semantics and are subject to rounding errors.
+ * <p>
+ * Arguments of any other {@link Number} type are accepted, but are coerced to either 
+ * {@code long} (if integral and within range) or {@code double} on entry.
+ * <p>
+ * To use this number system, either call 
+ * {@code Calculus.setCurrentNumberSystem(new DoubleNumberSystem())} or look it up via
+ * {@code Calculus.getNumberSystem("tech.units.indriya.function.DoubleNumberSystem")}.
+ *
+ * @since 2.2
+ */
+public class DoubleNumberSystem implements NumberSystem {
+
+    private static final Long ZERO = 0L;
+    private static final Long ONE = 1L;
+
+    @Override
+    public Number add(Number x, Number y) {
+        if(isLong(x) && isLong(y)) {
+            final long long_x = x.longValue();
+            final long long_y = y.longValue();
+            final long sum = long_x + long_y;
+            // overflow iff both arguments have the same sign and the sum's sign differs
+            if(((long_x ^ sum) & (long_y ^ sum)) < 0) {
+                return (double)long_x + (double)long_y;
+            }
+            return sum;
+        }
+        return x.doubleValue() + y.doubleValue();
+    }
+
+    @Override
+    public Number subtract(Number x, Number y) {
+        if(isLong(x) && isLong(y)) {
+            final long long_x = x.longValue();
+            final long long_y = y.longValue();
+            final long difference = long_x - long_y;
+            // overflow iff the arguments have different signs and the difference's sign differs from x
+            if(((long_x ^ long_y) & (long_x ^ difference)) < 0) {
+                return (double)long_x - (double)long_y;
+            }
+            return difference;
+        }
+        return x.doubleValue() - y.doubleValue();
+    }
+
+    @Override
+    public Number multiply(Number x, Number y) {
+        if(isLong(x) && isLong(y)) {
+            return multiplyLong(x.longValue(), y.longValue());
+        }
+        return x.doubleValue() * y.doubleValue();
+    }
+
+    @Override
+    public Number divide(Number x, Number y) {
+        if(isLong(x) && isLong(y)) {
+            final long long_x = x.longValue();
+            final long long_y = y.longValue();
+            // stay within long only if the division is exact
+            if(long_y != 0 && !(long_x == Long.MIN_VALUE && long_y == -1) && long_x % long_y == 0) {
+                return long_x / long_y;
+            }
+        }
+        return x.doubleValue() / y.doubleValue();
+    }
+
+    @Override
+    public Number[] divideAndRemainder(Number x, Number y, boolean roundRemainderTowardsZero) {
+
+        final int sign_x = signum(x);
+        final int sign_y = signum(y);
+
+        final int sign = sign_x * sign_y;
+        // handle corner cases when x or y are zero
+        if(sign == 0) {
+            if(sign_y == 0) {
+                throw new ArithmeticException("division by zero");
+            }
+            if(sign_x==0) {
+                return new Number[] {ZERO, ZERO};
+            }
+        }
+
+        if(isLong(x) && isLong(y) 
+                && x.longValue() != Long.MIN_VALUE && y.longValue() != Long.MIN_VALUE) {
+            final long absX = Math.abs(x.longValue());
+            final long absY = Math.abs(y.longValue());
+            return new Number[] {sign * (absX / absY), sign * (absX % absY)};
+        }
+
+        final double absX = Math.abs(x.doubleValue());
+        final double absY = Math.abs(y.doubleValue());
+        final double quotient = Math.floor(absX / absY);
+        final double remainder = absX - quotient * absY;
+
+        if(roundRemainderTowardsZero) {
+            return new Number[] {sign * quotient, (long) (sign * Math.floor(remainder))};
+        }
+        return new Number[] {sign * quotient, sign * remainder};
+    }
+
+    @Override
+    public Number power(Number number, int exponent) {
+        if(exponent==0) {
+            if(isZero(number)) {
+                throw new ArithmeticException("0^0 is not defined");
+            }
+            return ONE; // x^0 == 1, for any x!=0
+        }
+        if(exponent==1) {
+            return narrow(number); // x^1 == x, for any x
+        }
+        if(exponent>0 && isLong(number)) {
+            // exponentiation by squaring, bailing out to double on overflow
+            long base = number.longValue();
+            long result = 1L;
+            int e = exponent;
+            while(true) {
+                if((e & 1) != 0) {
+                    final Number product = multiplyLong(result, base);
+                    if(!(product instanceof Long)) {
+                        break;
+                    }
+                    result = (Long) product;
+                }
+                e >>= 1;
+                if(e == 0) {
+                    return result;
+                }
+                final Number square = multiplyLong(base, base);
+                if(!(square instanceof Long)) {
+                    break;
+                }
+                base = (Long) square;
+            }
+        }
+        return Math.pow(number.doubleValue(), exponent);
+    }
+
+    @Override
+    public Number reciprocal(Number number) {
+        if(isLong(number)) {
+            final long longValue = number.longValue();
+            if(longValue == 1L || longValue == -1L) {
+                return longValue;
+            }
+        }
+        return 1.d / number.doubleValue();
+    }
+
+    @Override
+    public Number negate(Number number) {
+        if(isLong(number)) {
+            final long longValue = number.longValue();
+            if(longValue == Long.MIN_VALUE) {
+                return -((double)longValue); // widen to double
+            }
+            return -longValue;
+        }
+        return -number.doubleValue();
+    }
+
+    @Override
+    public int signum(Number number) {
+        if(isLong(number)) {
+            return Long.signum(number.longValue());
+        }
+        return (int)Math.signum(number.doubleValue());
+    }
+
+    @Override
+    public Number abs(Number number) {
+        if(isLong(number)) {
+            final long longValue = number.longValue();
+            if(longValue == Long.MIN_VALUE) {
+                return Math.abs((double)longValue); // widen to double
+            }
+            return Math.abs(longValue);
+        }
+        return Math.abs(number.doubleValue());
+    }
+
+    @Override
+    public Number exp(Number number) {
+        return Math.exp(number.doubleValue());
+    }
+
+    @Override
+    public Number log(Number number) {
+        return Math.log(number.doubleValue());
+    }
+
+    @Override
+    public Number narrow(Number number) {
+
+        //Implementation Note: doubles are never narrowed, only foreign number types are coerced  
+
+        if(number instanceof Double || number instanceof Long) {
+            return number;
+        }
+        if(isLong(number)) {
+            return number.longValue();
+        }
+        return number.doubleValue();
+    }
+
+    @Override
+    public int compare(Number x, Number y) {
+        if(isLong(x) && isLong(y)) {
+            return Long.compare(x.longValue(), y.longValue());
+        }
+        if(isLong(x)) {
+            return compareLongToDouble(x.longValue(), y.doubleValue());
+        }
+        if(isLong(y)) {
+            return -compareLongToDouble(y.longValue(), x.doubleValue());
+        }
+        final double double_x = x.doubleValue();
+        final double double_y = y.doubleValue();
+        if(double_x < double_y) {
+            return -1;
+        }
+        if(double_x > double_y) {
+            return 1;
+        }
+        if(double_x == double_y) {
+            return 0; // treats -0.0 and 0.0 as equal
+        }
+        return Double.compare(double_x, double_y); // NaN
+    }
+
+    @Override
+    public boolean isZero(Number number) {
+        if(isLong(number)) {
+            return number.longValue() == 0L;
+        }
+        return number.doubleValue() == 0.d;
+    }
+
+    @Override
+    public boolean isOne(Number number) {
+        if(isLong(number)) {
+            return number.longValue() == 1L;
+        }
+        return number.doubleValue() == 1.d;
+    }
+
+    @Override
+    public boolean isLessThanOne(Number number) {
+        if(isLong(number)) {
+            return number.longValue() < 1L;
+        }
+        return number.doubleValue() < 1.d;
+    }
+
+    @Override
+    public boolean isInteger(Number number) {
+        if(isLong(number)) {
+            return true;
+        }
+        final double doubleValue = number.doubleValue();
+        return Double.isFinite(doubleValue) && doubleValue % 1 == 0;
+    }
+
+    // -- HELPER
+
+    /**
+     * Whether given {@code number} is of an integer type whose value fits into a {@code long}.
+     */
+    private static boolean isLong(Number number) {
+        // 'hardcoded' for performance reasons
+        if(number instanceof Long || number instanceof Integer) {
+            return true;
+        }
+        if(number instanceof Double) {
+            return false;
+        }
+        if(number instanceof Short || number instanceof Byte ||
+                number instanceof AtomicLong || number instanceof AtomicInteger) {
+            return true;
+        }
+        if(number instanceof BigInteger) {
+            return ((BigInteger) number).bitLength() < 64;
+        }
+        return false;
+    }
+
+    /**
+     * Compares {@code x} and {@code y} exactly, that is without rounding {@code x} to the nearest 
+     * {@code double} first; NaN is considered greater than any {@code long}.
+     */
+    private static int compareLongToDouble(long x, double y) {
+        if(Double.isNaN(y) || y >= 0x1p63) {
+            return -1;
+        }
+        if(y < -0x1p63) {
+            return 1;
+        }
+        final long truncated = (long) y;
+        if(x != truncated) {
+            return Long.compare(x, truncated);
+        }
+        // truncation is towards zero, so the sign of the (exact) remaining fraction decides
+        final double fraction = y - truncated;
+        return fraction > 0 ? -1 : fraction < 0 ? 1 : 0;
+    }
+
+    private static Number multiplyLong(long x, long y) {
+        final long product = x * y;
+        final long abs_x = Math.abs(x);
+        final long abs_y = Math.abs(y);
+        // fast path, neither argument exceeds 31 bits, so the product cannot overflow 
+        if(((abs_x | abs_y) >>> 31) != 0) {
+            if((y != 0 && product / y != x) || (x == Long.MIN_VALUE && y == -1)) {
+                return (double)x * (double)y; // widen to double
+            }
+        }
+        return product;
+    }
+
+}
@@ -52,13 +52,14 @@ public final class QuantityStreams {
   }
 
   /**
-   * Summary of Quantity
+   * Summary of Quantity, suitable for parallel streams since partial summaries are combined.
    * 
    * @return the QuantitySummaryStatistics
    */
   public static <Q extends Quantity<Q>> Collector<Quantity<Q>, QuantitySummaryStatistics<Q>, QuantitySummaryStatistics<Q>> summarizeQuantity(
 			Unit<Q> unit) {
 		Supplier<QuantitySummaryStatistics<Q>> supplier = () -> new QuantitySummaryStatistics<>(unit);
-		return Collector.of(supplier, QuantitySummaryStatistics<Q>::accept, QuantitySummaryStatistics<Q>::combine);
+		return Collector.of(supplier, QuantitySummaryStatistics<Q>::accept, QuantitySummaryStatistics<Q>::combine,
+				Collector.Characteristics.UNORDERED);
 	}
 }
@@ -29,40 +29,66 @@
  */
 package tech.units.indriya.function;
 
-import static tech.uom.lib.common.function.QuantityFunctions.*;
-
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.BinaryOperator;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 
+import tech.units.indriya.internal.function.ScaleHelper;
 import tech.units.indriya.quantity.Quantities;
 
 /**
+ * A state object for collecting statistics such as count, min, max, sum, and average of quantities, stated in a target {@link Unit}.
+ * <p>
+ * Quantities are converted to the target unit as they are accepted and accumulated as primitive {@code double}s, with the sum
+ * being compensated for rounding errors (Kahan-Babuska summation). Quantities are only created on retrieval.
+ * <p>
+ * The sum follows the semantics of {@link Quantity#add(Quantity)}, hence amounts stated in a unit with an offset (such as degrees
+ * Celsius) are summed in the system unit: 10 and 20 degrees Celsius sum up to 576.3 Kelvin, that is 303.15 degrees Celsius.
+ * <p>
+ * This class is designed to work with (parallel) streams, see {@link QuantityStreams#summarizeQuantity(Unit)}; like
+ * {@link java.util.DoubleSummaryStatistics} it is not thread-safe by itself.
+ * 
  * @author Otavio
  * @author Werner
- * @version 1.2
+ * @version 2.0
  * @since 1.0
  * @param <Q>
  */
 public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
 
-  private final Quantity<Q> empty;
+  private final Unit<Q> unit;
 
   private long count;
 
-  private Quantity<Q> min;
+  private double min = Double.POSITIVE_INFINITY;
 
-  private Quantity<Q> max;
+  private double max = Double.NEGATIVE_INFINITY;
 
-  private Quantity<Q> sum;
+  private double sum;
 
-  private Quantity<Q> average;
+  /**
+   * Low order bits of the sum, lost when adding to {@link #sum}.
+   */
+  private double sumCompensation;
+
+  /**
+   * Whether all accepted amounts were of an integer type, if so a zero result is reported as integer zero.
+   */
+  private boolean integral = true;
+
+  /**
+   * Converters from the units of accepted quantities to {@link #unit}, with the most recent one kept at hand.
+   */
+  private final Map<Unit<Q>, UnitConverter> converters = new HashMap<>();
 
-  private final BinaryOperator<Quantity<Q>> minFunctions = min();
+  private Unit<Q> lastUnit;
 
-  private final BinaryOperator<Quantity<Q>> maxFunctions = max();
+  private UnitConverter lastConverter;
 
   /**
    * Creates a new instance, targeting the given {@link javax.measure.Unit}.
@@ -71,8 +97,7 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
    *          the target unit, not null.
    */
   QuantitySummaryStatistics(Unit<Q> unit) {
-    empty = Quantities.getQuantity(0, unit);
-    setQuantity(empty);
+    this.unit = Objects.requireNonNull(unit);
   }
 
   /**
@@ -82,54 +107,105 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
    *          the input quantity value to be added, not null.
    */
   public void accept(Quantity<Q> quantity) {
-
     Objects.requireNonNull(quantity);
-
-    if (isEmpty()) {
-      setQuantity(quantity.to(empty.getUnit()));
-      count++;
-    } else {
-      doSummary(quantity.to(empty.getUnit()));
-    }
+    final double value = converterFrom(quantity.getUnit()).convert(quantity.getValue().doubleValue());
+    count++;
+    integral &= isIntegerType(quantity.getValue());
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    addToSum(value, 0);
   }
 
   /**
-   * Combines the state of another {@code QuantitySummaryStatistics} into this one.
+   * Combines the state of another {@code QuantitySummaryStatistics} into this one. If the other summary targets a different unit,
+   * its state is converted to the unit of this summary.
    * 
    * @param quantitySummary
    *          another {@code QuantitySummaryStatistics}, not null.
+   * @return this summary
    */
   public QuantitySummaryStatistics<Q> combine(QuantitySummaryStatistics<Q> quantitySummary) {
     Objects.requireNonNull(quantitySummary);
-
-    if (!equals(quantitySummary)) {
+    if (quantitySummary.count == 0) {
       return this;
     }
-
-    min = minFunctions.apply(min, quantitySummary.min.to(empty.getUnit()));
-    max = maxFunctions.apply(max, quantitySummary.max.to(empty.getUnit()));
-    sum = sum.add(quantitySummary.sum);
+    if (unit.equals(quantitySummary.unit)) {
+      min = Math.min(min, quantitySummary.min);
+      max = Math.max(max, quantitySummary.max);
+      addToSum(quantitySummary.sum, quantitySummary.sumCompensation);
+    } else {
+      final UnitConverter converter = quantitySummary.unit.getConverterTo(unit);
+      final double convertedMin = converter.convert(quantitySummary.min);
+      final double convertedMax = converter.convert(quantitySummary.max);
+      // the converter might be decreasing
+      min = Math.min(min, Math.min(convertedMin, convertedMax));
+      max = Math.max(max, Math.max(convertedMin, convertedMax));
+      addToSum(convertSum(converter, quantitySummary.sum(), quantitySummary.count), 0);
+    }
     count += quantitySummary.count;
-    average = sum.divide(count);
+    integral &= quantitySummary.integral;
     return this;
   }
 
-  private void doSummary(Quantity<Q> moneraty) {
-    min = minFunctions.apply(min, moneraty);
-    max = maxFunctions.apply(max, moneraty);
-    sum = sum.add(moneraty);
-    average = sum.divide(++count);
+  private UnitConverter converterFrom(Unit<Q> sourceUnit) {
+    if (sourceUnit == lastUnit) {
+      return lastConverter;
+    }
+    final UnitConverter converter = converters.computeIfAbsent(sourceUnit, u -> u.getConverterTo(unit));
+    lastUnit = sourceUnit;
+    lastConverter = converter;
+    return converter;
+  }
+
+  /**
+   * Adds {@code value} and its low order bits {@code compensation} to the sum, following the Kahan-Babuska (Neumaier) algorithm.
+   */
+  private void addToSum(double value, double compensation) {
+    final double t = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      sumCompensation += (sum - t) + value;
+    } else {
+      sumCompensation += (value - t) + sum;
+    }
+    sumCompensation += compensation;
+    sum = t;
+  }
+
+  private double sum() {
+    final double total = sum + sumCompensation;
+    // an infinite sum yields NaN for the compensation
+    return Double.isNaN(total) && Double.isInfinite(sum) ? sum : total;
+  }
+
+  /**
+   * The sum of all amounts, with any offset of {@link #unit} applied once as by {@link Quantity#add(Quantity)}.
+   */
+  private double sumOfAmounts() {
+    final double total = sum();
+    if (count == 0 || ScaleHelper.isLinear(unit)) {
+      return total;
+    }
+    final UnitConverter toSystemUnit = unit.getConverterTo(unit.getSystemUnit());
+    return toSystemUnit.inverse().convert(convertSum(toSystemUnit, total, count));
   }
 
-  private boolean isEmpty() {
-    return count == 0;
+  private static boolean isIntegerType(Number number) {
+    return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte
+        || number instanceof BigInteger;
   }
 
-  private void setQuantity(Quantity<Q> quantity) {
-    min = quantity;
-    max = quantity;
-    sum = quantity;
-    average = quantity;
+  /**
+   * Converts a sum of {@code count} values via their average, which also holds for converters having an offset.
+   */
+  private static double convertSum(UnitConverter converter, double sum, long count) {
+    return count == 0 ? 0 : converter.convert(sum / count) * count;
+  }
+
+  private Quantity<Q> quantityOf(double value) {
+    if (value == 0 && integral) {
+      return Quantities.getQuantity(0, unit);
+    }
+    return Quantities.getQuantity(value, unit);
   }
 
   /**
@@ -144,10 +220,10 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
   /**
    * Get the minimal quantity found within this summary.
    * 
-   * @return the minimal quantity
+   * @return the minimal quantity, zero if no quantities have been recorded
    */
   public Quantity<Q> getMin() {
-    return min;
+    return quantityOf(count == 0 ? 0 : min);
   }
 
   /**
@@ -158,16 +234,16 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
    * @return the minimal quantity converted to this unit
    */
   public Quantity<Q> getMin(Unit<Q> unit) {
-    return min.to(unit);
+    return getMin().to(unit);
   }
 
   /**
    * Get the maximal amount found within this summary.
    * 
-   * @return the maximal quantity
+   * @return the maximal quantity, zero if no quantities have been recorded
    */
   public Quantity<Q> getMax() {
-    return max;
+    return quantityOf(count == 0 ? 0 : max);
   }
 
   /**
@@ -178,16 +254,16 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
    * @return the maximal quantity converted to this unit
    */
   public Quantity<Q> getMax(Unit<Q> unit) {
-    return max.to(unit);
+    return getMax().to(unit);
   }
 
   /**
-   * Get the sum of all amounts within this summary.
+   * Get the sum of all amounts within this summary, as if added by {@link Quantity#add(Quantity)}.
    * 
    * @return the total amount
    */
   public Quantity<Q> getSum() {
-    return sum;
+    return quantityOf(sumOfAmounts());
   }
 
   /**
@@ -198,16 +274,16 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
    * @return the total amount converted to this unit
    */
   public Quantity<Q> getSum(Unit<Q> unit) {
-    return sum.to(unit);
+    return getSum().to(unit);
   }
 
   /**
    * Get the quantity average of all amounts added.
    * 
-   * @return the quantity average quantity
+   * @return the quantity average quantity, zero if no quantities have been recorded
    */
   public Quantity<Q> getAverage() {
-    return average;
+    return quantityOf(count == 0 ? 0 : sum() / count);
   }
 
   /**
@@ -218,7 +294,7 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
    * @return the average quantity converted to this unit
    */
   public Quantity<Q> getAverage(Unit<Q> unit) {
-    return average.to(unit);
+    return getAverage().to(unit);
   }
 
   /**
@@ -229,13 +305,7 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
    * @return the summary converted to this unit
    */
   public QuantitySummaryStatistics<Q> to(Unit<Q> unit) {
-    QuantitySummaryStatistics<Q> summary = new QuantitySummaryStatistics<>(unit);
-    summary.average = average.to(unit);
-    summary.count = count;
-    summary.max = max.to(unit);
-    summary.min = min.to(unit);
-    summary.sum = sum.to(unit);
-    return summary;
+    return new QuantitySummaryStatistics<>(unit).combine(this);
   }
 
   /**
@@ -246,25 +316,25 @@ public class QuantitySummaryStatistics<Q extends Quantity<Q>> {
     if (QuantitySummaryStatistics.class.isInstance(obj)) {
       @SuppressWarnings("rawtypes")
       QuantitySummaryStatistics other = QuantitySummaryStatistics.class.cast(obj);
-      return Objects.equals(empty.getUnit(), other.empty.getUnit());
+      return Objects.equals(unit, other.unit);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return empty.getUnit().hashCode();
+    return unit.hashCode();
   }
 
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder();
-    sb.append("[unit: ").append(empty.getUnit()).append(",");
+    sb.append("[unit: ").append(unit).append(",");
     sb.append("count:").append(count).append(",");
-    sb.append("min:").append(min).append(",");
-    sb.append("max:").append(max).append(",");
-    sb.append("sum:").append(sum).append(",");
-    sb.append("average:").append(average).append("]");
+    sb.append("min:").append(getMin()).append(",");
+    sb.append("max:").append(getMax()).append(",");
+    sb.append("sum:").append(getSum()).append(",");
+    sb.append("average:").append(getAverage()).append("]");
     return sb.toString();
   }
 }
@@ -0,0 +1,187 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+/**
+ * Renders numbers as ASCII digits into a {@code char[]}, without allocating.
+ * <p>
+ * {@link #render(long, char[], int)} yields the same text as {@link Long#toString(long)}.
+ * {@link #renderDecimal(double, char[], int)} yields the same text as {@link Double#toString(double)}
+ * for the common case of values in plain (non-scientific) notation with at most
+ * {@value #MAX_DECIMAL_DIGITS} significant digits, and declines any other value, which callers
+ * then render by other means.
+ *
+ * @since 2.2
+ */
+public final class NumberRenderer {
+
+    /**
+     * Maximum number of characters written by {@link #render(long, char[], int)}.
+     */
+    public static final int MAX_LONG_LENGTH = 20;
+
+    /**
+     * Maximum number of significant digits rendered by {@link #renderDecimal(double, char[], int)}.
+     */
+    public static final int MAX_DECIMAL_DIGITS = 15;
+
+    /**
+     * Maximum number of characters written by {@link #renderDecimal(double, char[], int)}.
+     */
+    public static final int MAX_DECIMAL_LENGTH = 21;
+
+    // Double.toString switches to scientific notation outside of [10^-3, 10^7)
+    private static final double MIN_PLAIN = 1e-3;
+    private static final double MAX_PLAIN = 1e7;
+
+    // unscaled values below 10^15 denote a unique double, and are exact within the double range
+    private static final double MAX_UNSCALED = 1e15;
+
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18 };
+
+    private static final char[] DIGIT_TENS = new char[100];
+    private static final char[] DIGIT_ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    private NumberRenderer() {
+    }
+
+    /**
+     * Returns the number of characters of the given value in decimal notation, including its sign.
+     * 
+     * @param value the value.
+     * @return the length of {@code Long.toString(value)}.
+     */
+    public static int length(long value) {
+        // counts on the negative magnitude, which also covers Long.MIN_VALUE
+        int sign = 1;
+        if (value >= 0) {
+            sign = 0;
+            value = -value;
+        }
+        long limit = -10;
+        for (int digits = 1; digits < 19; digits++) {
+            if (value > limit) {
+                return digits + sign;
+            }
+            limit *= 10;
+        }
+        return 19 + sign;
+    }
+
+    /**
+     * Renders the given value in decimal notation.
+     * 
+     * @param value the value.
+     * @param dest the destination, with room for at least {@link #length(long)} characters.
+     * @param offset the index of the first character in {@code dest}.
+     * @return the index after the last character written.
+     */
+    public static int render(long value, char[] dest, int offset) {
+        final int end = offset + length(value);
+        final boolean negative = value < 0;
+        if (!negative) {
+            value = -value;
+        }
+        int pos = end;
+        while (value <= -100) {
+            final long quotient = value / 100;
+            final int remainder = (int) (quotient * 100 - value);
+            value = quotient;
+            dest[--pos] = DIGIT_ONES[remainder];
+            dest[--pos] = DIGIT_TENS[remainder];
+        }
+        final int remainder = (int) -value;
+        dest[--pos] = DIGIT_ONES[remainder];
+        if (remainder >= 10) {
+            dest[--pos] = DIGIT_TENS[remainder];
+        }
+        if (negative) {
+            dest[--pos] = '-';
+        }
+        return end;
+    }
+
+    /**
+     * Renders the given value in plain decimal notation, if it is the shortest representation, as
+     * chosen by {@link Double#toString(double)}.
+     * 
+     * @param value the value.
+     * @param dest the destination, with room for at least {@link #MAX_DECIMAL_LENGTH} characters.
+     * @param offset the index of the first character in {@code dest}.
+     * @return the index after the last character written, or {@code -1} if nothing was written,
+     *          since {@link Double#toString(double)} would render the value differently.
+     */
+    public static int renderDecimal(double value, char[] dest, int offset) {
+        final double magnitude = Math.abs(value);
+        if (!(magnitude >= MIN_PLAIN && magnitude < MAX_PLAIN)) {
+            return -1; // also rules out zero, NaN and infinities
+        }
+        // finds the least number of fraction digits denoting the value, at least one
+        for (int scale = 1; scale < POWERS_OF_TEN.length; scale++) {
+            final double unscaled = Math.rint(magnitude * POWERS_OF_TEN[scale]);
+            if (unscaled >= MAX_UNSCALED) {
+                return -1;
+            }
+            // both operands are exact, hence the quotient is the double nearest to the decimal
+            if (unscaled / POWERS_OF_TEN[scale] == magnitude) {
+                return renderScaled((long) unscaled, scale, value < 0, dest, offset);
+            }
+        }
+        return -1;
+    }
+
+    private static int renderScaled(long unscaled, int scale, boolean negative, char[] dest, int offset) {
+        final int integerDigits = Math.max(length(unscaled) - scale, 1);
+        int start = offset;
+        if (negative) {
+            dest[start++] = '-';
+        }
+        final int end = start + integerDigits + 1 + scale;
+        int pos = end;
+        for (int i = 0; i < scale; i++) {
+            dest[--pos] = (char) ('0' + unscaled % 10);
+            unscaled /= 10;
+        }
+        dest[--pos] = '.';
+        do {
+            dest[--pos] = (char) ('0' + unscaled % 10);
+            unscaled /= 10;
+        } while (pos > start);
+        return end;
+    }
+}
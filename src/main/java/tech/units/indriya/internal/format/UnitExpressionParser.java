@@ -0,0 +1,516 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.format.Token;
+import tech.units.indriya.format.TokenException;
+import tech.units.indriya.format.TokenMgrError;
+import tech.units.indriya.function.LogConverter;
+import tech.units.indriya.function.MultiplyConverter;
+
+/**
+ * Hand-written recursive descent parser for unit expressions, accepting the same grammar and producing the same units as the generated
+ * {@link UnitFormatParser}, which remains as a reference.
+ * <p>
+ * Tokens are read directly from the given {@link CharSequence}, only their kind and bounds are kept, no {@link Token} objects are created unless an
+ * error is reported. Instances hold no parsing state, hence are thread-safe as long as the {@link SymbolMap} is not modified concurrently.
+ * <p>
+ * Syntax errors are reported as {@link TokenException} with the last consumed token as {@link TokenException#currentToken current token}, lexical
+ * errors as {@link TokenMgrError}, exactly like the generated parser.
+ *
+ * @since 2.2
+ */
+public final class UnitExpressionParser implements UnitTokenConstants {
+
+  private final SymbolMap symbols;
+
+  public UnitExpressionParser(SymbolMap symbols) {
+    this.symbols = symbols;
+  }
+
+  /**
+   * Parses the characters from {@code start} (inclusive) to {@code end} (exclusive) as a whole.
+   *
+   * @param csq
+   *          the characters to parse.
+   * @param start
+   *          the index of the first character.
+   * @param end
+   *          the index after the last character.
+   * @return the parsed unit.
+   * @throws TokenException
+   *           if the characters do not conform to the grammar, or contain unknown unit identifiers.
+   */
+  public Unit<?> parse(CharSequence csq, int start, int end) throws TokenException {
+    final Lexer lexer = new Lexer(csq, start, end);
+    final Unit<?> result = mixExpr(lexer);
+    lexer.consume(EOF);
+    return result;
+  }
+
+  //
+  // Parser productions
+  //
+  private Unit<?> mixExpr(Lexer lexer) {
+    final Unit<?> result = addExpr(lexer);
+    while (lexer.kind() == COLON) {
+      lexer.consume(COLON);
+    }
+    return result;
+  }
+
+  private Unit<?> addExpr(Lexer lexer) {
+    Number n1 = null;
+    boolean negative1 = false;
+    if (isNumber(lexer.kind()) && isSign(lexer.peekKind())) {
+      n1 = numberExpr(lexer);
+      negative1 = sign(lexer);
+    }
+    Unit<?> result = mulExpr(lexer);
+    if (isSign(lexer.kind())) {
+      final boolean negative2 = sign(lexer);
+      final double offset = numberExpr(lexer).doubleValue();
+      if (n1 != null) {
+        result = shift(result, n1, negative1);
+      }
+      return result.shift(negative2 ? -offset : offset);
+    }
+    return n1 != null ? shift(result, n1, negative1) : result;
+  }
+
+  private static Unit<?> shift(Unit<?> unit, Number n, boolean negative) {
+    return (negative ? unit.multiply(-1) : unit).shift(n.doubleValue());
+  }
+
+  private Unit<?> mulExpr(Lexer lexer) {
+    Unit<?> result = exponentExpr(lexer);
+    while (true) {
+      switch (lexer.kind()) {
+        case ASTERISK:
+        case MIDDLE_DOT:
+          lexer.consume(lexer.kind());
+          result = result.multiply(exponentExpr(lexer));
+          break;
+        case SOLIDUS:
+          lexer.consume(SOLIDUS);
+          result = result.divide(exponentExpr(lexer));
+          break;
+        default:
+          return result;
+      }
+    }
+  }
+
+  private Unit<?> exponentExpr(Lexer lexer) {
+    final int kind = lexer.kind();
+    if ((kind == INTEGER || kind == E) && lexer.peekKind() == CARET) {
+      final double base = kind == INTEGER ? Integer.parseInt(lexer.consumeImage(INTEGER)) : consumeE(lexer);
+      lexer.consume(CARET);
+      return atomicExpr(lexer).transform(new LogConverter(base).inverse());
+    }
+    switch (kind) {
+      case OPEN_PAREN:
+      case INTEGER:
+      case FLOATING_POINT:
+      case UNIT_IDENTIFIER:
+        final Unit<?> result = atomicExpr(lexer);
+        final int next = lexer.kind();
+        return next == CARET || next == SUPERSCRIPT_INTEGER ? exp(lexer, result) : result;
+      case LOG:
+      case NAT_LOG:
+        double base = 10;
+        lexer.consume(kind);
+        if (kind == NAT_LOG) {
+          base = Math.E;
+        } else if (lexer.kind() == INTEGER) {
+          base = Integer.parseInt(lexer.consumeImage(INTEGER));
+        }
+        lexer.consume(OPEN_PAREN);
+        final Unit<?> operand = addExpr(lexer);
+        lexer.consume(CLOSE_PAREN);
+        return operand.transform(new LogConverter(base));
+      default:
+        throw lexer.syntaxError();
+    }
+  }
+
+  private static double consumeE(Lexer lexer) {
+    lexer.consume(E);
+    return Math.E;
+  }
+
+  private Unit<?> atomicExpr(Lexer lexer) {
+    switch (lexer.kind()) {
+      case INTEGER:
+      case FLOATING_POINT:
+        return AbstractUnit.ONE.multiply(numberExpr(lexer).doubleValue());
+      case UNIT_IDENTIFIER:
+        final String identifier = lexer.consumeImage(UNIT_IDENTIFIER);
+        final Unit<?> unit = symbols.getUnit(identifier);
+        if (unit != null) {
+          return unit;
+        }
+        final Prefix prefix = symbols.getPrefix(identifier);
+        if (prefix != null) {
+          final Unit<?> prefixed = symbols.getUnit(identifier.substring(symbols.getSymbol(prefix).length()));
+          if (prefixed != null) {
+            return prefixed.transform(MultiplyConverter.ofPrefix(prefix));
+          }
+        }
+        throw new TokenException();
+      case OPEN_PAREN:
+        lexer.consume(OPEN_PAREN);
+        final Unit<?> result = addExpr(lexer);
+        lexer.consume(CLOSE_PAREN);
+        return result;
+      default:
+        throw lexer.syntaxError();
+    }
+  }
+
+  /**
+   * Consumes a sign, returning whether it is negative.
+   */
+  private static boolean sign(Lexer lexer) {
+    if (!isSign(lexer.kind())) {
+      throw lexer.syntaxError();
+    }
+    final boolean negative = lexer.kind() == MINUS;
+    lexer.consume(lexer.kind());
+    return negative;
+  }
+
+  private static Number numberExpr(Lexer lexer) {
+    switch (lexer.kind()) {
+      case INTEGER:
+        return Long.valueOf(lexer.consumeImage(INTEGER));
+      case FLOATING_POINT:
+        return Double.valueOf(lexer.consumeImage(FLOATING_POINT));
+      default:
+        throw lexer.syntaxError();
+    }
+  }
+
+  /**
+   * Parses an exponent and applies it to given {@code unit}.
+   */
+  private static Unit<?> exp(Lexer lexer, Unit<?> unit) {
+    int pow;
+    int root = 1;
+    if (lexer.kind() == SUPERSCRIPT_INTEGER) {
+      final int from = lexer.tokenStart;
+      final int to = lexer.tokenEnd;
+      lexer.consume(SUPERSCRIPT_INTEGER);
+      pow = 0;
+      for (int i = from; i < to; i++) {
+        pow = pow * 10 + superscriptDigit(lexer.csq.charAt(i));
+      }
+    } else {
+      lexer.consume(CARET);
+      switch (lexer.kind()) {
+        case PLUS:
+        case MINUS:
+        case INTEGER:
+          pow = signedInteger(lexer);
+          break;
+        case OPEN_PAREN:
+          lexer.consume(OPEN_PAREN);
+          pow = signedInteger(lexer);
+          if (lexer.kind() == SOLIDUS) {
+            lexer.consume(SOLIDUS);
+            root = signedInteger(lexer);
+          }
+          lexer.consume(CLOSE_PAREN);
+          break;
+        default:
+          throw lexer.syntaxError();
+      }
+    }
+    Unit<?> result = unit;
+    if (pow != 1) {
+      result = result.pow(pow);
+    }
+    if (root != 1) {
+      result = result.root(root);
+    }
+    return result;
+  }
+
+  private static int signedInteger(Lexer lexer) {
+    final boolean negative = isSign(lexer.kind()) && sign(lexer);
+    final int value = Integer.parseInt(lexer.consumeImage(INTEGER));
+    return negative ? -value : value;
+  }
+
+  private static int superscriptDigit(char c) {
+    switch (c) {
+      case '\u00b9':
+        return 1;
+      case '\u00b2':
+        return 2;
+      case '\u00b3':
+        return 3;
+      case '\u2074':
+      case '\u2075':
+      case '\u2076':
+      case '\u2077':
+      case '\u2078':
+      case '\u2079':
+        return c - '\u2070';
+      default: // '\u2070'
+        return 0;
+    }
+  }
+
+  private static boolean isNumber(int kind) {
+    return kind == INTEGER || kind == FLOATING_POINT;
+  }
+
+  private static boolean isSign(int kind) {
+    return kind == PLUS || kind == MINUS;
+  }
+
+  //
+  // Lexer
+  //
+  /**
+   * Splits the characters into tokens on demand, keeping the kind and bounds of the next token and the bounds of the last consumed one. Like the
+   * generated {@link UnitTokenManager}, it yields the longest match, preferring the lower kind among matches of equal length, and only reads a token
+   * once the parser asks for it.
+   */
+  private static final class Lexer {
+    private final CharSequence csq;
+    private final int start;
+    private final int end;
+    /** Kind of the next token, -1 if not read yet. */
+    private int kind = -1;
+    private int tokenStart;
+    private int tokenEnd;
+    private int consumedKind = -1;
+    private int consumedStart;
+    private int consumedEnd;
+
+    private Lexer(CharSequence csq, int start, int end) {
+      this.csq = csq;
+      this.start = start;
+      this.end = end;
+      this.consumedStart = start;
+      this.consumedEnd = start;
+    }
+
+    private int kind() {
+      if (kind == -1) {
+        tokenStart = consumedEnd;
+        final long token = scan(tokenStart);
+        kind = (int) (token >>> 32);
+        tokenEnd = (int) token;
+      }
+      return kind;
+    }
+
+    /**
+     * @return the kind of the token following the next one.
+     */
+    private int peekKind() {
+      kind();
+      return (int) (scan(tokenEnd) >>> 32);
+    }
+
+    private void consume(int expected) {
+      if (kind() != expected) {
+        throw syntaxError();
+      }
+      consumedKind = kind;
+      consumedStart = tokenStart;
+      consumedEnd = tokenEnd;
+      kind = -1;
+    }
+
+    private String consumeImage(int expected) {
+      consume(expected);
+      return csq.subSequence(consumedStart, consumedEnd).toString();
+    }
+
+    private TokenException syntaxError() {
+      final Token current;
+      if (consumedKind == -1) {
+        // the blank token the generated parser starts from
+        current = new Token();
+      } else {
+        current = Token.of(consumedKind, csq.subSequence(consumedStart, consumedEnd).toString());
+        current.beginColumn = consumedStart - start + 1;
+        current.endColumn = consumedEnd - start;
+        current.beginLine = current.endLine = 1;
+      }
+      final String encountered = kind() == EOF ? tokenImage[EOF] : csq.subSequence(tokenStart, tokenEnd).toString();
+      final TokenException e = new TokenException("Encountered \"" + encountered + "\" at column " + (tokenStart - start + 1) + ".");
+      e.currentToken = current;
+      return e;
+    }
+
+    /**
+     * Reads the token starting at {@code from}.
+     *
+     * @return the kind of the token in the upper, its end index in the lower 32 bits.
+     */
+    private long scan(int from) {
+      if (from >= end) {
+        return token(EOF, from);
+      }
+      final char c = csq.charAt(from);
+      switch (c) {
+        case '(':
+          return token(OPEN_PAREN, from + 1);
+        case ')':
+          return token(CLOSE_PAREN, from + 1);
+        case '*':
+          return token(ASTERISK, from + 1);
+        case '+':
+          return token(PLUS, from + 1);
+        case '-':
+          return token(MINUS, from + 1);
+        case '/':
+          return token(SOLIDUS, from + 1);
+        case ':':
+          return token(COLON, from + 1);
+        case '^':
+          return token(CARET, from + 1);
+        case '\u00b7':
+          return token(MIDDLE_DOT, from + 1);
+        default:
+          break;
+      }
+      if (isDigit(c) || c == '.') {
+        final int integerEnd = digitsEnd(from);
+        final int floatingPointEnd = floatingPointEnd(from);
+        if (integerEnd > from && integerEnd >= floatingPointEnd) {
+          return token(INTEGER, integerEnd);
+        }
+        if (floatingPointEnd > from) {
+          return token(FLOATING_POINT, floatingPointEnd);
+        }
+      } else if (isSuperscriptDigit(c)) {
+        int i = from + 1;
+        while (i < end && isSuperscriptDigit(csq.charAt(i))) {
+          i++;
+        }
+        return token(SUPERSCRIPT_INTEGER, i);
+      } else if (isInitialChar(c)) {
+        int i = from + 1;
+        while (i < end && (isInitialChar(csq.charAt(i)) || isDigit(csq.charAt(i)))) {
+          i++;
+        }
+        // keywords take precedence over identifiers of the same length
+        if (i == from + 1 && c == 'e') {
+          return token(E, i);
+        }
+        if (i == from + 2 && c == 'l' && csq.charAt(from + 1) == 'n') {
+          return token(NAT_LOG, i);
+        }
+        if (i == from + 3 && c == 'l' && csq.charAt(from + 1) == 'o' && csq.charAt(from + 2) == 'g') {
+          return token(LOG, i);
+        }
+        return token(UNIT_IDENTIFIER, i);
+      }
+      throw new TokenMgrError("Lexical error at column " + (from - start + 1) + ". Encountered: \"" + c + "\"", TokenMgrError.LEXICAL_ERROR);
+    }
+
+    /**
+     * Returns the end of the longest floating point number starting at {@code from}, or {@code from} if there is none. Floating point numbers
+     * consist of digits with an optional decimal point (followed by at least one digit) and an optional exponent.
+     */
+    private int floatingPointEnd(int from) {
+      final int integerEnd = digitsEnd(from);
+      int mantissaEnd = integerEnd;
+      if (integerEnd < end && csq.charAt(integerEnd) == '.' && digitsEnd(integerEnd + 1) > integerEnd + 1) {
+        mantissaEnd = digitsEnd(integerEnd + 1);
+      } else if (integerEnd == from) {
+        return from;
+      }
+      if (mantissaEnd < end && (csq.charAt(mantissaEnd) == 'e' || csq.charAt(mantissaEnd) == 'E')) {
+        int i = mantissaEnd + 1;
+        if (i < end && (csq.charAt(i) == '+' || csq.charAt(i) == '-')) {
+          i++;
+        }
+        final int exponentEnd = digitsEnd(i);
+        if (exponentEnd > i) {
+          return exponentEnd;
+        }
+      }
+      return mantissaEnd;
+    }
+
+    private int digitsEnd(int from) {
+      int i = from;
+      while (i < end && isDigit(csq.charAt(i))) {
+        i++;
+      }
+      return i;
+    }
+
+    private static long token(int kind, int end) {
+      return ((long) kind << 32) | end;
+    }
+
+    private static boolean isDigit(char c) {
+      return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSuperscriptDigit(char c) {
+      return c == '\u00b2' || c == '\u00b3' || c == '\u00b9' || c == '\u2070' || (c >= '\u2074' && c <= '\u2079');
+    }
+
+    private static boolean isInitialChar(char c) {
+      if (c <= ' ') {
+        return false;
+      }
+      switch (c) {
+        case '(':
+        case ')':
+        case '*':
+        case '+':
+        case '-':
+        case '.':
+        case '/':
+        case ':':
+        case '^':
+        case '\u00b7':
+          return false;
+        default:
+          return !isDigit(c) && !isSuperscriptDigit(c);
+      }
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A bounded, concurrent cache for unit formats, mapping parsed text to units or units to their
+ * formatted text.
+ * <p>
+ * The cache is direct mapped, each key hashes to exactly one slot and a newly cached key 
+ * replaces whatever key occupied that slot before. Readers never block, the worst outcome of a 
+ * race is a value computed twice.
+ * <p>
+ * Since results depend on the labels and aliases of the format, each entry is stamped with the
+ * generation of those the value was computed with. Callers obtain the generation <em>before</em>
+ * computing a value, so a value computed while labels change is never served afterwards.
+ * <p>
+ * Keys are matched by {@code equals}, by identity, or by a custom equivalence along with a 
+ * consistent hash function. The latter suits units as keys, since equal units (e.g. product units 
+ * differing in the order of their elements) may format differently.
+ * 
+ * @param <K> the type of keys
+ * @param <V> the type of cached values
+ * @since 2.2
+ */
+public final class UnitFormatCache<K, V> {
+    
+    /**
+     * The default number of slots.
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+    
+    private final AtomicReferenceArray<Entry<K, V>> slots;
+    private final int mask;
+    private final ToIntFunction<? super K> hashFunction;
+    private final BiPredicate<? super K, ? super K> equivalence;
+    
+    /**
+     * Creates a cache holding at most {@code capacity} keys, rounded up to the next power of two.
+     * @param capacity
+     * @param identityKeys whether keys are matched by identity rather than {@code equals}
+     * @throws IllegalArgumentException if {@code capacity} is not within {@code [1, 2^30]}
+     */
+    public UnitFormatCache(int capacity, boolean identityKeys) {
+        this(capacity, 
+                identityKeys ? System::identityHashCode : Object::hashCode, 
+                identityKeys ? (a, b) -> false : Object::equals);
+    }
+    
+    /**
+     * Creates a cache holding at most {@code capacity} keys, rounded up to the next power of two,
+     * matching keys by given {@code equivalence}.
+     * @param capacity
+     * @param hashFunction hash of a key, equal for equivalent keys
+     * @param equivalence whether two (non-identical) keys are to be considered the same
+     * @throws IllegalArgumentException if {@code capacity} is not within {@code [1, 2^30]}
+     */
+    public UnitFormatCache(int capacity, ToIntFunction<? super K> hashFunction, 
+            BiPredicate<? super K, ? super K> equivalence) {
+        if(capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if(size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.hashFunction = Objects.requireNonNull(hashFunction);
+        this.equivalence = Objects.requireNonNull(equivalence);
+    }
+    
+    /**
+     * Returns the value cached for {@code key} at given {@code generation} or {@code null} if 
+     * there is none.
+     * @param key
+     * @param generation
+     * @return the cached value or {@code null}
+     */
+    public V get(K key, int generation) {
+        final int hash = hash(key);
+        final Entry<K, V> entry = slots.get(hash & mask);
+        if(entry != null && entry.hash == hash && entry.generation == generation 
+                && (entry.key == key || equivalence.test(entry.key, key))) {
+            return entry.value;
+        }
+        return null;
+    }
+    
+    /**
+     * Caches given {@code value} for {@code key}, evicting any other key that shared the same slot.
+     * @param key
+     * @param value
+     * @param generation the generation obtained before computing the value
+     */
+    public void put(K key, V value, int generation) {
+        Objects.requireNonNull(value);
+        final int hash = hash(key);
+        slots.set(hash & mask, new Entry<>(hash, key, value, generation));
+    }
+    
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        for(int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+    
+    /**
+     * @return the maximum number of keys this cache can hold
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+    
+    // -- HELPER
+    
+    private int hash(K key) {
+        final int h = hashFunction.applyAsInt(key);
+        return h ^ (h >>> 16); // spread higher bits, as only the lower ones select the slot
+    }
+    
+    private static final class Entry<K, V> {
+        private final int hash;
+        private final K key;
+        private final V value;
+        private final int generation;
+        
+        private Entry(int hash, K key, V value, int generation) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.generation = generation;
+        }
+    }
+    
+}
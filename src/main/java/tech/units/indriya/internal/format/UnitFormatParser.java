@@ -209,7 +209,7 @@ public final class UnitFormatParser implements UnitTokenConstants {
       if (theToken.kind == INTEGER) {
         base = Integer.parseInt(theToken.image);
       } else {
-        base = E;
+        base = Math.E;
       }
       {
         if (true)
@@ -268,7 +268,7 @@ public final class UnitFormatParser implements UnitTokenConstants {
             if (theToken.kind == INTEGER) {
               base = Integer.parseInt(theToken.image);
             } else if (theToken.kind == NAT_LOG) {
-              base = E;
+              base = Math.E;
             }
           }
           return result.transform(new LogConverter(base));
@@ -33,6 +33,7 @@ package tech.units.indriya.internal.function;
 import java.util.Objects;
 
 import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.DefaultNumberSystem;
 import tech.units.indriya.spi.NumberSystem;
 
 /**
@@ -65,6 +66,119 @@ public final class Calculator {
         return getInstance().load(number);
     }
 
+    /**
+     * @return whether the current {@link NumberSystem} is the {@link DefaultNumberSystem}, hence numbers
+     * are narrowed as documented there
+     * @since 2.2
+     */
+    public static boolean isDefaultNumberSystem() {
+        return isDefault(Calculus.currentNumberSystem());
+    }
+
+    /**
+     * Shortcut for {@code Calculator.of(number).peek()}, that does not create a {@code Calculator}
+     * and returns {@code int}, {@code long} and non-integral {@code double} arguments as is.
+     * @param number
+     * @return {@code number} narrowed by the default {@link NumberSystem}
+     */
+    public static Number narrow(Number number) {
+        Objects.requireNonNull(number);
+        final NumberSystem ns = Calculus.currentNumberSystem();
+        if(isDefault(ns)) {
+            if(number instanceof Integer) {
+                return number;
+            }
+            if(number instanceof Long) {
+                return narrowLong(number.longValue());
+            }
+            if(isFraction(number)) {
+                return number; // fractional doubles are never narrowed
+            }
+        }
+        return ns.narrow(number);
+    }
+
+    /**
+     * Shortcut for {@code Calculator.of(x).add(y).peek()}, that does not create a {@code Calculator}
+     * and skips narrowing for the common case of {@code int} and {@code long} arguments.
+     * @param x
+     * @param y
+     * @return {@code x + y} narrowed by the default {@link NumberSystem}
+     */
+    public static Number addition(Number x, Number y) {
+        Objects.requireNonNull(x);
+        Objects.requireNonNull(y);
+        final NumberSystem ns = Calculus.currentNumberSystem();
+        if(isDefault(ns) && isIntOrLong(x) && isIntOrLong(y)) {
+            final long long_x = x.longValue();
+            final long long_y = y.longValue();
+            // DefaultNumberSystem returns the other argument as is, if one of the arguments is zero
+            if(long_x == 0) {
+                return narrow(y);
+            }
+            if(long_y == 0) {
+                return narrow(x);
+            }
+            // +1 carry, same bound as used by DefaultNumberSystem to stay within long
+            if(Math.max(bitLength(long_x), bitLength(long_y)) + 1 < 63) {
+                return narrowLong(long_x + long_y);
+            }
+        }
+        return ns.narrow(ns.add(ns.narrow(x), ns.narrow(y)));
+    }
+
+    /**
+     * Shortcut for {@code Calculator.of(x).subtract(y).peek()}, that does not create a {@code Calculator}
+     * and skips narrowing for the common case of {@code int} and {@code long} arguments.
+     * @param x
+     * @param y
+     * @return {@code x - y} narrowed by the default {@link NumberSystem}
+     */
+    public static Number subtraction(Number x, Number y) {
+        Objects.requireNonNull(x);
+        Objects.requireNonNull(y);
+        final NumberSystem ns = Calculus.currentNumberSystem();
+        if(isDefault(ns) && isIntOrLong(x) && isIntOrLong(y)) {
+            final long long_x = x.longValue();
+            final long long_y = y.longValue();
+            if(long_y == 0) {
+                return narrow(x);
+            }
+            if(long_x != 0 && Math.max(bitLength(long_x), bitLength(long_y)) + 1 < 63) {
+                return narrowLong(long_x - long_y);
+            }
+        }
+        return ns.narrow(ns.subtract(ns.narrow(x), ns.narrow(y)));
+    }
+
+    /**
+     * Shortcut for {@code Calculator.of(x).multiply(y).peek()}, that does not create a {@code Calculator}
+     * and skips narrowing for the common case of {@code int}, {@code long} and fractional {@code double}
+     * arguments.
+     * @param x
+     * @param y
+     * @return {@code x * y} narrowed by the default {@link NumberSystem}
+     */
+    public static Number multiplication(Number x, Number y) {
+        Objects.requireNonNull(x);
+        Objects.requireNonNull(y);
+        final NumberSystem ns = Calculus.currentNumberSystem();
+        if(isDefault(ns)) {
+            if(isIntOrLong(x) && isIntOrLong(y)) {
+                final long long_x = x.longValue();
+                final long long_y = y.longValue();
+                // same bound as used by DefaultNumberSystem to stay within long
+                if(bitLength(long_x) + bitLength(long_y) < 63) {
+                    return narrowLong(long_x * long_y);
+                }
+            } else if(isFraction(x) && isFraction(y)) {
+                // DefaultNumberSystem multiplies (non-narrowable) doubles w/o widening
+                return narrow(Double.valueOf((double) x * (double) y));
+            }
+        }
+        return ns.narrow(ns.multiply(ns.narrow(x), ns.narrow(y)));
+    }
+
     private final NumberSystem ns;
     private Number acc = 0;
     
@@ -224,4 +338,39 @@ public final class Calculator {
     public boolean isLessThanOne() {
         return ns.isLessThanOne(acc);
     }
+
+    // -- HELPER
+
+    private static boolean isDefault(NumberSystem ns) {
+        // subclasses might override arithmetic, hence no fast path for those
+        return ns.getClass() == DefaultNumberSystem.class;
+    }
+
+    private static boolean isIntOrLong(Number number) {
+        return number instanceof Integer || number instanceof Long;
+    }
+
+    private static boolean isFraction(Number number) {
+        if(number instanceof Double) {
+            final double doubleValue = (double) number;
+            return Double.isFinite(doubleValue) && doubleValue % 1 != 0;
+        }
+        return false;
+    }
+
+    // bit length not including sign, as used by DefaultNumberSystem
+    private static int bitLength(long value) {
+        if(value == Long.MIN_VALUE) {
+            return 63;
+        }
+        return 64 - Long.numberOfLeadingZeros(Math.abs(value));
+    }
+
+    // narrows a long the same way DefaultNumberSystem does
+    private static Number narrowLong(long value) {
+        if(bitLength(value) < 31) {
+            return (int) value;
+        }
+        return value;
+    }
 }
\ No newline at end of file
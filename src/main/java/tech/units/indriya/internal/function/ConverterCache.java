@@ -0,0 +1,165 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tech.units.indriya.spi.DimensionalModel;
+
+/**
+ * A bounded, concurrent cache of {@link UnitConverter}s keyed by (source, target) {@link Unit} pairs.
+ * <p>
+ * The cache is direct mapped, each unit pair hashes to exactly one slot and a newly cached pair 
+ * replaces whatever pair occupied that slot before. Readers never block, the worst outcome of a 
+ * race is a converter computed twice.
+ * <p>
+ * Units are only weakly referenced, hence dynamically created units can be garbage collected
+ * while still in the cache. Since converters between units of different system units depend on
+ * the {@link DimensionalModel}, each entry remembers the model it was computed with and is 
+ * ignored once the current model differs.
+ * 
+ * @since 2.2
+ */
+public final class ConverterCache {
+    
+    /**
+     * The default number of slots.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+    
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    
+    /**
+     * Creates a converter cache holding at most {@code capacity} unit pairs, 
+     * rounded up to the next power of two.
+     * @param capacity
+     * @throws IllegalArgumentException if {@code capacity} is not within {@code [1, 2^30]}
+     */
+    public ConverterCache(int capacity) {
+        if(capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if(size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+    
+    /**
+     * Returns the cached converter from {@code source} to {@code target} or {@code null} if 
+     * there is none.
+     * @param source
+     * @param target
+     * @return the cached converter or {@code null}
+     */
+    public UnitConverter get(Unit<?> source, Unit<?> target) {
+        final int hash = hash(source, target);
+        final Entry entry = slots.get(hash & mask);
+        if(entry != null && entry.matches(hash, source, target, DimensionalModel.current())) {
+            return entry.converter;
+        }
+        return null;
+    }
+    
+    /**
+     * Caches given {@code converter} from {@code source} to {@code target}, evicting any 
+     * other pair that shared the same slot.
+     * @param source
+     * @param target
+     * @param converter
+     */
+    public void put(Unit<?> source, Unit<?> target, UnitConverter converter) {
+        Objects.requireNonNull(converter);
+        final int hash = hash(source, target);
+        slots.set(hash & mask, new Entry(hash, source, target, converter, DimensionalModel.current()));
+    }
+    
+    /**
+     * Removes all cached converters.
+     */
+    public void clear() {
+        for(int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+    
+    /**
+     * @return the maximum number of unit pairs this cache can hold
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+    
+    // -- HELPER
+    
+    private static int hash(Unit<?> source, Unit<?> target) {
+        final int h = source.hashCode() * 31 + target.hashCode();
+        return h ^ (h >>> 16); // spread higher bits, as only the lower ones select the slot
+    }
+    
+    private static final class Entry {
+        private final int hash;
+        private final WeakReference<Unit<?>> source;
+        private final WeakReference<Unit<?>> target;
+        private final UnitConverter converter;
+        private final DimensionalModel model;
+        
+        private Entry(int hash, Unit<?> source, Unit<?> target, 
+                UnitConverter converter, DimensionalModel model) {
+            this.hash = hash;
+            this.source = new WeakReference<>(source);
+            this.target = new WeakReference<>(target);
+            this.converter = converter;
+            this.model = model;
+        }
+        
+        private boolean matches(int hash, Unit<?> source, Unit<?> target, DimensionalModel model) {
+            if(this.hash != hash || this.model != model) {
+                return false;
+            }
+            return sameUnit(this.source.get(), source) 
+                    && sameUnit(this.target.get(), target);
+        }
+        
+        private static boolean sameUnit(Unit<?> cached, Unit<?> unit) {
+            // a cleared reference never matches
+            return cached == unit || (cached != null && cached.equals(unit));
+        }
+    }
+    
+}
@@ -62,6 +62,14 @@ public final class ScaleHelper {
         return RELATIVE == quantity.getScale();
     }
 
+    /**
+     * Whether given {@code unit} converts to its system unit linearly (eg. w/o offset), in which 
+     * case amounts stated in that unit can be added or scaled directly, regardless of scale.
+     */
+    public static <Q extends Quantity<Q>> boolean isLinear(final Unit<Q> unit) {
+        return unit.getConverterTo(unit.getSystemUnit()).isLinear();
+    }
+
     public static <Q extends Quantity<Q>> ComparableQuantity<Q> convertTo(
             final Quantity<Q> quantity, 
             final Unit<Q> anotherUnit) {
@@ -73,7 +81,7 @@ public final class ScaleHelper {
             if(linearFactor==null) {
                 throw unsupportedRelativeScaleConversion(quantity, anotherUnit);
             }
-            final Number valueInOtherUnit = Calculator.of(linearFactor).multiply(quantity.getValue()).peek();
+            final Number valueInOtherUnit = Calculator.multiplication(linearFactor, quantity.getValue());
             return Quantities.getQuantity(valueInOtherUnit, anotherUnit, RELATIVE);
         }
         
@@ -166,7 +174,7 @@ public final class ScaleHelper {
             if(linearFactor==null) {
                 throw unsupportedRelativeScaleConversion(quantity, systemUnit);
             }
-            final Number valueInSystemUnits = Calculator.of(linearFactor).multiply(quantity.getValue()).peek();
+            final Number valueInSystemUnits = Calculator.multiplication(linearFactor, quantity.getValue());
             return Quantities.getQuantity(valueInSystemUnits, systemUnit, ABSOLUTE);
         }
     }
@@ -194,6 +202,7 @@ public final class ScaleHelper {
 
     // honors RELATIVE scale
     private static class ToSystemUnitConverter implements UnaryOperator<Number> {
+        private static final ToSystemUnitConverter NOOP = new ToSystemUnitConverter(null, null);
         private final UnaryOperator<Number> unaryOperator;
         private final UnaryOperator<Number> inverseOperator;
 
@@ -230,11 +239,11 @@ public final class ScaleHelper {
             return new ToSystemUnitConverter(unaryOperator, null);
         }
         public static ToSystemUnitConverter noop() {
-            return new ToSystemUnitConverter(null, null);
+            return NOOP; // stateless, hence shared
         }
         public static ToSystemUnitConverter factor(Number factor) {
             return new ToSystemUnitConverter(
-                    number->Calculator.of(number).multiply(factor).peek(),
+                    number->Calculator.multiplication(number, factor),
                     number->Calculator.of(number).divide(factor).peek());
         }
         private ToSystemUnitConverter(
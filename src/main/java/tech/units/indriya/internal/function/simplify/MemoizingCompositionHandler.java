@@ -0,0 +1,159 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function.simplify;
+
+import java.math.MathContext;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.ConverterCompositionHandler;
+import tech.units.indriya.spi.NumberSystem;
+
+/**
+ * ConverterCompositionHandler that memoizes the compositions of a delegate handler.
+ * <p>
+ * Compositions are cached in a bounded, direct mapped table keyed by the (left, right) pair,
+ * a newly cached pair replaces whatever pair occupied its slot before. Since reductions might
+ * involve number arithmetic, each entry also remembers the {@link NumberSystem} and the 
+ * {@link Calculus#MATH_CONTEXT} it was composed with and is ignored once either differs.
+ * <p>
+ * Implementation Note: the {@code canReduce} and {@code doReduce} arguments are not part of
+ * the cache key, memoization assumes these to always be the same functions, as is the case for 
+ * {@link AbstractConverter#concatenate}.
+ * 
+ * @since 2.2
+ */
+public final class MemoizingCompositionHandler implements ConverterCompositionHandler {
+  
+  /**
+   * The default number of slots.
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private final ConverterCompositionHandler delegate;
+  private final AtomicReferenceArray<Entry> slots;
+  private final int mask;
+  
+  public MemoizingCompositionHandler(ConverterCompositionHandler delegate) {
+    this(delegate, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param delegate the handler doing the actual composition
+   * @param capacity maximum number of memoized compositions, rounded up to the next power of two
+   */
+  public MemoizingCompositionHandler(ConverterCompositionHandler delegate, int capacity) {
+    if(capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+    this.delegate = Objects.requireNonNull(delegate);
+    int size = Integer.highestOneBit(capacity);
+    if(size < capacity) {
+      size <<= 1;
+    }
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  @Override
+  public AbstractConverter compose(
+      AbstractConverter a, 
+      AbstractConverter b,
+      BiPredicate<AbstractConverter, AbstractConverter> canReduce,
+      BinaryOperator<AbstractConverter> doReduce) {
+    
+    // trivial compositions are cheaper to compute than to look up
+    if(a.isIdentity() || b.isIdentity()) {
+      return delegate.compose(a, b, canReduce, doReduce);
+    }
+    
+    final NumberSystem ns = Calculus.currentNumberSystem();
+    final MathContext mathContext = Calculus.MATH_CONTEXT;
+    final int hash = hash(a, b);
+    final int index = hash & mask;
+    final Entry entry = slots.get(index);
+    if(entry != null && entry.matches(hash, a, b, ns, mathContext)) {
+      return entry.composition;
+    }
+    
+    final AbstractConverter composition = delegate.compose(a, b, canReduce, doReduce);
+    slots.set(index, new Entry(hash, a, b, composition, ns, mathContext));
+    return composition;
+  }
+  
+  /**
+   * Removes all memoized compositions.
+   */
+  public void clear() {
+    for(int i = 0; i < slots.length(); i++) {
+      slots.set(i, null);
+    }
+  }
+  
+  // -- HELPER
+  
+  private static int hash(AbstractConverter a, AbstractConverter b) {
+    final int h = a.hashCode() * 31 + b.hashCode();
+    return h ^ (h >>> 16); // spread higher bits, as only the lower ones select the slot
+  }
+  
+  private static final class Entry {
+    private final int hash;
+    private final AbstractConverter left;
+    private final AbstractConverter right;
+    private final AbstractConverter composition;
+    private final NumberSystem ns;
+    private final MathContext mathContext;
+    
+    private Entry(int hash, AbstractConverter left, AbstractConverter right, 
+        AbstractConverter composition, NumberSystem ns, MathContext mathContext) {
+      this.hash = hash;
+      this.left = left;
+      this.right = right;
+      this.composition = composition;
+      this.ns = ns;
+      this.mathContext = mathContext;
+    }
+    
+    private boolean matches(int hash, AbstractConverter left, AbstractConverter right, 
+        NumberSystem ns, MathContext mathContext) {
+      return this.hash == hash 
+          && this.ns == ns
+          && (this.mathContext == mathContext || this.mathContext.equals(mathContext))
+          && (this.left == left || this.left.equals(left))
+          && (this.right == right || this.right.equals(right));
+    }
+  }
+
+}
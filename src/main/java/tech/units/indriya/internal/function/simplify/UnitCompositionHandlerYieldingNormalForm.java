@@ -30,7 +30,6 @@
 package tech.units.indriya.internal.function.simplify;
 
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 
@@ -49,10 +48,20 @@ import tech.units.indriya.function.PowerOfIntConverter;
  */
 public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompositionHandler {
 
-  private final Map<Class<? extends AbstractConverter>, Integer> normalFormOrder;
+  /**
+   * Normal-form order per converter class, resolved once per class instead of a map lookup 
+   * per comparison; {@code null} if no order is defined for a class. The values are boxed, 
+   * but all orders are within the range of {@link Integer#valueOf(int)}'s shared instances.
+   */
+  private static final ClassValue<Integer> NORMAL_FORM_ORDINAL = new ClassValue<Integer>() {
+    @Override
+    protected Integer computeValue(Class<?> type) {
+      final Map<Class<? extends AbstractConverter>, Integer> normalFormOrder = Calculus.getNormalFormOrder();
+      return normalFormOrder.get(type);
+    }
+  };
 
   public UnitCompositionHandlerYieldingNormalForm() {
-    normalFormOrder = Calculus.getNormalFormOrder();
   }
 
   @Override
@@ -98,7 +107,7 @@ public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompos
     if(a.getClass().equals(b.getClass())) {
       return true;
     }
-    return normalFormOrder.get(a.getClass()) <= normalFormOrder.get(b.getClass());
+    return NORMAL_FORM_ORDINAL.get(a.getClass()) <= NORMAL_FORM_ORDINAL.get(b.getClass());
   }
 
   private boolean isNormalFormOrderWhenCommutative(AbstractConverter a, AbstractConverter b) {
@@ -109,13 +118,22 @@ public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompos
       return true;
     }
 
-    Integer orderA = Objects.requireNonNull(normalFormOrder.get(a.getClass()), 
-        ()->String.format("no normal-form order defined for class '%s'", a.getClass().getName()));
-    Integer orderB = Objects.requireNonNull(normalFormOrder.get(b.getClass()), 
-        ()->String.format("no normal-form order defined for class '%s'", b.getClass().getName()));
+    final Integer orderA = NORMAL_FORM_ORDINAL.get(a.getClass());
+    if(orderA == null) {
+      throw noNormalFormOrder(a);
+    }
+    final Integer orderB = NORMAL_FORM_ORDINAL.get(b.getClass());
+    if(orderB == null) {
+      throw noNormalFormOrder(b);
+    }
 
     return orderA <= orderB;
   }
 
+  private static NullPointerException noNormalFormOrder(AbstractConverter converter) {
+    return new NullPointerException(
+        String.format("no normal-form order defined for class '%s'", converter.getClass().getName()));
+  }
+
 
 }
@@ -0,0 +1,228 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static javax.measure.Quantity.Scale.ABSOLUTE;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import tech.units.indriya.AbstractQuantity;
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.internal.function.Calculator;
+import tech.units.indriya.internal.function.ScaleHelper;
+
+/**
+ * Implementation of {@link ComparableQuantity} that holds a primitive {@code double}, 
+ * which represents this quantity's amount.
+ * <p>
+ * Arithmetic with another {@code DoubleQuantity} of the same unit and scale, as well as 
+ * conversion to another unit, is carried out in {@code double} arithmetic without boxing. 
+ * Results are therefore subject to IEEE-754 rounding, unlike the exact decimal arithmetic 
+ * {@link tech.units.indriya.function.DefaultNumberSystem} applies to {@code Double} values: 
+ * {@code 0.1 m + 0.2 m} yields {@code 0.30000000000000004 m}. Any other operation, as well as 
+ * any operation whose {@code double} result would not be finite, resorts to the same 
+ * {@link tech.units.indriya.spi.NumberSystem} based arithmetic as {@link NumberQuantity}. 
+ * <p>
+ * For compatibility with {@link NumberQuantity}, {@link #getValue()} returns the amount narrowed 
+ * by the current number system, hence both implementations are {@code equal} for equal amounts.
+ * <p> 
+ * This object is immutable.
+ *
+ * @see NumberQuantity
+ * @see LongQuantity
+ * @param <Q>
+ *          The type of the quantity.
+ * @since 2.2
+ */
+public final class DoubleQuantity<Q extends Quantity<Q>> extends AbstractQuantity<Q> {
+
+    private static final long serialVersionUID = 4815493562911873283L;
+
+    private final double value;
+
+    protected DoubleQuantity(double value, Unit<Q> unit, Scale sc) {
+        super(unit, sc);
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(
+                    String.format("Unsupported number value '%s' of type 'double'", value));
+        }
+        this.value = value;
+    }
+
+    protected DoubleQuantity(double value, Unit<Q> unit) {
+        this(value, unit, ABSOLUTE);
+    }
+
+    /**
+     * @return the amount of this quantity as primitive {@code double}
+     */
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public ComparableQuantity<Q> add(Quantity<Q> that) {
+        if (isSameRepresentation(that)) {
+            final double sum = value + ((DoubleQuantity<Q>) that).value;
+            if (Double.isFinite(sum)) {
+                return new DoubleQuantity<>(sum, getUnit(), getScale());
+            }
+        }
+        return ScaleHelper.addition(this, that, Calculator::addition);
+    }
+
+    @Override
+    public ComparableQuantity<Q> subtract(Quantity<Q> that) {
+        if (isSameRepresentation(that)) {
+            final double difference = value - ((DoubleQuantity<Q>) that).value;
+            if (Double.isFinite(difference)) {
+                return new DoubleQuantity<>(difference, getUnit(), getScale());
+            }
+        }
+        return ScaleHelper.addition(this, that, Calculator::subtraction);
+    }
+
+    @Override
+    public ComparableQuantity<?> divide(Quantity<?> that) {
+        if (that instanceof DoubleQuantity && isLinear(this) && isLinear(that)) {
+            final double quotient = value / ((DoubleQuantity<?>) that).value;
+            if (Double.isFinite(quotient)) {
+                return new DoubleQuantity<>(quotient, getUnit().divide(that.getUnit()));
+            }
+        }
+        return ScaleHelper.multiplication(this, that, 
+                (thisValue, thatValue) -> Calculator.of(thisValue).divide(thatValue).peek(),
+                (thisUnit, thatUnit) -> thisUnit.divide(thatUnit));
+    }
+
+    @Override
+    public ComparableQuantity<Q> divide(Number divisor) {
+        if (divisor instanceof Double && isLinear(this)) {
+            final double quotient = value / (double) divisor;
+            if (Double.isFinite(quotient)) {
+                return new DoubleQuantity<>(quotient, getUnit(), getScale());
+            }
+        }
+        return ScaleHelper.scalarMultiplication(this, thisValue -> 
+                Calculator.of(thisValue).divide(divisor).peek());
+    }
+
+    @Override
+    public ComparableQuantity<?> multiply(Quantity<?> that) {
+        if (that instanceof DoubleQuantity && isLinear(this) && isLinear(that)) {
+            final double product = value * ((DoubleQuantity<?>) that).value;
+            if (Double.isFinite(product)) {
+                return new DoubleQuantity<>(product, getUnit().multiply(that.getUnit()));
+            }
+        }
+        return ScaleHelper.multiplication(this, that, 
+                Calculator::multiplication,
+                (thisUnit, thatUnit) -> thisUnit.multiply(thatUnit));
+    }
+
+    @Override
+    public ComparableQuantity<Q> multiply(Number factor) {
+        if (factor instanceof Double && isLinear(this)) {
+            final double product = value * (double) factor;
+            if (Double.isFinite(product)) {
+                return new DoubleQuantity<>(product, getUnit(), getScale());
+            }
+        }
+        return ScaleHelper.scalarMultiplication(this, thisValue -> 
+                Calculator.multiplication(thisValue, factor));
+    }
+
+    @Override
+    public ComparableQuantity<?> inverse() {
+        final double reciprocal = 1.d / value;
+        if (Double.isFinite(reciprocal)) {
+            return new DoubleQuantity<>(reciprocal, getUnit().inverse(), getScale());
+        }
+        return Quantities.getQuantity(Calculator.of(getValue()).reciprocal().peek(), 
+                getUnit().inverse(), getScale());
+    }
+
+    @Override
+    public Quantity<Q> negate() {
+        return new DoubleQuantity<>(-value, getUnit(), getScale());
+    }
+
+    @Override
+    public ComparableQuantity<Q> to(Unit<Q> anotherUnit) {
+        if (anotherUnit.equals(this.getUnit())) {
+            return this;
+        }
+        if (ScaleHelper.isAbsolute(this)) {
+            final double converted = getUnit().getConverterTo(anotherUnit).convert(value);
+            if (Double.isFinite(converted)) {
+                return new DoubleQuantity<>(converted, anotherUnit, ABSOLUTE);
+            }
+        }
+        return ScaleHelper.convertTo(this, anotherUnit);
+    }
+
+    @Override
+    public int compareTo(Quantity<Q> that) {
+        if (that instanceof DoubleQuantity) {
+            final Quantity<Q> thatInThisUnit = getUnit().equals(that.getUnit()) 
+                    ? that 
+                    : that.to(getUnit());
+            if (thatInThisUnit instanceof DoubleQuantity) {
+                return compare(value, ((DoubleQuantity<Q>) thatInThisUnit).value);
+            }
+        }
+        return super.compareTo(that);
+    }
+
+    @Override
+    public Number getValue() {
+        return Calculator.narrow(value);
+    }
+
+    // -- HELPER
+
+    private boolean isSameRepresentation(Quantity<Q> that) {
+        return that instanceof DoubleQuantity 
+                && getScale() == that.getScale()
+                && getUnit().equals(that.getUnit())
+                && ScaleHelper.isLinear(getUnit());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static boolean isLinear(Quantity<?> quantity) {
+        return ScaleHelper.isLinear((Unit) quantity.getUnit());
+    }
+
+    // both values are finite, so no NaN handling required; treats 0.0 and -0.0 as equal  
+    private static int compare(double x, double y) {
+        return x < y ? -1 : (x > y ? 1 : 0);
+    }
+}
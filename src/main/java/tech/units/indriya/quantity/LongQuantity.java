@@ -0,0 +1,246 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static javax.measure.Quantity.Scale.ABSOLUTE;
+
+import java.math.BigInteger;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tech.units.indriya.AbstractQuantity;
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.function.PowerOfIntConverter;
+import tech.units.indriya.function.RationalConverter;
+import tech.units.indriya.internal.function.Calculator;
+import tech.units.indriya.internal.function.ScaleHelper;
+
+/**
+ * Implementation of {@link ComparableQuantity} that holds a primitive {@code long}, 
+ * which represents this quantity's amount.
+ * <p>
+ * Addition, subtraction and multiplication with another {@code LongQuantity} of the same unit
+ * and scale are carried out in exact {@code long} arithmetic without boxing, as long as the 
+ * result does not overflow. So are conversions of absolute quantities by an integral factor, 
+ * e.g. from kilometre to metre. Any other operation resorts to the same 
+ * {@link tech.units.indriya.spi.NumberSystem} based arithmetic as {@link NumberQuantity}. 
+ * <p>
+ * For compatibility with {@link NumberQuantity}, {@link #getValue()} returns the amount narrowed 
+ * by the current number system, hence both implementations are {@code equal} for equal amounts.
+ * <p> 
+ * This object is immutable.
+ *
+ * @see NumberQuantity
+ * @see DoubleQuantity
+ * @param <Q>
+ *          The type of the quantity.
+ * @since 2.2
+ */
+public final class LongQuantity<Q extends Quantity<Q>> extends AbstractQuantity<Q> {
+
+    private static final long serialVersionUID = -2893750196374019187L;
+
+    private final long value;
+
+    protected LongQuantity(long value, Unit<Q> unit, Scale sc) {
+        super(unit, sc);
+        this.value = value;
+    }
+
+    protected LongQuantity(long value, Unit<Q> unit) {
+        this(value, unit, ABSOLUTE);
+    }
+
+    /**
+     * @return the amount of this quantity as primitive {@code long}
+     */
+    public long longValue() {
+        return value;
+    }
+
+    @Override
+    public ComparableQuantity<Q> add(Quantity<Q> that) {
+        if (isSameRepresentation(that)) {
+            final long thatValue = ((LongQuantity<Q>) that).value;
+            final long sum = value + thatValue;
+            // overflow iff both arguments have the same sign and the sum's sign differs
+            if (((value ^ sum) & (thatValue ^ sum)) >= 0) {
+                return new LongQuantity<>(sum, getUnit(), getScale());
+            }
+        }
+        return ScaleHelper.addition(this, that, Calculator::addition);
+    }
+
+    @Override
+    public ComparableQuantity<Q> subtract(Quantity<Q> that) {
+        if (isSameRepresentation(that)) {
+            final long thatValue = ((LongQuantity<Q>) that).value;
+            final long difference = value - thatValue;
+            // overflow iff the arguments have different signs and the difference's sign differs from this
+            if (((value ^ thatValue) & (value ^ difference)) >= 0) {
+                return new LongQuantity<>(difference, getUnit(), getScale());
+            }
+        }
+        return ScaleHelper.addition(this, that, Calculator::subtraction);
+    }
+
+    @Override
+    public ComparableQuantity<?> divide(Quantity<?> that) {
+        // integer division is generally inexact, hence no primitive fast path
+        return ScaleHelper.multiplication(this, that, 
+                (thisValue, thatValue) -> Calculator.of(thisValue).divide(thatValue).peek(),
+                (thisUnit, thatUnit) -> thisUnit.divide(thatUnit));
+    }
+
+    @Override
+    public ComparableQuantity<Q> divide(Number divisor) {
+        return ScaleHelper.scalarMultiplication(this, thisValue -> 
+                Calculator.of(thisValue).divide(divisor).peek());
+    }
+
+    @Override
+    public ComparableQuantity<?> multiply(Quantity<?> that) {
+        if (that instanceof LongQuantity && isLinear(this) && isLinear(that)) {
+            try {
+                final long product = Math.multiplyExact(value, ((LongQuantity<?>) that).value);
+                return new LongQuantity<>(product, getUnit().multiply(that.getUnit()));
+            } catch (ArithmeticException overflow) {
+                // resort to the number system, which widens the result
+            }
+        }
+        return ScaleHelper.multiplication(this, that, 
+                Calculator::multiplication,
+                (thisUnit, thatUnit) -> thisUnit.multiply(thatUnit));
+    }
+
+    @Override
+    public ComparableQuantity<Q> multiply(Number factor) {
+        if ((factor instanceof Long || factor instanceof Integer) && isLinear(this)) {
+            try {
+                final long product = Math.multiplyExact(value, factor.longValue());
+                return new LongQuantity<>(product, getUnit(), getScale());
+            } catch (ArithmeticException overflow) {
+                // resort to the number system, which widens the result
+            }
+        }
+        return ScaleHelper.scalarMultiplication(this, thisValue -> 
+                Calculator.multiplication(thisValue, factor));
+    }
+
+    @Override
+    public ComparableQuantity<?> inverse() {
+        final Number resultValueInThisUnit = Calculator
+                .of(getValue())
+                .reciprocal()
+                .peek();
+        return Quantities.getQuantity(resultValueInThisUnit, getUnit().inverse(), getScale());
+    }
+
+    @Override
+    public Quantity<Q> negate() {
+        if (value == Long.MIN_VALUE) {
+            return Quantities.getQuantity(Calculator.of(value).negate().peek(), getUnit(), getScale());
+        }
+        return new LongQuantity<>(-value, getUnit(), getScale());
+    }
+
+    @Override
+    public ComparableQuantity<Q> to(Unit<Q> anotherUnit) {
+        if (anotherUnit.equals(this.getUnit())) {
+            return this;
+        }
+        if (ScaleHelper.isAbsolute(this)) {
+            final long factor = integralFactorOf(getUnit().getConverterTo(anotherUnit));
+            if (factor != 0) {
+                try {
+                    return new LongQuantity<>(Math.multiplyExact(value, factor), anotherUnit, ABSOLUTE);
+                } catch (ArithmeticException overflow) {
+                    // resort to the number system, which widens the result
+                }
+            }
+        }
+        return ScaleHelper.convertTo(this, anotherUnit);
+    }
+
+    @Override
+    public int compareTo(Quantity<Q> that) {
+        if (that instanceof LongQuantity && getUnit().equals(that.getUnit())) {
+            return Long.compare(value, ((LongQuantity<Q>) that).value);
+        }
+        return super.compareTo(that);
+    }
+
+    @Override
+    public Number getValue() {
+        return Calculator.narrow(value);
+    }
+
+    // -- HELPER
+
+    private boolean isSameRepresentation(Quantity<Q> that) {
+        return that instanceof LongQuantity 
+                && getScale() == that.getScale()
+                && getUnit().equals(that.getUnit())
+                && ScaleHelper.isLinear(getUnit());
+    }
+
+    /**
+     * @return the factor of given converter if it multiplies by a {@code long}, {@code 0} otherwise
+     */
+    private static long integralFactorOf(UnitConverter converter) {
+        if (converter instanceof RationalConverter) {
+            final RationalConverter rational = (RationalConverter) converter;
+            if (BigInteger.ONE.equals(rational.getDivisor()) && rational.getDividend().bitLength() < Long.SIZE) {
+                return rational.getDividend().longValue();
+            }
+        } else if (converter instanceof PowerOfIntConverter) {
+            final PowerOfIntConverter power = (PowerOfIntConverter) converter;
+            if (power.getExponent() >= 0 && power.getExponent() < Long.SIZE) {
+                try {
+                    long factor = 1;
+                    for (int i = 0; i < power.getExponent(); i++) {
+                        factor = Math.multiplyExact(factor, power.getBase());
+                    }
+                    return factor;
+                } catch (ArithmeticException overflow) {
+                    // not a long
+                }
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static boolean isLinear(Quantity<?> quantity) {
+        return ScaleHelper.isLinear((Unit) quantity.getUnit());
+    }
+}
@@ -68,7 +68,7 @@ public final class NumberQuantity<Q extends Quantity<Q>> extends AbstractQuantit
      */
     protected NumberQuantity(Number number, Unit<Q> unit, Scale sc) {
       super(unit, sc);
-      value = Calculator.of(number).peek(); // takes care of invalid number values (infinity, ...)
+      value = Calculator.narrow(number); // takes care of invalid number values (infinity, ...)
     }
     
     protected NumberQuantity(Number number, Unit<Q> unit) {
@@ -77,14 +77,12 @@ public final class NumberQuantity<Q extends Quantity<Q>> extends AbstractQuantit
 
     @Override
     public ComparableQuantity<Q> add(Quantity<Q> that) {
-        return ScaleHelper.addition(this, that, 
-                (thisValue, thatValue) -> Calculator.of(thisValue).add(thatValue).peek());
+        return ScaleHelper.addition(this, that, Calculator::addition);
     }
 
     @Override
     public ComparableQuantity<Q> subtract(Quantity<Q> that) {
-        return ScaleHelper.addition(this, that, 
-                (thisValue, thatValue) -> Calculator.of(thisValue).subtract(thatValue).peek());
+        return ScaleHelper.addition(this, that, Calculator::subtraction);
     }
 
     @Override
@@ -103,14 +101,14 @@ public final class NumberQuantity<Q extends Quantity<Q>> extends AbstractQuantit
     @Override
     public ComparableQuantity<?> multiply(Quantity<?> that) {
         return ScaleHelper.multiplication(this, that, 
-                (thisValue, thatValue) -> Calculator.of(thisValue).multiply(thatValue).peek(),
+                Calculator::multiplication,
                 (thisUnit, thatUnit) -> thisUnit.multiply(thatUnit));
     }
 
     @Override
     public ComparableQuantity<Q> multiply(Number factor) {
         return ScaleHelper.scalarMultiplication(this, thisValue -> 
-                Calculator.of(thisValue).multiply(factor).peek());
+                Calculator.multiplication(thisValue, factor));
     }
 
     @Override
@@ -123,6 +123,75 @@ public final class Quantities {
 		return getQuantity(value, unit, ABSOLUTE);
 	}
 
+	/**
+	 * Returns the scalar quantity backed by a primitive {@code double}, see {@link DoubleQuantity}.
+	 * <p>
+	 * <b>Note:</b> this overload is chosen for {@code double} literals and variables. Arithmetic 
+	 * between such quantities is carried out in {@code double} precision, hence 
+	 * {@code getQuantity(0.1, METRE).add(getQuantity(0.2, METRE))} yields 
+	 * {@code 0.30000000000000004 m}, whereas the exact decimal arithmetic of 
+	 * {@link tech.units.indriya.function.DefaultNumberSystem} yields {@code 0.3 m}. To retain the 
+	 * latter, pass a {@link Number}, e.g. {@code getQuantity((Number) 0.1, METRE)}.
+	 * </p>
+	 * 
+	 * @param value the measurement value.
+	 * @param unit  the measurement unit.
+	 * @param scale the measurement scale.
+	 * @return the corresponding <code>double</code> quantity.
+	 * @throws NullPointerException if unit or scale were null
+	 * @throws IllegalArgumentException if value is not finite
+	 * @since 2.2
+	 */
+	public static <Q extends Quantity<Q>> ComparableQuantity<Q> getQuantity(double value, Unit<Q> unit, Scale scale) {
+		Objects.requireNonNull(unit);
+		Objects.requireNonNull(scale);
+		return new DoubleQuantity<>(value, unit, scale);
+	}
+
+	/**
+	 * Returns the scalar quantity backed by a primitive {@code double}, see {@link DoubleQuantity}
+	 * and the precision note at {@link #getQuantity(double, Unit, Scale)}.
+	 * 
+	 * @param value the measurement value.
+	 * @param unit  the measurement unit.
+	 * @return the corresponding <code>double</code> quantity.
+	 * @throws NullPointerException if unit was null
+	 * @throws IllegalArgumentException if value is not finite
+	 * @since 2.2
+	 */
+	public static <Q extends Quantity<Q>> ComparableQuantity<Q> getQuantity(double value, Unit<Q> unit) {
+		return getQuantity(value, unit, ABSOLUTE);
+	}
+
+	/**
+	 * Returns the scalar quantity backed by a primitive {@code long}, see {@link LongQuantity}.
+	 * 
+	 * @param value the measurement value.
+	 * @param unit  the measurement unit.
+	 * @param scale the measurement scale.
+	 * @return the corresponding <code>long</code> quantity.
+	 * @throws NullPointerException if unit or scale were null
+	 * @since 2.2
+	 */
+	public static <Q extends Quantity<Q>> ComparableQuantity<Q> getQuantity(long value, Unit<Q> unit, Scale scale) {
+		Objects.requireNonNull(unit);
+		Objects.requireNonNull(scale);
+		return new LongQuantity<>(value, unit, scale);
+	}
+
+	/**
+	 * Returns the scalar quantity backed by a primitive {@code long}, see {@link LongQuantity}.
+	 * 
+	 * @param value the measurement value.
+	 * @param unit  the measurement unit.
+	 * @return the corresponding <code>long</code> quantity.
+	 * @throws NullPointerException if unit was null
+	 * @since 2.2
+	 */
+	public static <Q extends Quantity<Q>> ComparableQuantity<Q> getQuantity(long value, Unit<Q> unit) {
+		return getQuantity(value, unit, ABSOLUTE);
+	}
+
 	/**
 	 * Returns the mixed radix values and units combined into a single quantity.
 	 * When the {@link Number} was {@link BigDecimal} or {@link BigInteger} will
@@ -0,0 +1,338 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.internal.function.Calculator;
+import tech.units.indriya.internal.function.ScaleHelper;
+
+/**
+ * Columnar storage of {@link Quantity quantities} sharing a single {@link Unit}, with their 
+ * amounts held in a primitive {@code double[]}.
+ * <p>
+ * Compared to a {@code List<Quantity<Q>>}, this avoids one quantity object, one boxed 
+ * {@link Number} and one unit reference per element, and allows for conversion and arithmetic
+ * in a single loop over the whole array. Individual elements are adapted back to 
+ * {@link Quantity} on demand, see {@link #get(int)} and {@link #asList()}.
+ * <p>
+ * All quantities are of {@code ABSOLUTE} scale. Arithmetic honors that scale the same way 
+ * {@link NumberQuantity} does, eg. amounts stated in units with an offset (such as degrees Celsius)
+ * are added in their system unit.
+ * <p>
+ * All amounts are finite, just like the amount of a single quantity. Creating an array from
+ * {@code NaN} or infinite amounts, or any operation producing such amounts (for example by
+ * overflow), fails immediately with an {@link IllegalArgumentException}.
+ * <p>
+ * This object is immutable, operations return a new instance.
+ *
+ * @param <Q>
+ *          The type of the quantities.
+ * @since 2.2
+ */
+public final class QuantityArray<Q extends Quantity<Q>> {
+
+    private final Unit<Q> unit;
+    private final double[] values;
+
+    private QuantityArray(Unit<Q> unit, double[] values) {
+        this.unit = unit;
+        this.values = requireFinite(values);
+    }
+
+    /**
+     * Returns a quantity array of given {@code values} stated in given {@code unit}.
+     * 
+     * @param unit   the unit of all values.
+     * @param values the amounts, copied.
+     * @return the corresponding quantity array.
+     * @throws NullPointerException if unit or values were null
+     * @throws IllegalArgumentException if any of the values is not finite
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> of(Unit<Q> unit, double... values) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(values);
+        return new QuantityArray<>(unit, values.clone());
+    }
+
+    /**
+     * Returns a quantity array of given {@code quantities}, each converted to given {@code unit}.
+     * 
+     * @param unit       the unit of the resulting array.
+     * @param quantities the quantities to store.
+     * @return the corresponding quantity array.
+     * @throws NullPointerException if unit, quantities or any of its elements were null
+     * @throws IllegalArgumentException if any of the converted values is not finite
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> of(Unit<Q> unit, Collection<? extends Quantity<Q>> quantities) {
+        Objects.requireNonNull(unit);
+        final double[] values = new double[quantities.size()];
+        int i = 0;
+        for (Quantity<Q> quantity : quantities) {
+            final UnitConverter converter = quantity.getUnit().getConverterTo(unit);
+            values[i++] = converter.convert(quantity.getValue().doubleValue());
+        }
+        return new QuantityArray<>(unit, values);
+    }
+
+    /**
+     * @return the unit of all quantities of this array.
+     */
+    public Unit<Q> getUnit() {
+        return unit;
+    }
+
+    /**
+     * @return the number of quantities in this array.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @param index
+     * @return the amount at given {@code index}, stated in {@link #getUnit()}.
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double doubleValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return a copy of all amounts, stated in {@link #getUnit()}.
+     */
+    public double[] toDoubleArray() {
+        return values.clone();
+    }
+
+    /**
+     * @param index
+     * @return the quantity at given {@code index}.
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public ComparableQuantity<Q> get(int index) {
+        return Quantities.getQuantity(values[index], unit);
+    }
+
+    /**
+     * @return an unmodifiable list view of this array, adapting each element to a {@link Quantity}
+     *         when accessed.
+     */
+    public List<ComparableQuantity<Q>> asList() {
+        return new ListView();
+    }
+
+    /**
+     * Converts all quantities of this array in a single bulk conversion.
+     * 
+     * @param anotherUnit the unit of the resulting array.
+     * @return a quantity array stated in {@code anotherUnit}, this if already stated in that unit.
+     * @throws IllegalArgumentException if any of the converted values is not finite
+     */
+    public QuantityArray<Q> to(Unit<Q> anotherUnit) {
+        if (anotherUnit.equals(unit)) {
+            return this;
+        }
+        return new QuantityArray<>(anotherUnit, convert(unit.getConverterTo(anotherUnit), values));
+    }
+
+    /**
+     * Adds the quantities of {@code that} array element-wise to the quantities of this array.
+     * 
+     * @param that the array to add, converted to this array's unit if required.
+     * @return the element-wise sum, stated in this array's unit.
+     * @throws IllegalArgumentException if both arrays differ in size or any sum is not finite
+     */
+    public QuantityArray<Q> add(QuantityArray<Q> that) {
+        if (that.values.length != values.length) {
+            throw new IllegalArgumentException(
+                    String.format("sizes don't match, %s vs %s", values.length, that.values.length));
+        }
+        if (ScaleHelper.isLinear(unit)) {
+            final double[] thatValues = that.to(unit).values;
+            final double[] result = new double[values.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = values[i] + thatValues[i];
+            }
+            return new QuantityArray<>(unit, result);
+        }
+        // absolute scale with offset, add in system units
+        final Unit<Q> systemUnit = unit.getSystemUnit();
+        return to(systemUnit).add(that.to(systemUnit)).to(unit);
+    }
+
+    /**
+     * Multiplies all quantities of this array by given {@code factor}.
+     * 
+     * @param factor
+     * @return the scaled array, stated in this array's unit.
+     * @throws IllegalArgumentException if any of the scaled values is not finite
+     */
+    public QuantityArray<Q> scale(double factor) {
+        if (ScaleHelper.isLinear(unit)) {
+            final double[] result = new double[values.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = values[i] * factor;
+            }
+            return new QuantityArray<>(unit, result);
+        }
+        // absolute scale with offset, scale in system units
+        return to(unit.getSystemUnit()).scale(factor).to(unit);
+    }
+
+    /**
+     * Sums all quantities of this array. If the sum exceeds the range of {@code double}, it is 
+     * carried out by the current number system instead.
+     * 
+     * @return the sum of all quantities, stated in this array's unit; zero if empty.
+     */
+    public ComparableQuantity<Q> sum() {
+        if (!ScaleHelper.isLinear(unit)) {
+            // absolute scale with offset, sum in system units
+            return to(unit.getSystemUnit()).sum().to(unit);
+        }
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        if (!Double.isFinite(sum)) {
+            // overflow, resort to the number system, which widens the result
+            Number exactSum = 0;
+            for (double value : values) {
+                exactSum = Calculator.addition(exactSum, value);
+            }
+            return Quantities.getQuantity(exactSum, unit);
+        }
+        return Quantities.getQuantity(sum, unit);
+    }
+
+    /**
+     * @return the smallest quantity of this array.
+     * @throws NoSuchElementException if this array is empty
+     */
+    public ComparableQuantity<Q> min() {
+        requireNonEmpty();
+        double min = values[0];
+        for (int i = 1; i < values.length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return Quantities.getQuantity(min, unit);
+    }
+
+    /**
+     * @return the largest quantity of this array.
+     * @throws NoSuchElementException if this array is empty
+     */
+    public ComparableQuantity<Q> max() {
+        requireNonEmpty();
+        double max = values[0];
+        for (int i = 1; i < values.length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return Quantities.getQuantity(max, unit);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof QuantityArray) {
+            final QuantityArray<?> that = (QuantityArray<?>) obj;
+            return unit.equals(that.unit) && Arrays.equals(values, that.values);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * unit.hashCode() + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values) + " " + unit;
+    }
+
+    // -- HELPER
+
+    private void requireNonEmpty() {
+        if (values.length == 0) {
+            throw new NoSuchElementException("empty quantity array");
+        }
+    }
+
+    private static double[] requireFinite(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isFinite(values[i])) {
+                throw new IllegalArgumentException(
+                        String.format("Unsupported number value '%s' at index %s", values[i], i));
+            }
+        }
+        return values;
+    }
+
+    private static double[] convert(UnitConverter converter, double[] values) {
+        final double[] result = new double[values.length];
+        if (converter instanceof AbstractConverter) {
+            ((AbstractConverter) converter).convert(values, 0, result, 0, values.length);
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                result[i] = converter.convert(values[i]);
+            }
+        }
+        return result;
+    }
+
+    private final class ListView extends AbstractList<ComparableQuantity<Q>> implements RandomAccess {
+
+        @Override
+        public ComparableQuantity<Q> get(int index) {
+            return QuantityArray.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.function.AbstractConverter;
+
+/**
+ * Off-heap storage of {@link Quantity quantities} sharing a single {@link Unit}, with their amounts 
+ * held as {@code double}s in a direct {@link ByteBuffer} or a {@link MappedByteBuffer} over a file.
+ * <p>
+ * The buffer starts with a fixed size header of {@value #HEADER_SIZE} bytes, recording the number
+ * of values and the unit as formatted by {@link SimpleUnitFormat}, followed by the values in 
+ * little-endian order. Hence a buffer written to a file can be mapped again later on, see 
+ * {@link #map(Path, MapMode)}.
+ * <p>
+ * Values are read and written in place, {@link #get(int)} and {@link #asList()} adapt individual
+ * values to {@link Quantity} on demand. A single buffer holds at most {@value #MAX_SIZE} values, 
+ * larger archives are to be split into several buffers (files).
+ * <p>
+ * Like {@link ByteBuffer}, instances are mutable and not safe for use by multiple concurrent
+ * threads, if any of them modifies the buffer.
+ *
+ * @param <Q>
+ *          The type of the quantities.
+ * @see QuantityArray
+ * @since 2.2
+ */
+public final class QuantityBuffer<Q extends Quantity<Q>> {
+
+    /**
+     * Size of the header in bytes, values start right after.
+     */
+    public static final int HEADER_SIZE = 256;
+
+    /**
+     * Maximum number of values a single buffer can hold.
+     */
+    public static final int MAX_SIZE = (Integer.MAX_VALUE - HEADER_SIZE) / Double.BYTES;
+
+    private static final int MAGIC = 0x51425546; // 'QBUF'
+    private static final int VERSION = 1;
+    private static final int UNIT_OFFSET = 20;
+    private static final int MAX_UNIT_LENGTH = HEADER_SIZE - UNIT_OFFSET;
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * The whole buffer including the header, {@code null} for slices.
+     */
+    private final ByteBuffer buffer;
+    private final DoubleBuffer data;
+    /**
+     * The unit, shared by a buffer and all slices of it, since they share their values as well.
+     */
+    private final UnitHolder<Q> unit;
+
+    private QuantityBuffer(ByteBuffer buffer, DoubleBuffer data, UnitHolder<Q> unit) {
+        this.buffer = buffer;
+        this.data = data;
+        this.unit = unit;
+    }
+
+    private QuantityBuffer(ByteBuffer buffer, DoubleBuffer data, Unit<Q> unit) {
+        this(buffer, data, new UnitHolder<>(unit));
+    }
+
+    /**
+     * Returns a new buffer of {@code size} values (initially zero) stated in given {@code unit}, 
+     * backed by a direct {@link ByteBuffer}.
+     * 
+     * @param unit the unit of all values.
+     * @param size the number of values.
+     * @return the new buffer.
+     * @throws IllegalArgumentException if size is negative or exceeds {@link #MAX_SIZE}
+     */
+    public static <Q extends Quantity<Q>> QuantityBuffer<Q> allocateDirect(Unit<Q> unit, int size) {
+        Objects.requireNonNull(unit);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(byteSize(size));
+        writeHeader(buffer, unit, size);
+        return new QuantityBuffer<>(buffer, dataOf(buffer, size), unit);
+    }
+
+    /**
+     * Creates (or replaces) given {@code file} holding {@code size} values (initially zero) stated
+     * in given {@code unit}, and maps it into memory.
+     * 
+     * @param file the file to create.
+     * @param unit the unit of all values.
+     * @param size the number of values.
+     * @return a buffer mapped onto the file.
+     * @throws IOException if the file cannot be created or mapped
+     * @throws IllegalArgumentException if size is negative or exceeds {@link #MAX_SIZE}
+     */
+    public static <Q extends Quantity<Q>> QuantityBuffer<Q> create(Path file, Unit<Q> unit, int size) throws IOException {
+        Objects.requireNonNull(unit);
+        final int byteSize = byteSize(size);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, byteSize);
+            writeHeader(buffer, unit, size);
+            return new QuantityBuffer<>(buffer, dataOf(buffer, size), unit);
+        }
+    }
+
+    /**
+     * Maps a file previously written by a {@code QuantityBuffer} into memory. Use 
+     * {@link #asType(Class)} to obtain a buffer of a specific quantity type.
+     * 
+     * @param file the file to map.
+     * @param mode {@link MapMode#READ_ONLY} or {@link MapMode#READ_WRITE}.
+     * @return a buffer mapped onto the file.
+     * @throws IOException if the file cannot be read or mapped
+     * @throws IllegalArgumentException if the file does not hold a valid header
+     */
+    public static QuantityBuffer<?> map(Path file, MapMode mode) throws IOException {
+        final StandardOpenOption[] options = mode == MapMode.READ_ONLY
+                ? new StandardOpenOption[] { StandardOpenOption.READ }
+                : new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE };
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Not a quantity buffer: " + file);
+            }
+            return wrap(channel.map(mode, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns a buffer over given {@code buffer}, which is expected to start with a header as 
+     * written by a {@code QuantityBuffer}. The values are not copied.
+     * 
+     * @param buffer the buffer to read the header from, starting at index zero.
+     * @return a buffer sharing its contents with given {@code buffer}.
+     * @throws IllegalArgumentException if the buffer does not hold a valid header
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static QuantityBuffer<?> wrap(ByteBuffer buffer) {
+        final ByteBuffer header = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (header.capacity() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a quantity buffer");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported quantity buffer version " + header.getInt(4));
+        }
+        final long size = header.getLong(8);
+        if (size < 0 || size > (header.capacity() - HEADER_SIZE) / Double.BYTES) {
+            throw new IllegalArgumentException("Quantity buffer size " + size + " exceeds its capacity");
+        }
+        final int unitLength = header.getInt(16);
+        if (unitLength < 0 || unitLength > MAX_UNIT_LENGTH) {
+            throw new IllegalArgumentException("Quantity buffer has a corrupt unit header");
+        }
+        final byte[] unitBytes = new byte[unitLength];
+        header.position(UNIT_OFFSET);
+        header.get(unitBytes);
+        final Unit unit = SimpleUnitFormat.getInstance().parse(new String(unitBytes, StandardCharsets.UTF_8));
+        return new QuantityBuffer(buffer, dataOf(buffer, (int) size), unit);
+    }
+
+    /**
+     * @return the unit of all values of this buffer.
+     */
+    public Unit<Q> getUnit() {
+        return unit.value;
+    }
+
+    /**
+     * @return the number of values in this buffer.
+     */
+    public int size() {
+        return data.capacity();
+    }
+
+    /**
+     * @param index
+     * @return the value at given {@code index}, stated in {@link #getUnit()}.
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double doubleValue(int index) {
+        return data.get(index);
+    }
+
+    /**
+     * Sets the value at given {@code index}.
+     * 
+     * @param index
+     * @param value the value, stated in {@link #getUnit()}.
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalArgumentException if the value is NaN or infinite
+     * @throws java.nio.ReadOnlyBufferException if this buffer is read-only
+     */
+    public void set(int index, double value) {
+        data.put(index, requireFinite(value, index));
+    }
+
+    /**
+     * @param index
+     * @return the quantity at given {@code index}.
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public ComparableQuantity<Q> get(int index) {
+        return Quantities.getQuantity(data.get(index), unit.value);
+    }
+
+    /**
+     * Sets the value at given {@code index} to given {@code quantity}, converted to this buffer's unit.
+     * 
+     * @param index
+     * @param quantity
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalArgumentException if the value, once converted, is NaN or infinite
+     * @throws java.nio.ReadOnlyBufferException if this buffer is read-only
+     */
+    public void set(int index, Quantity<Q> quantity) {
+        final UnitConverter converter = quantity.getUnit().getConverterTo(unit.value);
+        data.put(index, requireFinite(converter.convert(quantity.getValue().doubleValue()), index));
+    }
+
+    /**
+     * @return a read-only view of the values, sharing this buffer's memory.
+     */
+    public DoubleBuffer asDoubleBuffer() {
+        return data.asReadOnlyBuffer();
+    }
+
+    /**
+     * @return an unmodifiable list view of this buffer, adapting each value to a {@link Quantity}
+     *         when accessed.
+     */
+    public List<ComparableQuantity<Q>> asList() {
+        return new ListView();
+    }
+
+    /**
+     * Returns a buffer over the values from {@code fromIndex} (inclusive) to {@code toIndex} 
+     * (exclusive), sharing this buffer's memory. The slice also shares this buffer's unit, hence
+     * reflects any later {@link #convertTo(Unit) conversion} of this buffer.
+     * 
+     * @param fromIndex
+     * @param toIndex
+     * @return the slice.
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public QuantityBuffer<Q> slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d) out of bounds for size %d", fromIndex, toIndex, size()));
+        }
+        final DoubleBuffer view = data.duplicate();
+        view.position(fromIndex);
+        view.limit(toIndex);
+        return new QuantityBuffer<>(null, view.slice(), unit);
+    }
+
+    /**
+     * Converts all values of this buffer in place, and records the new unit in the header.
+     * <p>
+     * The values are checked before any of them is written, then converted, and the header is
+     * written last. The conversion itself is not atomic though: should it be interrupted, e.g. by
+     * the process dying while converting a mapped file, the header still names the old unit while
+     * some of the values are stated in the new one already.
+     * 
+     * @param anotherUnit the new unit of this buffer.
+     * @return this buffer, now stated in {@code anotherUnit}.
+     * @throws UnsupportedOperationException if this buffer is a {@link #slice(int, int) slice},
+     *         since that would leave the remaining values of the underlying buffer in another unit
+     * @throws IllegalArgumentException if the formatted unit exceeds the space of the header, or if
+     *         a value, once converted, is NaN or infinite; the buffer is left unchanged then
+     * @throws java.nio.ReadOnlyBufferException if this buffer is read-only
+     */
+    public QuantityBuffer<Q> convertTo(Unit<Q> anotherUnit) {
+        if (buffer == null) {
+            throw new UnsupportedOperationException("Cannot convert a slice in place");
+        }
+        if (anotherUnit.equals(unit.value)) {
+            return this;
+        }
+        final UnitConverter converter = unit.value.getConverterTo(anotherUnit);
+        final byte[] unitBytes = unitBytesOf(anotherUnit);
+        if (data.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final double[] chunk = new double[Math.min(CHUNK_SIZE, size())];
+        // a first pass checks that all values can be read back once converted
+        final DoubleBuffer source = data.duplicate();
+        while (source.hasRemaining()) {
+            final int from = source.position();
+            final int length = convert(converter, source, chunk);
+            for (int i = 0; i < length; i++) {
+                requireFinite(chunk[i], from + i);
+            }
+        }
+        source.rewind();
+        final DoubleBuffer target = data.duplicate();
+        while (source.hasRemaining()) {
+            target.put(chunk, 0, convert(converter, source, chunk));
+        }
+        writeHeader(buffer, unitBytes, size());
+        unit.value = anotherUnit;
+        return this;
+    }
+
+    /**
+     * Reads the next chunk of values from {@code source} into {@code chunk}, converting them.
+     * 
+     * @return the number of values read.
+     */
+    private static int convert(UnitConverter converter, DoubleBuffer source, double[] chunk) {
+        final int length = Math.min(chunk.length, source.remaining());
+        source.get(chunk, 0, length);
+        if (converter instanceof AbstractConverter) {
+            ((AbstractConverter) converter).convert(chunk, 0, chunk, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                chunk[i] = converter.convert(chunk[i]);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Casts this buffer to a parameterized buffer of specified nature or throws a 
+     * {@code ClassCastException} if the dimensions do not match.
+     * 
+     * @param type the quantity class identifying the nature of the quantity.
+     * @return this buffer parameterized with the specified type.
+     * @throws ClassCastException if the dimension of this buffer's unit is different from the 
+     *         specified quantity dimension.
+     * @see Unit#asType(Class)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Quantity<T>> QuantityBuffer<T> asType(Class<T> type) throws ClassCastException {
+        unit.value.asType(type); // ClassCastException if dimension mismatches.
+        return (QuantityBuffer<T>) this;
+    }
+
+    /**
+     * Forces any changes to be written to the storage device, if this buffer (or the buffer it was
+     * sliced from) is mapped onto a file, otherwise does nothing.
+     */
+    public void force() {
+        if (buffer instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) buffer).force();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[size=%d, unit=%s]", getClass().getSimpleName(), size(), unit.value);
+    }
+
+    // -- HELPER
+
+    private static int byteSize(int size) {
+        if (size < 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        return HEADER_SIZE + size * Double.BYTES;
+    }
+
+    private static void writeHeader(ByteBuffer buffer, Unit<?> unit, int size) {
+        writeHeader(buffer, unitBytesOf(unit), size);
+    }
+
+    private static void writeHeader(ByteBuffer buffer, byte[] unitBytes, int size) {
+        final ByteBuffer header = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putLong(8, size);
+        header.putInt(16, unitBytes.length);
+        for (int i = 0; i < MAX_UNIT_LENGTH; i++) {
+            header.put(UNIT_OFFSET + i, i < unitBytes.length ? unitBytes[i] : 0);
+        }
+    }
+
+    /**
+     * @return the unit formatted and UTF-8 encoded, as recorded in the header.
+     * @throws IllegalArgumentException if the formatted unit exceeds the space of the header
+     */
+    private static byte[] unitBytesOf(Unit<?> unit) {
+        final byte[] unitBytes = SimpleUnitFormat.getInstance().format(unit).getBytes(StandardCharsets.UTF_8);
+        if (unitBytes.length > MAX_UNIT_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("Unit '%s' exceeds %d bytes when formatted", unit, MAX_UNIT_LENGTH));
+        }
+        return unitBytes;
+    }
+
+    private static double requireFinite(double value, int index) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(
+                    String.format("Unsupported number value '%s' at index %s", value, index));
+        }
+        return value;
+    }
+
+    private static DoubleBuffer dataOf(ByteBuffer buffer, int size) {
+        final ByteBuffer view = buffer.duplicate();
+        view.position(HEADER_SIZE);
+        view.limit(HEADER_SIZE + size * Double.BYTES);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+
+    private static final class UnitHolder<Q extends Quantity<Q>> {
+        private Unit<Q> value;
+
+        private UnitHolder(Unit<Q> value) {
+            this.value = value;
+        }
+    }
+
+    private final class ListView extends AbstractList<ComparableQuantity<Q>> implements RandomAccess {
+
+        @Override
+        public ComparableQuantity<Q> get(int index) {
+            return QuantityBuffer.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return QuantityBuffer.this.size();
+        }
+    }
+}
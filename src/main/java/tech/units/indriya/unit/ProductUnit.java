@@ -33,6 +33,7 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -81,6 +82,15 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
      */
     private final Element[] elements;
 
+    /**
+     * Memoized values derived from the (immutable) elements, computed on first use. Racing threads 
+     * might compute a value more than once, but will always publish equal immutable results.
+     */
+    private transient volatile Unit<Q> systemUnit;
+    private transient volatile UnitConverter systemConverter;
+    private transient volatile Dimension dimension;
+    private transient volatile Map<Unit<?>, Integer> baseUnits;
+
     /**
      * DefaultQuantityFactory constructor (used solely to create <code>ONE</code> instance).
      */
@@ -268,9 +278,13 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
     @Override
     public Map<Unit<?>, Integer> getBaseUnits() {
-        final Map<Unit<?>, Integer> units = new LinkedHashMap<>();
-        for (int i = 0; i < getUnitCount(); i++) {
-            units.put(getUnit(i), getUnitPow(i));
+        Map<Unit<?>, Integer> units = baseUnits;
+        if (units == null) {
+            final Map<Unit<?>, Integer> map = new LinkedHashMap<>();
+            for (int i = 0; i < getUnitCount(); i++) {
+                map.put(getUnit(i), getUnitPow(i));
+            }
+            baseUnits = units = Collections.unmodifiableMap(map);
         }
         return units;
     }
@@ -301,18 +315,31 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
     @SuppressWarnings("unchecked")
     @Override
     public Unit<Q> toSystemUnit() {
-        Unit<?> systemUnit = AbstractUnit.ONE;
-        for (Element element : elements) {
-            Unit<?> unit = element.unit.getSystemUnit();
-            unit = unit.pow(element.pow);
-            unit = unit.root(element.root);
-            systemUnit = systemUnit.multiply(unit);
+        Unit<Q> result = systemUnit;
+        if (result == null) {
+            Unit<?> unit = AbstractUnit.ONE;
+            for (Element element : elements) {
+                Unit<?> elementUnit = element.unit.getSystemUnit();
+                elementUnit = elementUnit.pow(element.pow);
+                elementUnit = elementUnit.root(element.root);
+                unit = unit.multiply(elementUnit);
+            }
+            systemUnit = result = (AbstractUnit<Q>) unit;
         }
-        return (AbstractUnit<Q>) systemUnit;
+        return result;
     }
 
     @Override
     public UnitConverter getSystemConverter() {
+        UnitConverter result = systemConverter;
+        if (result == null) {
+            // not memoized if non-linear, the exception is thrown on every call
+            systemConverter = result = calculateSystemConverter();
+        }
+        return result;
+    }
+
+    private UnitConverter calculateSystemConverter() {
         UnitConverter converter = AbstractConverter.IDENTITY;
         for (Element e : elements) {
             if (e.unit instanceof AbstractUnit) {
@@ -336,15 +363,19 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
     @Override
     public Dimension getDimension() {
-        Dimension dimension = UnitDimension.NONE;
-        for (int i = 0; i < this.getUnitCount(); i++) {
-            Unit<?> unit = this.getUnit(i);
-            if (this.elements != null && unit.getDimension() != null) {
-                Dimension d = unit.getDimension().pow(this.getUnitPow(i)).root(this.getUnitRoot(i));
-                dimension = dimension.multiply(d);
+        Dimension result = dimension;
+        if (result == null) {
+            result = UnitDimension.NONE;
+            for (int i = 0; i < this.getUnitCount(); i++) {
+                Unit<?> unit = this.getUnit(i);
+                if (this.elements != null && unit.getDimension() != null) {
+                    Dimension d = unit.getDimension().pow(this.getUnitPow(i)).root(this.getUnitRoot(i));
+                    result = result.multiply(d);
+                }
             }
+            dimension = result;
         }
-        return dimension;
+        return result;
     }
 
     /**
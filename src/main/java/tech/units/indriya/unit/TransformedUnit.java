@@ -92,6 +92,11 @@ public final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q
    */
   private final UnitConverter converter;
 
+  /**
+   * Memoized converter to the system unit, computed on first use.
+   */
+  private transient volatile UnitConverter systemConverter;
+
   /**
    * Creates a transformed unit from the specified system unit. using the parent as symbol
    * 
@@ -192,7 +197,12 @@ public final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q
 
   @Override
   public UnitConverter getSystemConverter() {
-    return parentUnit.getSystemConverter().concatenate(converter);
+    UnitConverter result = systemConverter;
+    if (result == null) {
+      // parent unit and converter are immutable, so racing threads compute equal results
+      systemConverter = result = parentUnit.getSystemConverter().concatenate(converter);
+    }
+    return result;
   }
 
   /**
@@ -17,6 +17,11 @@ public final class AddConverter extends BaseConverter {
     */
    private BigDecimal offset;
 
+   /**
+    * Holds the offset for double conversions.
+    */
+   private final double doubleOffset;
+
    /**
     * Creates an additive converter having the specified offset.
     *
@@ -29,6 +34,7 @@ public final class AddConverter extends BaseConverter {
       if(equals(ZERO, Objects.requireNonNull(offset)))
          throw new IllegalArgumentException("Would result in identity converter");
       this.offset = clean(offset);
+      this.doubleOffset = this.offset.doubleValue();
    }
 
    /**
@@ -61,6 +67,20 @@ public final class AddConverter extends BaseConverter {
       return clean(value.add(offset, DECIMAL128));
    }
 
+   @Override
+   public double convert(double value)
+   {
+      return value + doubleOffset;
+   }
+
+   @Override
+   protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = source[sourceOffset + i] + doubleOffset;
+      }
+   }
+
    @Override
    public UnitConverter concatenate(UnitConverter converter)
    {
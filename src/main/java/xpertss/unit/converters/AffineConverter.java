@@ -0,0 +1,246 @@
+package xpertss.unit.converters;
+
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import org.xpertss.measure.UnitConverter;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+import static java.math.MathContext.DECIMAL128;
+
+/**
+ * This class represents a converter scaling numeric values by an exact
+ * ratio and then adding a constant offset (<code>y = x * dividend / divisor
+ * + offset</code>).
+ * <p/>
+ * Affine converters are the normal form of a run of adjacent {@link
+ * RationalConverter}, {@link MultiplyConverter}, {@link DivideConverter} and
+ * {@link AddConverter} instances. They are produced by {@link #normalize(UnitConverter)}
+ * so that a converter costs a fixed number of operations no matter how deeply
+ * the unit it came from was nested.
+ */
+public final class AffineConverter extends BaseConverter {
+
+   /**
+    * Holds the converter dividend.
+    */
+   private final BigDecimal dividend;
+
+   /**
+    * Holds the converter divisor (always positive).
+    */
+   private final BigDecimal divisor;
+
+   /**
+    * Holds the offset added after scaling.
+    */
+   private final BigDecimal offset;
+
+   /**
+    * Holds the double equivalents of the above.
+    */
+   private final double doubleFactor;
+   private final double doubleOffset;
+
+
+   /**
+    * Creates an affine converter with the specified dividend, divisor and offset.
+    *
+    * @param dividend the dividend.
+    * @param divisor  the positive divisor.
+    * @param offset   the offset added after scaling.
+    * @throws IllegalArgumentException if <code>divisor &lt;= 0</code>
+    * @throws IllegalArgumentException if <code>dividend == 0</code>
+    * @throws IllegalArgumentException if the result would be an identity converter
+    */
+   public AffineConverter(BigDecimal dividend, BigDecimal divisor, BigDecimal offset)
+   {
+      if(Objects.requireNonNull(divisor).compareTo(ZERO) <= 0)
+         throw new IllegalArgumentException("Negative or zero divisor");
+      if(equals(ZERO, Objects.requireNonNull(dividend)))
+         throw new IllegalArgumentException("Zero dividend not supported");
+      if(equals(divisor, dividend) && equals(ZERO, Objects.requireNonNull(offset)))
+         throw new IllegalArgumentException("Would result in identity converter");
+      this.dividend = clean(dividend);
+      this.divisor = clean(divisor);
+      this.offset = clean(offset);
+      this.doubleFactor = this.dividend.divide(this.divisor, DECIMAL128).doubleValue();
+      this.doubleOffset = this.offset.doubleValue();
+   }
+
+
+   /**
+    * Returns the dividend of the scaling ratio.
+    */
+   public BigDecimal getDividend()
+   {
+      return dividend;
+   }
+
+   /**
+    * Returns the (positive) divisor of the scaling ratio.
+    */
+   public BigDecimal getDivisor()
+   {
+      return divisor;
+   }
+
+   /**
+    * Returns the offset added after scaling.
+    */
+   public BigDecimal getOffset()
+   {
+      return offset;
+   }
+
+
+   @Override
+   public boolean isLinear()
+   {
+      return equals(ZERO, offset);
+   }
+
+
+   @Override
+   public UnitConverter inverse()
+   {
+      // x = (y - offset) * divisor / dividend
+      BigDecimal newOffset = offset.negate().multiply(divisor, DECIMAL128).divide(dividend, DECIMAL128);
+      if(dividend.compareTo(ZERO) < 0) {
+         return create(divisor.negate(), dividend.negate(), newOffset);
+      }
+      return create(divisor, dividend, newOffset);
+   }
+
+
+   @Override
+   public BigDecimal convert(BigDecimal value)
+   {
+      return clean(value.multiply(dividend, DECIMAL128).divide(divisor, DECIMAL128).add(offset, DECIMAL128));
+   }
+
+   @Override
+   public double convert(double value)
+   {
+      return value * doubleFactor + doubleOffset;
+   }
+
+   @Override
+   protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = source[sourceOffset + i] * doubleFactor + doubleOffset;
+      }
+   }
+
+
+
+   /**
+    * Returns a converter equivalent to the one specified in which nested
+    * compound converters have been flattened and every run of adjacent
+    * rational, multiply, divide and add converters has been folded into a
+    * single converter.
+    *
+    * @param converter the converter to normalize.
+    * @return the normalized converter.
+    */
+   public static UnitConverter normalize(UnitConverter converter)
+   {
+      List<UnitConverter> steps = converter.getConversionSteps();
+      if(steps.size() < 2) return converter;
+
+      // Steps are listed left to right but applied right to left.
+      UnitConverter result = UnitConverter.IDENTITY;
+      int end = steps.size();
+      while(end > 0) {
+         int start = end;
+         while(start > 0 && isAffine(steps.get(start - 1))) start--;
+         if(start == end) {
+            result = steps.get(--end).concatenate(result);
+         } else {
+            result = fold(steps.subList(start, end)).concatenate(result);
+            end = start;
+         }
+      }
+      return result;
+   }
+
+
+   private static boolean isAffine(UnitConverter converter)
+   {
+      return converter instanceof RationalConverter || converter instanceof MultiplyConverter ||
+               converter instanceof DivideConverter || converter instanceof AddConverter ||
+               converter instanceof AffineConverter;
+   }
+
+   private static UnitConverter fold(List<UnitConverter> run)
+   {
+      if(run.size() == 1) return run.get(0);
+      BigDecimal dividend = ONE;
+      BigDecimal divisor = ONE;
+      BigDecimal offset = ZERO;
+      for(int i = run.size() - 1; i >= 0; i--) {
+         UnitConverter step = run.get(i);
+         if(step instanceof RationalConverter) {
+            RationalConverter rc = (RationalConverter) step;
+            dividend = dividend.multiply(rc.getDividend(), DECIMAL128);
+            divisor = divisor.multiply(rc.getDivisor(), DECIMAL128);
+            offset = offset.multiply(rc.getDividend(), DECIMAL128).divide(rc.getDivisor(), DECIMAL128);
+         } else if(step instanceof MultiplyConverter) {
+            BigDecimal factor = ((MultiplyConverter) step).getFactor();
+            dividend = dividend.multiply(factor, DECIMAL128);
+            offset = offset.multiply(factor, DECIMAL128);
+         } else if(step instanceof DivideConverter) {
+            BigDecimal factor = ((DivideConverter) step).getFactor();
+            divisor = divisor.multiply(factor, DECIMAL128);
+            offset = offset.divide(factor, DECIMAL128);
+         } else if(step instanceof AddConverter) {
+            offset = offset.add(((AddConverter) step).getOffset(), DECIMAL128);
+         } else {
+            AffineConverter ac = (AffineConverter) step;
+            dividend = dividend.multiply(ac.dividend, DECIMAL128);
+            divisor = divisor.multiply(ac.divisor, DECIMAL128);
+            offset = offset.multiply(ac.dividend, DECIMAL128).divide(ac.divisor, DECIMAL128).add(ac.offset, DECIMAL128);
+         }
+      }
+      if(divisor.compareTo(ZERO) < 0) {
+         dividend = dividend.negate();
+         divisor = divisor.negate();
+      }
+      return create(dividend, divisor, offset);
+   }
+
+   private static UnitConverter create(BigDecimal dividend, BigDecimal divisor, BigDecimal offset)
+   {
+      boolean unscaled = dividend.compareTo(divisor) == 0;
+      if(offset.compareTo(ZERO) != 0) {
+         return unscaled ? new AddConverter(offset) : new AffineConverter(dividend, divisor, offset);
+      }
+      return unscaled ? UnitConverter.IDENTITY : new RationalConverter(dividend, divisor);
+   }
+
+
+   @Override
+   public boolean equals(Object obj)
+   {
+      if(!(obj instanceof AffineConverter)) return false;
+      AffineConverter that = (AffineConverter) obj;
+      return Objects.equals(dividend, that.dividend) &&
+               Objects.equals(divisor, that.divisor) &&
+               Objects.equals(offset, that.offset);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return Objects.hash(dividend, divisor, offset);
+   }
+
+   @Override
+   public final String toString()
+   {
+      return "AffineConverter(" + dividend + "," + divisor + "," + offset + ")";
+   }
+}
@@ -0,0 +1,210 @@
+package xpertss.unit.converters;
+
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+
+/**
+ * Arbitrary precision natural logarithm and exponential functions used by the
+ * logarithmic converters.
+ * <p/>
+ * Both functions reduce their argument so that a short series converges quickly.
+ * The constants used by the reduction (ln 2 and ln 10), as well as the logarithms
+ * of converter bases, are computed once per {@link MathContext} and cached.
+ */
+final class BigMath {
+
+   /**
+    * Extra digits carried through intermediate computations.
+    */
+   private static final int GUARD_DIGITS = 10;
+
+   private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+   private static final ConcurrentMap<MathContext, BigDecimal> LN2 = new ConcurrentHashMap<>();
+   private static final ConcurrentMap<MathContext, BigDecimal> LN10 = new ConcurrentHashMap<>();
+   private static final ConcurrentMap<BaseKey, BigDecimal> LN_OF_BASE = new ConcurrentHashMap<>();
+
+
+   private BigMath() { }
+
+
+   /**
+    * Returns the natural logarithm of the specified value.
+    *
+    * @param x  the value (must be positive).
+    * @param mc the math context of the result.
+    * @return <code>ln(x)</code> rounded according to the math context.
+    * @throws ArithmeticException if <code>x &lt;= 0</code> or if the math
+    *                             context has unlimited precision.
+    */
+   static BigDecimal ln(BigDecimal x, MathContext mc)
+   {
+      if(x.signum() <= 0) throw new ArithmeticException("Logarithm of non-positive value: " + x);
+      if(x.compareTo(ONE) == 0) return ZERO;
+      MathContext wc = extend(mc);
+
+      // x = y * 10^e with 1 <= y < 10
+      int e = x.precision() - x.scale() - 1;
+      BigDecimal y = x.movePointLeft(e);
+
+      // y = z * 2^k with 0.75 <= z < 1.5
+      int k = 0;
+      BigDecimal limit = new BigDecimal("1.5");
+      while(y.compareTo(limit) >= 0) {
+         y = y.divide(TWO, wc);
+         k++;
+      }
+
+      BigDecimal result = atanhSeries(y.subtract(ONE).divide(y.add(ONE), wc), wc);
+      if(k != 0) result = result.add(ln2(wc).multiply(BigDecimal.valueOf(k), wc), wc);
+      if(e != 0) result = result.add(ln10(wc).multiply(BigDecimal.valueOf(e), wc), wc);
+      return result.round(mc);
+   }
+
+   /**
+    * Returns Euler's number raised to the specified value.
+    *
+    * @param x  the exponent.
+    * @param mc the math context of the result.
+    * @return <code>e^x</code> rounded according to the math context.
+    * @throws ArithmeticException if the result overflows or if the math context
+    *                             has unlimited precision.
+    */
+   static BigDecimal exp(BigDecimal x, MathContext mc)
+   {
+      if(x.signum() == 0) return ONE;
+      MathContext wc = extend(mc);
+
+      // x = k * ln2 + r with |r| <= ln2 / 2
+      BigDecimal ln2 = ln2(wc);
+      BigDecimal k = x.divide(ln2, 0, RoundingMode.HALF_EVEN);
+      if(k.abs().compareTo(BigDecimal.valueOf(999999999)) > 0)
+         throw new ArithmeticException("Exponent out of range: " + x);
+      BigDecimal r = x.subtract(ln2.multiply(k, wc), wc);
+
+      // Taylor series on r / 2^8 then square the result back up.
+      BigDecimal z = r.divide(BigDecimal.valueOf(256), wc);
+      BigDecimal result = ONE;
+      BigDecimal term = ONE;
+      BigDecimal epsilon = ONE.movePointLeft(wc.getPrecision());
+      for(int n = 1; term.abs().compareTo(epsilon) > 0; n++) {
+         term = term.multiply(z, wc).divide(BigDecimal.valueOf(n), wc);
+         result = result.add(term, wc);
+      }
+      for(int i = 0; i < 8; i++) {
+         result = result.multiply(result, wc);
+      }
+      return result.multiply(TWO.pow(k.intValueExact(), wc), wc).round(mc);
+   }
+
+
+
+   /**
+    * Returns the natural logarithm of a logarithmic base, cached per base and math
+    * context so that converters and their inverses share it.
+    *
+    * @param base the logarithmic base (must be positive).
+    * @param mc   the math context of the result.
+    * @return <code>ln(base)</code> rounded according to the math context.
+    */
+   static BigDecimal lnOfBase(double base, MathContext mc)
+   {
+      if(base == Math.E) return ONE;
+      BaseKey key = new BaseKey(base, mc);
+      BigDecimal value = LN_OF_BASE.get(key);
+      if(value == null) {
+         value = ln(BigDecimal.valueOf(base), mc);
+         LN_OF_BASE.putIfAbsent(key, value);
+      }
+      return value;
+   }
+
+   /**
+    * Returns a math context carrying guard digits beyond those of the one specified.
+    *
+    * @throws ArithmeticException if the math context has unlimited precision.
+    */
+   static MathContext extend(MathContext mc)
+   {
+      if(mc.getPrecision() == 0) throw new ArithmeticException("Unlimited precision not supported");
+      return new MathContext(mc.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+   }
+
+   /**
+    * Computes <code>2 * atanh(z) = ln((1 + z) / (1 - z))</code> for small z.
+    */
+   private static BigDecimal atanhSeries(BigDecimal z, MathContext wc)
+   {
+      BigDecimal z2 = z.multiply(z, wc);
+      BigDecimal power = z;
+      BigDecimal sum = z;
+      BigDecimal epsilon = ONE.movePointLeft(wc.getPrecision());
+      for(int n = 3; power.abs().compareTo(epsilon) > 0; n += 2) {
+         power = power.multiply(z2, wc);
+         sum = sum.add(power.divide(BigDecimal.valueOf(n), wc), wc);
+      }
+      return sum.multiply(TWO, wc);
+   }
+
+   private static BigDecimal ln2(MathContext wc)
+   {
+      BigDecimal value = LN2.get(wc);
+      if(value == null) {
+         // ln(2) = 2 * atanh(1/3)
+         value = atanhSeries(ONE.divide(BigDecimal.valueOf(3), wc), wc);
+         LN2.putIfAbsent(wc, value);
+      }
+      return value;
+   }
+
+   private static BigDecimal ln10(MathContext wc)
+   {
+      BigDecimal value = LN10.get(wc);
+      if(value == null) {
+         // ln(10) = 3 * ln(2) + ln(1.25) where ln(1.25) = 2 * atanh(1/9)
+         value = ln2(wc).multiply(BigDecimal.valueOf(3), wc)
+                  .add(atanhSeries(ONE.divide(BigDecimal.valueOf(9), wc), wc), wc);
+         LN10.putIfAbsent(wc, value);
+      }
+      return value;
+   }
+
+
+   /**
+    * Key of the cached logarithms of bases.
+    */
+   private static final class BaseKey {
+
+      private final double base;
+      private final MathContext mc;
+
+      private BaseKey(double base, MathContext mc)
+      {
+         this.base = base;
+         this.mc = mc;
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if(!(obj instanceof BaseKey)) return false;
+         BaseKey that = (BaseKey) obj;
+         return Double.compare(base, that.base) == 0 && mc.equals(that.mc);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         long bits = Double.doubleToLongBits(base);
+         return 31 * (int) (bits ^ (bits >>> 32)) + mc.hashCode();
+      }
+   }
+
+}
@@ -17,6 +17,11 @@ public class DivideConverter extends BaseConverter {
     */
    private final BigDecimal factor;
 
+   /**
+    * Holds the scale factor for double conversions.
+    */
+   private final double doubleFactor;
+
    /**
     * Creates a multiply converter with the specified scale factor.
     *
@@ -30,6 +35,7 @@ public class DivideConverter extends BaseConverter {
       if(equals(ZERO, Objects.requireNonNull(factor)))
          throw new IllegalArgumentException("Zero factor not supported");
       this.factor = clean(factor);
+      this.doubleFactor = this.factor.doubleValue();
    }
 
    /**
@@ -61,6 +67,20 @@ public class DivideConverter extends BaseConverter {
       return clean(amount.divide(factor, DECIMAL128));
    }
 
+   @Override
+   public double convert(double amount)
+   {
+      return amount / doubleFactor;
+   }
+
+   @Override
+   protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = source[sourceOffset + i] / doubleFactor;
+      }
+   }
+
 
    @Override
    public UnitConverter concatenate(UnitConverter converter)
@@ -3,27 +3,31 @@ package xpertss.unit.converters;
 
 import org.xpertss.measure.UnitConverter;
 import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.math.MathContext.DECIMAL128;
 
 /**
- * <p> This class represents a exponential converter of limited precision.
- * Such converter is used to create inverse of logarithmic unit.
+ * <p> This class represents a exponential converter. Such converter is used
+ * to create inverse of logarithmic unit.
  * <p/>
  * <p> This class is package private, instances are created
  * using the {@link LogConverter#inverse()} method.</p>
  * <p/>
- * TODO Impl this with BigMath package
+ * Like {@link LogConverter} it offers a double path and a {@link BigDecimal}
+ * path computed to the precision of a {@link MathContext}.
  */
 final class ExpConverter extends BaseConverter {
 
    /**
     * Holds the logarithmic base.
     */
-   private double base;
+   private final double base;
 
    /**
     * Holds the natural logarithm of the base.
     */
-   private double logOfBase;
+   private final double logOfBase;
 
    /**
     * Creates a logarithmic converter having the specified base.
@@ -56,11 +60,38 @@ final class ExpConverter extends BaseConverter {
    }
 
 
+   /**
+    * Converts the specified value using {@link MathContext#DECIMAL128 DECIMAL128}
+    * precision.
+    */
    @Override
    public BigDecimal convert(BigDecimal value)
       throws ArithmeticException
    {
-      return null;
+      return clean(convert(value, DECIMAL128));
+   }
+
+   /**
+    * Converts the specified value to the precision of the specified math
+    * context.
+    *
+    * @param value the value to convert.
+    * @param mc    the math context of the result.
+    * @return this converter's base raised to the value.
+    * @throws ArithmeticException if the result overflows or the math context
+    *                             has unlimited precision.
+    */
+   public BigDecimal convert(BigDecimal value, MathContext mc)
+   {
+      MathContext wc = BigMath.extend(mc);
+      return BigMath.exp(value.multiply(BigMath.lnOfBase(base, wc), wc), mc);
+   }
+
+
+   @Override
+   public double convert(double amount)
+   {
+      return Math.exp(logOfBase * amount);
    }
 
 
@@ -3,27 +3,32 @@ package xpertss.unit.converters;
 
 import org.xpertss.measure.UnitConverter;
 import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.math.MathContext.DECIMAL128;
 
 /**
- * <p> This class represents a logarithmic converter of limited precision.
- * Such converter  is typically used to create logarithmic unit.
+ * <p> This class represents a logarithmic converter. Such converter is
+ * typically used to create logarithmic unit.
  * For example:[code]
  * Unit<Dimensionless> BEL = Unit.ONE.transform(new LogConverter(10).inverse());
  * [/code]</p>
  * <p/>
- * TODO Impl this with BigMath package
- * TODO Convert to use BigDecimal
+ * The double path divides by the natural logarithm of the base computed once
+ * at construction. The {@link BigDecimal} path is computed to the precision of
+ * a {@link MathContext} (DECIMAL128 by default), the logarithm of the base being
+ * cached for each math context used.
  */
 public final class LogConverter extends BaseConverter {
 
    /**
     * Holds the logarithmic base.
     */
-   private double base;
+   private final double base;
    /**
     * Holds the natural logarithm of the base.
     */
-   private double logOfBase;
+   private final double logOfBase;
 
    /**
     * Returns a logarithmic converter having the specified base.
@@ -64,17 +69,38 @@ public final class LogConverter extends BaseConverter {
 
 
 
-   /*
-    public double convert(double amount) {
-        return Math.log(amount) / logOfBase;
-    }
-    */
+   @Override
+   public double convert(double amount)
+   {
+      return Math.log(amount) / logOfBase;
+   }
 
+   /**
+    * Converts the specified value using {@link MathContext#DECIMAL128 DECIMAL128}
+    * precision.
+    *
+    * @throws ArithmeticException if the value is not positive.
+    */
    @Override
    public BigDecimal convert(BigDecimal value)
    {
-      // TODO Impl
-      return null;
+      return clean(convert(value, DECIMAL128));
+   }
+
+   /**
+    * Converts the specified value to the precision of the specified math
+    * context.
+    *
+    * @param value the value to convert.
+    * @param mc    the math context of the result.
+    * @return the logarithm of the value in this converter's base.
+    * @throws ArithmeticException if the value is not positive or the math
+    *                             context has unlimited precision.
+    */
+   public BigDecimal convert(BigDecimal value, MathContext mc)
+   {
+      MathContext wc = BigMath.extend(mc);
+      return BigMath.ln(value, wc).divide(BigMath.lnOfBase(base, wc), mc);
    }
 
 
@@ -20,6 +20,11 @@ public final class MultiplyConverter extends BaseConverter {
     */
    private BigDecimal factor;
 
+   /**
+    * Holds the scale factor for double conversions.
+    */
+   private final double doubleFactor;
+
    /**
     * Creates a multiply converter with the specified scale factor.
     *
@@ -34,6 +39,7 @@ public final class MultiplyConverter extends BaseConverter {
       if(equals(ZERO, Objects.requireNonNull(factor)))
          throw new IllegalArgumentException("Zero factor not supported");
       this.factor = clean(factor);
+      this.doubleFactor = this.factor.doubleValue();
    }
 
    /**
@@ -67,6 +73,20 @@ public final class MultiplyConverter extends BaseConverter {
       return clean(value.multiply(factor, DECIMAL128));
    }
 
+   @Override
+   public double convert(double value)
+   {
+      return value * doubleFactor;
+   }
+
+   @Override
+   protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = source[sourceOffset + i] * doubleFactor;
+      }
+   }
+
 
    @Override
    public UnitConverter concatenate(UnitConverter converter)
@@ -47,6 +47,20 @@ public final class PiMultiplierConverter extends BaseConverter {
       return clean(value.multiply(PI, DECIMAL128));
    }
 
+   @Override
+   public double convert(double value)
+   {
+      return value * Math.PI;
+   }
+
+   @Override
+   protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = source[sourceOffset + i] * Math.PI;
+      }
+   }
+
 
    @Override
    public boolean equals(Object obj)
@@ -26,6 +26,11 @@ public final class RationalConverter extends BaseConverter {
     */
    private BigDecimal divisor;
 
+   /**
+    * Holds the quotient of dividend and divisor for double conversions.
+    */
+   private final double factor;
+
 
    /**
     * Creates a rational converter with the specified dividend and
@@ -47,6 +52,7 @@ public final class RationalConverter extends BaseConverter {
          throw new IllegalArgumentException("Zero dividend not supported");
       this.dividend = clean(dividend); // Exact conversion.
       this.divisor = clean(divisor); // Exact conversion.
+      this.factor = this.dividend.divide(this.divisor, DECIMAL128).doubleValue();
    }
 
    /**
@@ -107,6 +113,20 @@ public final class RationalConverter extends BaseConverter {
       return clean(value.multiply(dividend, DECIMAL128).divide(divisor, DECIMAL128));
    }
 
+   @Override
+   public double convert(double value)
+   {
+      return value * factor;
+   }
+
+   @Override
+   protected void convertArray(double[] source, int sourceOffset, double[] target, int targetOffset, int length)
+   {
+      for(int i = 0; i < length; i++) {
+         target[targetOffset + i] = source[sourceOffset + i] * factor;
+      }
+   }
+
    @Override
    public UnitConverter concatenate(UnitConverter converter)
    {
@@ -24,6 +24,11 @@ public final class AlternateUnit<Q extends Quantity<Q>> extends Unit<Q> {
     */
    private final String symbol;
 
+   /**
+    * Holds the dimension of the parent unit (computed on first use).
+    */
+   private volatile Dimension dimension;
+
 
    /**
     * Creates an alternate unit for the specified system unit identified by the
@@ -59,7 +64,9 @@ public final class AlternateUnit<Q extends Quantity<Q>> extends Unit<Q> {
    @Override
    public Dimension getDimension()
    {
-      return parentUnit.getDimension();
+      Dimension result = dimension;
+      if(result == null) dimension = result = parentUnit.getDimension();
+      return result;
    }
 
 
@@ -2,12 +2,18 @@ package xpertss.unit.types;
 
 
 import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.xpertss.measure.Dimension;
 import org.xpertss.measure.Quantity;
 import org.xpertss.measure.Unit;
 import org.xpertss.measure.UnitConverter;
 import org.xpertss.measure.units.SI;
+import xpertss.unit.converters.AffineConverter;
 
 /**
  * <p>  This class represents units formed by the product of rational powers of
@@ -21,6 +27,18 @@ import org.xpertss.measure.units.SI;
  */
 public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
 
+   /**
+    * Holds the canonical product units created by the factory methods, keyed by
+    * their elements. An entry is dropped once its unit is no longer referenced
+    * elsewhere.
+    */
+   private static final ConcurrentMap<Elements, CanonicalReference> INTERNED = new ConcurrentHashMap<>();
+
+   /**
+    * Receives the references of canonical units which have been garbage collected.
+    */
+   private static final ReferenceQueue<ProductUnit<?>> RELEASED = new ReferenceQueue<>();
+
    /**
     * Holds the units composing this product unit.
     */
@@ -31,6 +49,14 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
     */
    private int hashCode;
 
+   /**
+    * Holds the derived system unit, converter and dimension. Units are
+    * immutable so these are computed on first use and kept.
+    */
+   private volatile Unit<Q> systemUnit;
+   private volatile UnitConverter toSystemUnit;
+   private volatile Dimension dimension;
+
 
    /**
     * Default constructor (used solely to create <code>ONE</code> instance).
@@ -65,6 +91,30 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
 
    @Override
    public Unit<Q> getSystemUnit()
+   {
+      Unit<Q> result = systemUnit;
+      if(result == null) systemUnit = result = computeSystemUnit();
+      return result;
+   }
+
+   @Override
+   public UnitConverter toSystemUnit()
+   {
+      UnitConverter result = toSystemUnit;
+      if(result == null) toSystemUnit = result = computeToSystemUnit();
+      return result;
+   }
+
+   @Override
+   public Dimension getDimension()
+   {
+      Dimension result = dimension;
+      if(result == null) dimension = result = computeDimension();
+      return result;
+   }
+
+
+   private Unit<Q> computeSystemUnit()
    {
       Unit<?> systemUnit = SI.ONE;
       for(Element element : elements) {
@@ -73,11 +123,10 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
          unit = unit.root(element.root);
          systemUnit = systemUnit.multiply(unit);
       }
-      return (Unit<Q>) systemUnit;
+      return systemUnit.equals(this) ? this : (Unit<Q>) systemUnit;
    }
 
-   @Override
-   public UnitConverter toSystemUnit()
+   private UnitConverter computeToSystemUnit()
    {
       UnitConverter converter = UnitConverter.IDENTITY;
       for(Element e : elements) {
@@ -94,12 +143,11 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
             converter = converter.concatenate(cvtr);
          }
       }
-      return converter;
+      return AffineConverter.normalize(converter);
    }
 
 
-   @Override
-   public Dimension getDimension()
+   private Dimension computeDimension()
    {
       Dimension dimension = Dimension.NONE;
       for(int i = 0; i < this.getUnitCount(); i++) {
@@ -253,35 +301,14 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
    {
       if(this == that) return true;
       if(!(that instanceof ProductUnit<?>)) return false;
-      // Two products are equals if they have the same elements
-      // regardless of the elements' order.
-      Element[] elems = ((ProductUnit<?>) that).elements;
-      if(elements.length != elems.length) return false;
-      for(Element e : elements) {
-         boolean unitFound = false;
-         for(Element elem : elems) {
-            if(e.unit.equals(elem.unit)) {
-               if((e.pow != elem.pow) || (e.root != elem.root)) {
-                  return false;
-               } else {
-                  unitFound = true;
-                  break;
-               }
-            }
-         }
-         if(!unitFound) return false;
-      }
-      return true;
+      return sameElements(elements, ((ProductUnit<?>) that).elements);
    }
 
    @Override
    public int hashCode()
    {
       if(this.hashCode != 0) return this.hashCode;
-      int code = 0;
-      for(Element element : elements) {
-         code += element.unit.hashCode() * (element.pow * 3 - element.root * 2);
-      }
+      int code = hashCode(elements);
       this.hashCode = code;
       return code;
    }
@@ -352,10 +379,81 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
       } else {
          Element[] elems = new Element[resultIndex];
          System.arraycopy(result, 0, elems, 0, resultIndex);
-         return new ProductUnit(elems);
+         return intern(elems);
+      }
+   }
+
+   /**
+    * Returns the canonical product unit of the specified elements, creating
+    * and registering it if there is none yet. Lookups do not lock, concurrent
+    * registrations of the same elements agree on a single instance.
+    *
+    * @param elems the elements in canonical (simplest) form.
+    * @return the shared instance.
+    */
+   private static ProductUnit<?> intern(Element[] elems)
+   {
+      purgeReleased();
+      Elements key = new Elements(elems);
+      CanonicalReference ref = INTERNED.get(key);
+      ProductUnit<?> canonical = (ref == null) ? null : ref.get();
+      if(canonical != null) return canonical;
+
+      ProductUnit<?> unit = new ProductUnit(elems);
+      CanonicalReference created = new CanonicalReference(unit, key);
+      while(true) {
+         ref = INTERNED.putIfAbsent(key, created);
+         if(ref == null) return unit;
+         canonical = ref.get();
+         if(canonical != null) return canonical;
+         if(INTERNED.replace(key, ref, created)) return unit;
       }
    }
 
+   /**
+    * Drops the entries of canonical units which have been garbage collected.
+    */
+   private static void purgeReleased()
+   {
+      Reference<? extends ProductUnit<?>> ref;
+      while((ref = RELEASED.poll()) != null) {
+         INTERNED.remove(((CanonicalReference) ref).key, ref);
+      }
+   }
+
+   /**
+    * Two products are equal if they have the same elements regardless of the
+    * elements' order.
+    */
+   private static boolean sameElements(Element[] elements, Element[] elems)
+   {
+      if(elements.length != elems.length) return false;
+      for(Element e : elements) {
+         boolean unitFound = false;
+         for(Element elem : elems) {
+            if(e.unit.equals(elem.unit)) {
+               if((e.pow != elem.pow) || (e.root != elem.root)) {
+                  return false;
+               } else {
+                  unitFound = true;
+                  break;
+               }
+            }
+         }
+         if(!unitFound) return false;
+      }
+      return true;
+   }
+
+   private static int hashCode(Element[] elements)
+   {
+      int code = 0;
+      for(Element element : elements) {
+         code += element.unit.hashCode() * (element.pow * 3 - element.root * 2);
+      }
+      return code;
+   }
+
    /**
     * Returns the greatest common divisor (Euclid's algorithm).
     *
@@ -370,6 +468,47 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
    }
 
 
+   /**
+    * Key of the intern table, equal for equal products.
+    */
+   private static final class Elements {
+
+      private final Element[] elements;
+      private final int hashCode;
+
+      private Elements(Element[] elements)
+      {
+         this.elements = elements;
+         this.hashCode = ProductUnit.hashCode(elements);
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         return (obj instanceof Elements) && sameElements(elements, ((Elements) obj).elements);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hashCode;
+      }
+   }
+
+   /**
+    * Weak reference to a canonical unit, remembering its key for removal.
+    */
+   private static final class CanonicalReference extends WeakReference<ProductUnit<?>> {
+
+      private final Elements key;
+
+      private CanonicalReference(ProductUnit<?> unit, Elements key)
+      {
+         super(unit, RELEASED);
+         this.key = key;
+      }
+   }
+
    /**
     * Inner product element represents a rational power of a single unit.
     */
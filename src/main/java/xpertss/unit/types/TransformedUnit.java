@@ -34,6 +34,11 @@ public final class TransformedUnit<Q extends Quantity<Q>> extends Unit<Q> {
     */
    private final UnitConverter toParentUnit;
 
+   /**
+    * Holds the converter to the system unit (computed on first use).
+    */
+   private volatile UnitConverter toSystemUnit;
+
    /**
     * Creates a transformed unit from the specified system unit.
     *
@@ -54,7 +59,9 @@ public final class TransformedUnit<Q extends Quantity<Q>> extends Unit<Q> {
    @Override
    public UnitConverter toSystemUnit()
    {
-      return parentUnit.toSystemUnit().concatenate(toParentUnit);
+      UnitConverter result = toSystemUnit;
+      if(result == null) toSystemUnit = result = parentUnit.toSystemUnit().concatenate(toParentUnit);
+      return result;
    }
 
    @Override
@@ -0,0 +1,61 @@
+package org.xpertss.measure;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.xpertss.measure.units.SI.*;
+
+
+public class ConverterCacheTest {
+
+   @Test
+   public void testCapacityRoundedToPowerOfTwo() {
+      assertEquals(16, new ConverterCache(10).getCapacity());
+      assertEquals(16, new ConverterCache(16).getCapacity());
+      assertEquals(1, new ConverterCache(1).getCapacity());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testZeroCapacityThrowsException() {
+      new ConverterCache(0);
+   }
+
+   @Test
+   public void testHitAndMiss() {
+      ConverterCache cache = new ConverterCache(16);
+      UnitConverter converter = MINUTE.toSystemUnit();
+      assertNull(cache.get(MINUTE, SECOND));
+      cache.put(MINUTE, SECOND, converter);
+      assertSame(converter, cache.get(MINUTE, SECOND));
+      assertNull(cache.get(SECOND, MINUTE));
+      assertEquals(1, cache.getHitCount());
+      assertEquals(2, cache.getMissCount());
+      assertEquals(0, cache.getEvictionCount());
+   }
+
+   @Test
+   public void testEviction() {
+      ConverterCache cache = new ConverterCache(1);
+      cache.put(MINUTE, SECOND, MINUTE.toSystemUnit());
+      cache.put(HOUR, SECOND, HOUR.toSystemUnit());
+      assertEquals(1, cache.getEvictionCount());
+      assertNull(cache.get(MINUTE, SECOND));
+      assertNotNull(cache.get(HOUR, SECOND));
+   }
+
+   @Test
+   public void testClear() {
+      ConverterCache cache = new ConverterCache(16);
+      cache.put(MINUTE, SECOND, MINUTE.toSystemUnit());
+      cache.clear();
+      assertNull(cache.get(MINUTE, SECOND));
+   }
+
+   @Test
+   public void testGetConverterToIsCached() {
+      UnitConverter first = HOUR.getConverterTo(MINUTE);
+      UnitConverter second = HOUR.getConverterTo(MINUTE);
+      assertSame(first, second);
+   }
+
+}
@@ -111,4 +111,68 @@ public class DimensionTest {
       assertEquals("[J]", LUMINOUS_INTENSITY.toString());
    }
 
-}
\ No newline at end of file
+   @Test
+   public void testCanonical() {
+      assertSame(LENGTH.multiply(MASS), MASS.multiply(LENGTH));
+      assertSame(LENGTH, LENGTH.multiply(TIME).divide(TIME));
+      assertSame(NONE, TIME.divide(TIME));
+      assertSame(NONE, MASS.pow(0));
+      assertSame(LENGTH, LENGTH.pow(2).root(2));
+      assertSame(LENGTH.root(2), LENGTH.pow(2).root(4));
+      assertSame(LENGTH.pow(-1), LENGTH.root(-1));
+      assertSame(LENGTH, valueOf('L'));
+   }
+
+   @Test
+   public void testComposedToString() {
+      assertEquals("1", NONE.toString());
+      assertEquals("[L]·[M]·[T]^-2", LENGTH.multiply(MASS).divide(TIME.pow(2)).toString());
+      assertEquals("[L]^1/2", LENGTH.root(2).toString());
+   }
+
+   @Test
+   public void testResultsNotAffectedByLaterOperations() {
+      Dimension velocity = LENGTH.divide(TIME);
+      Dimension area = LENGTH.pow(2);
+      Dimension force = MASS.multiply(LENGTH).divide(TIME.pow(2));
+      assertEquals("[L]·[T]^-1", velocity.toString());
+      assertEquals("[L]^2", area.toString());
+      assertEquals("[L]·[M]·[T]^-2", force.toString());
+      assertSame(velocity, LENGTH.multiply(TIME.pow(-1)));
+   }
+
+   @Test
+   public void testCanonicalAcrossThreads() throws Exception {
+      final Dimension[] results = new Dimension[8];
+      Thread[] threads = new Thread[results.length];
+      for(int i = 0; i < threads.length; i++) {
+         final int index = i;
+         threads[i] = new Thread(new Runnable() {
+            public void run() {
+               Dimension result = null;
+               for(int n = 0; n < 10000; n++) {
+                  result = LUMINOUS_INTENSITY.pow(3).root(5).multiply(AMOUNT_OF_SUBSTANCE.pow(index % 2 + 1));
+               }
+               results[index] = result;
+            }
+         });
+         threads[i].start();
+      }
+      for(Thread thread : threads) thread.join();
+      for(int i = 2; i < results.length; i++) {
+         assertSame(results[i - 2], results[i]);
+      }
+      assertNotSame(results[0], results[1]);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testUnknownSymbol() {
+      valueOf('X');
+   }
+
+   @Test(expected = ArithmeticException.class)
+   public void testZeroRoot() {
+      LENGTH.root(0);
+   }
+
+}
@@ -0,0 +1,60 @@
+package org.xpertss.measure;
+
+import org.junit.Test;
+import xpertss.unit.converters.RationalConverter;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.xpertss.measure.units.SI.*;
+
+
+public class DimensionalModelTest {
+
+   @Test
+   public void testStandardModelIsIdentity() {
+      assertSame(DimensionalModel.STANDARD, DimensionalModel.getCurrent());
+      assertSame(UnitConverter.IDENTITY, DimensionalModel.STANDARD.getTransform(Dimension.LENGTH));
+      assertSame(UnitConverter.IDENTITY, DimensionalModel.STANDARD.getTransform(NEWTON.multiply(METRE)));
+   }
+
+   @Test
+   public void testAlternateToProductConversion() {
+      Unit<?> newtonMetre = NEWTON.multiply(METRE);
+      UnitConverter converter = JOULE.getConverterTo(newtonMetre);
+      assertNotNull(converter);
+      assertEquals(BigDecimal.TEN, converter.convert(BigDecimal.TEN));
+   }
+
+   @Test
+   public void testTransformedToProductConversion() {
+      Unit<?> newtonMetre = NEWTON.multiply(METRE);
+      UnitConverter converter = ELECTRON_VOLT.getConverterTo(newtonMetre);
+      assertEquals(new BigDecimal("1.602176487E-19"), converter.convert(BigDecimal.ONE));
+      assertEquals(BigDecimal.ONE, newtonMetre.getConverterTo(ELECTRON_VOLT).convert(new BigDecimal("1.602176487E-19")));
+   }
+
+   @Test(expected = UnconvertibleException.class)
+   public void testIncompatibleUnitsThrowException() {
+      JOULE.getConverterTo(NEWTON);
+   }
+
+   @Test
+   public void testTransformComputedOncePerDimension() {
+      final AtomicInteger computed = new AtomicInteger();
+      DimensionalModel model = new DimensionalModel() {
+         @Override
+         protected UnitConverter computeTransform(Dimension dimension) {
+            computed.incrementAndGet();
+            return (dimension.equals(Dimension.TIME)) ? new RationalConverter(2, 1) : UnitConverter.IDENTITY;
+         }
+      };
+      UnitConverter first = model.getTransform(METRES_PER_SECOND);
+      UnitConverter second = model.getTransform(METRES_PER_SECOND);
+      assertEquals(first, second);
+      assertEquals(2, computed.get());
+      assertEquals(new BigDecimal("0.5"), first.convert(BigDecimal.ONE));
+   }
+
+}
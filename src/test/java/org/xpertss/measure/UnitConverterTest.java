@@ -0,0 +1,69 @@
+package org.xpertss.measure;
+
+import org.junit.Test;
+import xpertss.unit.converters.AddConverter;
+import xpertss.unit.converters.RationalConverter;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.*;
+
+
+public class UnitConverterTest {
+
+   @Test
+   public void testIdentityArrayConversion() {
+      double[] source = { 1, 2, 3 };
+      double[] target = new double[5];
+      UnitConverter.IDENTITY.convert(source, 0, target, 1, 3);
+      assertArrayEquals(new double[] { 0, 1, 2, 3, 0 }, target, 0);
+   }
+
+   @Test
+   public void testDoubleArrayConversion() {
+      UnitConverter converter = new RationalConverter(1, 1000);
+      double[] source = { 1000, 2000, 3000, 4000 };
+      double[] target = new double[2];
+      converter.convert(source, 1, target, 0, 2);
+      assertArrayEquals(new double[] { 2, 3 }, target, 0);
+   }
+
+   @Test
+   public void testInPlaceCompoundConversion() {
+      UnitConverter converter = new AddConverter(BigDecimal.TEN).concatenate(new RationalConverter(2, 1));
+      double[] values = { 1, 2, 3 };
+      converter.convert(values, 0, values, 0, values.length);
+      assertArrayEquals(new double[] { 12, 14, 16 }, values, 0);
+   }
+
+   @Test
+   public void testLongArrayConversion() {
+      UnitConverter converter = new RationalConverter(1, 4);
+      long[] source = { 1, 2, 3 };
+      double[] target = new double[3];
+      converter.convert(source, 0, target, 0, 3);
+      assertArrayEquals(new double[] { 0.25, 0.5, 0.75 }, target, 0);
+   }
+
+   @Test
+   public void testDecimalArrayConversion() {
+      UnitConverter converter = new RationalConverter(10, 1);
+      BigDecimal[] source = { BigDecimal.ONE, BigDecimal.TEN };
+      BigDecimal[] target = new BigDecimal[2];
+      converter.convert(source, 0, target, 0, 2);
+      assertArrayEquals(new BigDecimal[] { BigDecimal.TEN, BigDecimal.valueOf(100) }, target);
+   }
+
+   @Test(expected = IndexOutOfBoundsException.class)
+   public void testRangeOutOfBoundsThrowsException() {
+      UnitConverter converter = new RationalConverter(10, 1);
+      converter.convert(new double[3], 1, new double[3], 0, 3);
+   }
+
+   @Test(expected = IndexOutOfBoundsException.class)
+   public void testNegativeLengthThrowsException() {
+      UnitConverter converter = new RationalConverter(10, 1);
+      converter.convert(new double[3], 0, new double[3], 0, -1);
+   }
+
+}
@@ -8,6 +8,8 @@ import org.xpertss.measure.Dimension;
 import org.xpertss.measure.Unit;
 import org.xpertss.measure.UnitConverter;
 
+import java.lang.ref.WeakReference;
+
 import static org.junit.Assert.*;
 import static org.xpertss.measure.units.SI.*;
 
@@ -264,6 +266,61 @@ public class SITest {
 
    }
 
+   @Test
+   public void testDerivedValuesAreMemoized() {
+      Unit<?> speed = METRE.multiply(1000).divide(HOUR);
+      assertSame(speed.getSystemUnit(), speed.getSystemUnit());
+      assertSame(speed.toSystemUnit(), speed.toSystemUnit());
+      assertSame(speed.getDimension(), speed.getDimension());
+      Unit<?> area = METRE.pow(2);
+      assertSame(area, area.getSystemUnit());
+      assertTrue(area.isSystemUnit());
+   }
+
+   @Test
+   public void testProductUnitsAreInterned() {
+      assertSame(METRE.divide(SECOND), METRE.divide(SECOND));
+      assertSame(METRE.divide(SECOND), SECOND.pow(-1).multiply(METRE));
+      assertSame(METRE.pow(2), METRE.multiply(METRE));
+      assertSame(METRE.pow(3).root(3), METRE);
+   }
+
+   @Test
+   public void testProductUnitsAreInternedAcrossThreads() throws Exception {
+      final Unit<?>[] results = new Unit<?>[8];
+      Thread[] threads = new Thread[results.length];
+      for(int i = 0; i < threads.length; i++) {
+         final int index = i;
+         threads[i] = new Thread(new Runnable() {
+            public void run() {
+               Unit<?> result = null;
+               for(int n = 0; n < 10000; n++) {
+                  result = CANDELA.pow(n % 5 + 2).divide(MOLE.multiply(AMPERE));
+               }
+               results[index] = result;
+            }
+         });
+         threads[i].start();
+      }
+      for(Thread thread : threads) thread.join();
+      for(Unit<?> result : results) {
+         assertSame(results[0], result);
+      }
+      assertSame(results[0], CANDELA.pow(6).divide(MOLE.multiply(AMPERE)));
+   }
+
+   @Test
+   public void testUnreferencedProductUnitsAreReleased() throws Exception {
+      WeakReference<Unit<?>> ref = new WeakReference<Unit<?>>(CANDELA.pow(11).divide(KELVIN.pow(13)));
+      for(int i = 0; i < 50 && ref.get() != null; i++) {
+         System.gc();
+         Thread.sleep(10);
+      }
+      assertNull(ref.get());
+      Unit<?> recreated = CANDELA.pow(11).divide(KELVIN.pow(13));
+      assertSame(recreated, KELVIN.pow(-13).multiply(CANDELA.pow(11)));
+   }
+
    public void testAlternateUnit(Unit<?> unitToTest) {
       assertSame(AlternateUnit.class, unitToTest.getClass());
       assertTrue(unitToTest.isSystemUnit());
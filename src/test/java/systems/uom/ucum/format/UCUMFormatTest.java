@@ -0,0 +1,142 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2024, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.Assert.*;
+
+import java.text.ParsePosition;
+import java.util.ListResourceBundle;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import systems.uom.ucum.format.UCUMFormat.Variant;
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Checks that the parsing variants cache parsed units, and that a change of their {@link SymbolMap} invalidates the cache.
+ */
+public class UCUMFormatTest {
+
+    private SymbolMap symbols;
+    private UCUMFormat format;
+
+    @Before
+    public void setUp() {
+        symbols = SymbolMap.of(new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[0][];
+            }
+        });
+        symbols.label(Units.METRE, "m");
+        symbols.label(Units.SECOND, "s");
+        symbols.label(Units.NEWTON, "N");
+        symbols.label(MetricPrefix.KILO, "k");
+        format = UCUMFormat.getInstance(Variant.CASE_SENSITIVE, symbols);
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(Units.METRE.divide(Units.SECOND), format.parse("m/s"));
+        assertEquals(MetricPrefix.KILO(Units.METRE), format.parse("km"));
+        assertEquals(Units.NEWTON.multiply(Units.METRE), format.parse(" N.m "));
+    }
+
+    @Test
+    public void testParseIsCached() {
+        final Unit<?> first = format.parse("m/s");
+        assertSame(first, format.parse("m/s"));
+        assertSame(first, format.parse("  m/s "));
+        assertSame(first, format.parse("x = m/s", new ParsePosition(4)));
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        for (int i = 0; i < 2; i++) {
+            final ParsePosition cursor = new ParsePosition(0);
+            try {
+                format.parse("m.ft", cursor);
+                fail("unknown atom");
+            } catch (MeasurementParseException e) {
+                assertEquals(2, cursor.getErrorIndex());
+                assertEquals(0, cursor.getIndex());
+            }
+        }
+    }
+
+    @Test
+    public void testAliasInvalidatesCache() {
+        try {
+            format.parse("ft");
+            fail("unknown atom");
+        } catch (MeasurementParseException e) {
+            // expected
+        }
+        final int generation = symbols.getGeneration();
+        final Unit<?> foot = Units.METRE.multiply(0.3048);
+        symbols.alias(foot, "ft");
+        assertTrue(symbols.getGeneration() != generation);
+        assertEquals(foot, format.parse("ft"));
+    }
+
+    @Test
+    public void testLabelInvalidatesCache() {
+        assertEquals(Units.NEWTON, format.parse("N"));
+        assertEquals(Units.NEWTON.divide(Units.SECOND), format.parse("N/s"));
+        final int generation = symbols.getGeneration();
+        symbols.label(Units.PASCAL, "N");
+        assertTrue(symbols.getGeneration() != generation);
+        assertEquals(Units.PASCAL, format.parse("N"));
+        assertEquals(Units.PASCAL.divide(Units.SECOND), format.parse("N/s"));
+    }
+
+    @Test
+    public void testPrefixLabelInvalidatesCache() {
+        assertEquals(MetricPrefix.KILO(Units.METRE), format.parse("km"));
+        symbols.label(MetricPrefix.MEGA, "k");
+        assertEquals(MetricPrefix.MEGA(Units.METRE), format.parse("km"));
+    }
+
+    @Test
+    public void testCaseInsensitive() {
+        symbols.label(Units.METRE, "M");
+        symbols.label(Units.SECOND, "S");
+        final UCUMFormat insensitive = UCUMFormat.getInstance(Variant.CASE_INSENSITIVE, symbols);
+        assertEquals(Units.METRE.divide(Units.SECOND), insensitive.parse("m/s"));
+        assertSame(insensitive.parse("m/s"), insensitive.parse("m/s"));
+        assertEquals(Units.METRE.divide(Units.SECOND), insensitive.parse("M/S"));
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2024, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.internal.format;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Random;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.Test;
+
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Checks the {@link UCUMUnitParser} against the {@link UCUMFormatParser} generated from the UCUM grammar, which it replaces.
+ */
+public class UCUMUnitParserTest {
+
+    private static final String[] SOURCES = { "m", "s", "g", "kg", "km", "cm.s-1", "m/s", "m.s-2", "/s", "s-1", "m+2", "m2/s2", "(m.s)/(K.N)",
+            "10", "1000/m", "10.m", "m10", "{rad}", "{}", "m{length}", "kg{MASS}.s", "(m", "m)", "m.", "./m", "m..s", "m-", "m--1", "s+",
+            "x", "kx", "k", "{", "{abc", "m s", "[in_i]", "[in_i]2", "k[in_i]", "3[in_i]", "m[in_i]", "N.m", "Pa", "Hz", "mg", "ms", "mm3",
+            "2m", "(((m)))", "()", "m/", "//m", "m.(s/K)-1", "m/s/s", "(m/s)2", "m{a}{b}", "{a}.{b}", "99999999999", "m99999999999",
+            "m!", "m#", "M", "KM", "S", "KG", "CM", "[IN_I]", "{Rad}" };
+
+    private static final String[] TOKENS = { "m", "s", "g", "K", "N", "Pa", "Hz", "k", "c", "m", "M", "S", "KM", "x", "[in_i]", "[IN_I]",
+            "2", "3", "10", "1000", "-", "+", ".", ".", "/", "/", "(", ")", "{rad}", "{}", "{Rad}", "{", "}", "[", "]", " " };
+
+    private static SymbolMap symbols(boolean caseSensitive) {
+        final SymbolMap symbols = SymbolMap.of(new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[0][];
+            }
+        });
+        if (caseSensitive) {
+            symbols.label(Units.METRE, "m");
+            symbols.label(Units.SECOND, "s");
+            symbols.label(Units.GRAM, "g");
+            symbols.label(Units.KELVIN, "K");
+            symbols.label(Units.NEWTON, "N");
+            symbols.label(Units.PASCAL, "Pa");
+            symbols.label(Units.HERTZ, "Hz");
+            symbols.alias(Units.METRE.multiply(0.0254), "[in_i]");
+            symbols.label(MetricPrefix.KILO, "k");
+            symbols.label(MetricPrefix.CENTI, "c");
+            symbols.label(MetricPrefix.MILLI, "m");
+        } else {
+            symbols.label(Units.METRE, "M");
+            symbols.label(Units.SECOND, "S");
+            symbols.label(Units.GRAM, "G");
+            symbols.label(Units.KELVIN, "K");
+            symbols.label(Units.NEWTON, "N");
+            symbols.label(Units.PASCAL, "PAL");
+            symbols.label(Units.HERTZ, "HZ");
+            symbols.alias(Units.METRE.multiply(0.0254), "[IN_I]");
+            symbols.label(MetricPrefix.KILO, "K");
+            symbols.label(MetricPrefix.CENTI, "C");
+            symbols.label(MetricPrefix.MILLI, "M");
+        }
+        return symbols;
+    }
+
+    /**
+     * Returns the unit parsed by the generated parser, or a string naming the kind of failure. The case insensitive variant used to upper-case the
+     * whole source before handing it to the generated parser.
+     */
+    private static Object expected(SymbolMap symbols, boolean caseSensitive, String source) {
+        final String input = caseSensitive ? source : source.toUpperCase();
+        try {
+            return new UCUMFormatParser(symbols, new ByteArrayInputStream(input.getBytes())).parseUnit();
+        } catch (TokenException e) {
+            return "parse error";
+        } catch (TokenMgrError e) {
+            return "lexical error";
+        } catch (RuntimeException | StackOverflowError e) {
+            // large exponents exhaust the recursion of AbstractUnit.pow
+            return e.getClass().getName();
+        }
+    }
+
+    private static Object actual(UCUMUnitParser parser, String source) {
+        try {
+            return parser.parse(source, 0, source.length());
+        } catch (MeasurementParseException e) {
+            return "parse error";
+        } catch (NumberFormatException e) {
+            return e.getClass().getName();
+        } catch (IllegalArgumentException e) {
+            return "lexical error";
+        } catch (RuntimeException | StackOverflowError e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * Tells whether the generated lexer fails somewhere on the source, regardless of the grammar.
+     */
+    private static boolean hasLexicalError(String input) {
+        final UCUMTokenManager tokens = new UCUMTokenManager(new UCUMCharStream(new ByteArrayInputStream(input.getBytes())));
+        try {
+            while (tokens.getNextToken().kind != UCUMTokenConstants.EOF) {
+                // scan to the end
+            }
+            return false;
+        } catch (TokenMgrError e) {
+            return true;
+        }
+    }
+
+    private static void assertSameOutcome(boolean caseSensitive, List<String> sources) {
+        final SymbolMap symbols = symbols(caseSensitive);
+        final UCUMUnitParser parser = new UCUMUnitParser(symbols, caseSensitive);
+        int parsed = 0;
+        for (String source : sources) {
+            final Object expected = expected(symbols, caseSensitive, source);
+            final Object actual = actual(parser, source);
+            if (expected instanceof Unit) {
+                parsed++;
+            } else if (!expected.equals(actual) && actual instanceof String && ((String) actual).endsWith(" error")
+                    && ((String) expected).endsWith(" error")) {
+                // Given both a lexical and a grammar error, which one comes first depends on how far the generated parser looks ahead
+                assertTrue("\"" + source + "\"", hasLexicalError(caseSensitive ? source : source.toUpperCase()));
+                continue;
+            }
+            assertEquals("\"" + source + "\"", expected, actual);
+        }
+        assertTrue("too few sources parse: " + parsed, parsed > sources.size() / 10);
+    }
+
+    private static List<String> randomSources(long seed, int count) {
+        final Random random = new Random(seed);
+        final List<String> sources = new ArrayList<>(count);
+        final StringBuilder source = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            source.setLength(0);
+            final int tokens = 1 + random.nextInt(6);
+            for (int j = 0; j < tokens; j++) {
+                source.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            sources.add(source.toString());
+        }
+        return sources;
+    }
+
+    @Test
+    public void testSameOutcomeCaseSensitive() {
+        final List<String> sources = new ArrayList<>();
+        for (String source : SOURCES) {
+            sources.add(source);
+        }
+        assertSameOutcome(true, sources);
+    }
+
+    @Test
+    public void testSameOutcomeCaseInsensitive() {
+        final List<String> sources = new ArrayList<>();
+        for (String source : SOURCES) {
+            sources.add(source);
+        }
+        assertSameOutcome(false, sources);
+    }
+
+    @Test
+    public void testSameOutcomeOnRandomSourcesCaseSensitive() {
+        assertSameOutcome(true, randomSources(42L, 20_000));
+    }
+
+    @Test
+    public void testSameOutcomeOnRandomSourcesCaseInsensitive() {
+        assertSameOutcome(false, randomSources(4242L, 20_000));
+    }
+
+    @Test
+    public void testParsesRange() {
+        final UCUMUnitParser parser = new UCUMUnitParser(symbols(true), true);
+        assertEquals(Units.METRE.divide(Units.SECOND), parser.parse("<<m/s>>", 2, 5));
+    }
+
+    @Test
+    public void testReportsErrorPosition() {
+        final UCUMUnitParser parser = new UCUMUnitParser(symbols(true), true);
+        try {
+            parser.parse("m.xyz", 0, 5);
+            fail("unknown atom");
+        } catch (MeasurementParseException e) {
+            assertEquals(2, e.getPosition());
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.Assert.*;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.measure.MetricPrefix;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.Test;
+
+import tech.units.indriya.AbstractUnit;
+
+public class QuantityReaderTest {
+
+    /**
+     * Hands out the text in chunks of at most the given size.
+     */
+    private static final class ChunkedReader extends Reader {
+        private final String text;
+        private final int chunkSize;
+        private int position;
+
+        private ChunkedReader(String text, int chunkSize) {
+            this.text = text;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (position == text.length()) {
+                return -1;
+            }
+            final int n = Math.min(Math.min(len, chunkSize), text.length() - position);
+            text.getChars(position, position + n, cbuf, off);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static List<Double> values(QuantityReader reader) throws IOException {
+        final List<Double> values = new ArrayList<>();
+        while (reader.next()) {
+            values.add(reader.doubleValue());
+        }
+        return values;
+    }
+
+    @Test
+    public void testRecords() throws IOException {
+        final QuantityReader reader = QuantityReader.of(new StringReader(" 12.5 m ,-3 s;\n\n0.25 km\r\n7,"));
+        assertTrue(reader.next());
+        assertEquals(12.5, reader.doubleValue(), 0);
+        assertEquals(METRE, reader.getUnit());
+        assertTrue(reader.next());
+        assertEquals(-3, reader.doubleValue(), 0);
+        assertEquals(SECOND, reader.getUnit());
+        assertTrue(reader.next());
+        assertEquals(0.25, reader.doubleValue(), 0);
+        assertEquals(MetricPrefix.KILO(METRE), reader.getUnit());
+        assertTrue(reader.next());
+        assertEquals(7, reader.doubleValue(), 0);
+        assertEquals(AbstractUnit.ONE, reader.getUnit());
+        assertFalse(reader.next());
+    }
+
+    @Test
+    public void testRejectsOverflow() throws IOException {
+        for (String number : new String[] { "1e400", "-1e400", "1.8e308", "1" + new String(new char[400]).replace('\0', '0') }) {
+            final QuantityReader reader = QuantityReader.of(new StringReader("1 m, " + number + " m"));
+            assertTrue(reader.next());
+            try {
+                reader.next();
+                fail(number);
+            } catch (MeasurementParseException e) {
+                assertEquals(0, e.getPosition());
+                assertTrue(e.getMessage(), e.getMessage().contains("at offset 4 "));
+            }
+        }
+    }
+
+    @Test
+    public void testAcceptsUnderflowAndExtremes() throws IOException {
+        final QuantityReader reader = QuantityReader.of(new StringReader("1e-400, -1e-400, 1.7976931348623157e308, 4.9e-324, 0e400"));
+        final List<Double> values = values(reader);
+        assertEquals(5, values.size());
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(values.get(0)));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(values.get(1)));
+        assertEquals(Double.MAX_VALUE, values.get(2), 0);
+        assertEquals(Double.MIN_VALUE, values.get(3), 0);
+        assertEquals(0.0, values.get(4), 0);
+    }
+
+    @Test
+    public void testRecordsAcrossBufferBoundaries() throws IOException {
+        // shift a few records across the end of the 8192 character buffer, one character at a time
+        for (int shift = 0; shift < 40; shift++) {
+            final StringBuilder text = new StringBuilder();
+            final List<Double> expected = new ArrayList<>();
+            while (text.length() < 8192 - 20 - shift) {
+                text.append("1 m,");
+                expected.add(1.0);
+            }
+            while (text.length() < 8192 - 20) {
+                text.append(' ');
+            }
+            for (int i = 0; i < 5; i++) {
+                text.append("-12345.678e-2 km;");
+                expected.add(-123.45678);
+            }
+            for (int chunkSize : new int[] { 1, 7, 8192, Integer.MAX_VALUE }) {
+                final QuantityReader reader = QuantityReader.of(new ChunkedReader(text.toString(), chunkSize));
+                assertEquals("shift " + shift + ", chunk " + chunkSize, expected, values(reader));
+                assertEquals(2, reader.getUnitCount());
+            }
+            assertEquals(expected, values(QuantityReader.of(CharBuffer.wrap(text))));
+        }
+    }
+
+    @Test
+    public void testRecordLongerThanBuffer() throws IOException {
+        final StringBuilder text = new StringBuilder("1 s,");
+        final StringBuilder number = new StringBuilder("0.");
+        while (number.length() < 20000) {
+            number.append('0');
+        }
+        number.append("25");
+        text.append(number).append("e20000 m,2 s");
+        final QuantityReader reader = QuantityReader.of(new ChunkedReader(text.toString(), 1000));
+        assertTrue(reader.next());
+        assertTrue(reader.next());
+        assertEquals(Double.parseDouble(number + "e20000"), reader.doubleValue(), 0);
+        assertEquals(METRE, reader.getUnit());
+        assertTrue(reader.next());
+        assertEquals(2, reader.doubleValue(), 0);
+        assertFalse(reader.next());
+    }
+
+    /**
+     * Compares the values read, whether by the fast path or by {@link Double#parseDouble(String)}, to those of
+     * {@link Double#parseDouble(String)}, bit by bit.
+     */
+    @Test
+    public void testValuesMatchParseDouble() throws IOException {
+        final Random random = new Random(42);
+        final List<String> numbers = new ArrayList<>();
+        final StringBuilder text = new StringBuilder();
+        final StringBuilder number = new StringBuilder();
+        for (int n = 0; n < 200_000; n++) {
+            number.setLength(0);
+            if (random.nextInt(4) == 0) {
+                number.append(random.nextBoolean() ? '-' : '+');
+            }
+            final int digits = 1 + random.nextInt(random.nextBoolean() ? 8 : 22);
+            final int point = random.nextInt(digits + 2);
+            for (int i = 0; i < digits; i++) {
+                if (i == point) {
+                    number.append('.');
+                }
+                number.append((char) ('0' + (random.nextInt(5) == 0 ? 0 : random.nextInt(10))));
+            }
+            if (random.nextBoolean()) {
+                number.append(random.nextBoolean() ? 'e' : 'E');
+                final int exponent = random.nextInt(5) == 0 ? random.nextInt(640) - 320 : random.nextInt(60) - 30;
+                number.append(exponent);
+            }
+            numbers.add(number.toString());
+            text.append(number).append(',');
+        }
+        final QuantityReader reader = QuantityReader.of(CharBuffer.wrap(text));
+        for (String expected : numbers) {
+            final double value = Double.parseDouble(expected);
+            if (Double.isInfinite(value)) {
+                try {
+                    reader.next();
+                    fail(expected);
+                } catch (MeasurementParseException e) {
+                    continue;
+                }
+            }
+            assertTrue(reader.next());
+            assertEquals(expected, Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(reader.doubleValue()));
+        }
+        assertFalse(reader.next());
+    }
+
+    @Test
+    public void testUnitIds() throws IOException {
+        final QuantityReader reader = QuantityReader.of(new StringReader("1 m, 2 s, 3 m, 4, 5 km, 6 m*s, 7 m\u00b7s, 8 s , 9 m/s"));
+        final List<Integer> ids = new ArrayList<>();
+        assertEquals(9, reader.forEachRemaining((value, unitId) -> ids.add(unitId)));
+        assertEquals(6, reader.getUnitCount());
+        final int[] expected = { 0, 1, 0, 2, 3, 4, 4, 1, 5 };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("record " + i, expected[i], (int) ids.get(i));
+        }
+        assertEquals(METRE, reader.getUnit(0));
+        assertEquals(SECOND, reader.getUnit(1));
+        assertEquals(AbstractUnit.ONE, reader.getUnit(2));
+        assertEquals(MetricPrefix.KILO(METRE), reader.getUnit(3));
+        assertEquals(METRE.multiply(SECOND), reader.getUnit(4));
+        assertEquals(METRE.divide(SECOND), reader.getUnit(5));
+        try {
+            reader.getUnit(6);
+            fail("unknown unit id");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testUnitIdsSurviveRehash() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append(i).append(" m^").append(i % 50 + 1).append(',');
+        }
+        final QuantityReader reader = QuantityReader.of(new StringReader(text.toString()));
+        for (int i = 0; i < 200; i++) {
+            assertTrue(reader.next());
+            assertEquals(i % 50, reader.getUnitId());
+            assertEquals(METRE.pow(i % 50 + 1), reader.getUnit());
+        }
+        assertEquals(50, reader.getUnitCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNoCurrentRecord() {
+        QuantityReader.of(new StringReader("1 m")).doubleValue();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.Assert.*;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.junit.Test;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.Calculus.NumberSystemScope;
+import tech.units.indriya.function.DoubleNumberSystem;
+import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.quantity.Quantities;
+
+public class QuantityWriterTest {
+
+    private static final Unit<?>[] UNITS = { METRE, AbstractUnit.ONE, MetricPrefix.KILO(METRE), MetricPrefix.MICRO(METRE), CELSIUS,
+            METRE.divide(SECOND) };
+
+    private static final double[] DOUBLES = { 0.0, -0.0, 1.0, -1.0, 0.1, -2.5, 123.456, 1e-5, 0.1 + 0.2, 1e7, 1e15, 0x1p53, -0x1p53,
+            0x1p53 + 2, 1e16, -1e20, 1e300, Double.MAX_VALUE, Double.MIN_VALUE, Math.nextDown(0x1p53) };
+
+    private static final Number[] NUMBERS = { 0, -7, Integer.MIN_VALUE, 0L, Long.MAX_VALUE, Long.MIN_VALUE, new BigDecimal("1.50"),
+            new BigDecimal("-0.000"), new BigDecimal("1e400"), new BigDecimal("123456789012345678901234567890.5"),
+            new BigInteger("123456789012345678901234567890"), RationalNumber.of(1, 3), 1.5f };
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static List<Quantity<?>> quantities() {
+        final List<Quantity<?>> quantities = new ArrayList<>();
+        for (Unit unit : UNITS) {
+            for (double value : DOUBLES) {
+                quantities.add(Quantities.getQuantity(value, unit));
+            }
+            for (Number value : NUMBERS) {
+                quantities.add(Quantities.getQuantity(value, unit));
+            }
+        }
+        return quantities;
+    }
+
+    private static void assertSameAsSimpleQuantityFormat(QuantityWriter writer, Quantity<?> quantity) {
+        final String expected = SimpleQuantityFormat.getInstance().format(quantity);
+        assertEquals(expected, quantity.toString());
+        assertEquals(">" + expected, writer.format(quantity, new StringBuilder(">")).toString());
+
+        final CharBuffer chars = CharBuffer.allocate(1024);
+        chars.put('>');
+        writer.format(quantity, chars).flip();
+        assertEquals(">" + expected, chars.toString());
+
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(1024);
+        bytes.put((byte) '>');
+        writer.format(quantity, bytes).flip();
+        assertEquals(">" + expected, StandardCharsets.UTF_8.decode(bytes).toString());
+    }
+
+    @Test
+    public void testSameAsSimpleQuantityFormat() {
+        final QuantityWriter writer = QuantityWriter.of();
+        for (Quantity<?> quantity : quantities()) {
+            assertSameAsSimpleQuantityFormat(writer, quantity);
+        }
+        assertEquals("0.0 m", writer.format(Quantities.getQuantity(0.0, METRE), new StringBuilder()).toString());
+        assertEquals("9007199254740992", writer.format(Quantities.getQuantity(0x1p53, AbstractUnit.ONE), new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testSameAsSimpleQuantityFormatWithDoubleNumberSystem() {
+        final QuantityWriter writer = QuantityWriter.of();
+        try (NumberSystemScope scope = Calculus.withNumberSystem(new DoubleNumberSystem())) {
+            for (Quantity<?> quantity : quantities()) {
+                assertSameAsSimpleQuantityFormat(writer, quantity);
+            }
+        }
+    }
+
+    @Test
+    public void testCharBufferUnchangedOnOverflow() {
+        final QuantityWriter writer = QuantityWriter.of();
+        final Quantity<?> quantity = Quantities.getQuantity(123.456, METRE);
+        final int free = "123.456 m".length();
+        final CharBuffer dest = CharBuffer.allocate(2 + free);
+        dest.put("ab");
+        dest.limit(dest.position() + free - 1);
+        try {
+            writer.format(quantity, dest);
+            fail("overflow");
+        } catch (BufferOverflowException e) {
+            assertEquals(2, dest.position());
+            assertTrue(Arrays.equals(new char[] { 'a', 'b', 0, 0, 0, 0, 0, 0, 0, 0, 0 }, dest.array()));
+        }
+        dest.limit(dest.position() + free);
+        writer.format(quantity, dest);
+        dest.flip();
+        assertEquals("ab123.456 m", dest.toString());
+    }
+
+    @Test
+    public void testByteBufferUnchangedOnOverflow() {
+        final QuantityWriter writer = QuantityWriter.of();
+        // the unit takes more bytes than characters
+        final Quantity<?> quantity = Quantities.getQuantity(1.5, CELSIUS);
+        final String expected = SimpleQuantityFormat.getInstance().format(quantity);
+        final byte[] encoded = expected.getBytes(StandardCharsets.UTF_8);
+        assertTrue(encoded.length > expected.length());
+        for (int free = 0; free < encoded.length; free++) {
+            final ByteBuffer dest = ByteBuffer.allocate(encoded.length + 4);
+            Arrays.fill(dest.array(), (byte) 0x55);
+            dest.position(2).limit(2 + free);
+            try {
+                writer.format(quantity, dest);
+                fail("overflow with " + free + " bytes free");
+            } catch (BufferOverflowException e) {
+                assertEquals(2, dest.position());
+                for (byte b : dest.array()) {
+                    assertEquals(0x55, b);
+                }
+            }
+        }
+        final ByteBuffer dest = ByteBuffer.allocate(encoded.length);
+        writer.format(quantity, dest);
+        assertFalse(dest.hasRemaining());
+        assertTrue(Arrays.equals(encoded, dest.array()));
+    }
+
+    @Test
+    public void testLabelChangeIsSeen() {
+        final SimpleUnitFormat format = SimpleUnitFormat.getNewInstance();
+        final QuantityWriter writer = QuantityWriter.of(format);
+        final Quantity<?> quantity = Quantities.getQuantity(2, METRE);
+        assertEquals("2 m", writer.format(quantity, new StringBuilder()).toString());
+        format.label(METRE, "meter");
+        assertEquals("2 meter", writer.format(quantity, new StringBuilder()).toString());
+        final ByteBuffer bytes = ByteBuffer.allocate(16);
+        writer.format(quantity, bytes).flip();
+        assertEquals("2 meter", StandardCharsets.UTF_8.decode(bytes).toString());
+    }
+}
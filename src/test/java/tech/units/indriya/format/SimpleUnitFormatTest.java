@@ -0,0 +1,132 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.Assert.*;
+import static tech.units.indriya.unit.Units.KILOGRAM;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+import java.io.IOException;
+
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.Test;
+
+public class SimpleUnitFormatTest {
+
+    private final SimpleUnitFormat format = SimpleUnitFormat.getInstance();
+
+    @Test
+    public void testFormatCacheHitsFreshProductUnits() {
+        final String first = format.symbolOf(METRE.divide(SECOND));
+        // a freshly created, equal product unit is served from the cache
+        assertSame(first, format.symbolOf(METRE.divide(SECOND)));
+        assertEquals("m/s", first);
+        assertEquals(first, format.format(METRE.divide(SECOND)));
+    }
+
+    @Test
+    public void testFormatCacheHonorsElementOrder() {
+        final Unit<?> ms = METRE.multiply(SECOND);
+        final Unit<?> sm = SECOND.multiply(METRE);
+        // equal units, formatted differently
+        assertEquals(ms, sm);
+        final String msText = format.symbolOf(ms);
+        final String smText = format.symbolOf(sm);
+        assertFalse(msText.equals(smText));
+        assertEquals(formatUncached(ms), msText);
+        assertEquals(formatUncached(sm), smText);
+    }
+
+    @Test
+    public void testParseCacheHit() {
+        final Unit<?> first = format.parse("kg*m/s^2");
+        assertSame(first, format.parse("kg*m/s^2"));
+        assertEquals(KILOGRAM.multiply(METRE).divide(SECOND.pow(2)), first);
+    }
+
+    @Test
+    public void testLabelInvalidatesCaches() {
+        final Unit<?> unit = KILOGRAM.multiply(SECOND.pow(3));
+        final String original = format.format(unit);
+        final Unit<?> parsed = format.parse(original);
+        try {
+            format.label(unit, "xyzzy");
+            assertEquals("xyzzy", format.format(unit));
+            assertEquals("xyzzy", format.format(KILOGRAM.multiply(SECOND.pow(3))));
+            assertEquals(unit, format.parse("xyzzy"));
+        } finally {
+            format.removeLabel(unit);
+        }
+        assertEquals(original, format.format(unit));
+        assertEquals(parsed, format.parse(original));
+        assertUnparseable("xyzzy");
+    }
+
+    @Test
+    public void testAliasInvalidatesParseCache() {
+        final Unit<?> unit = KILOGRAM.divide(SECOND);
+        assertUnparseable("plugh");
+        try {
+            format.alias(unit, "plugh");
+            assertEquals(unit, format.parse("plugh"));
+            assertEquals(unit, format.parse("plugh"));
+        } finally {
+            format.removeAlias(unit, "plugh");
+        }
+        assertUnparseable("plugh");
+        try {
+            format.alias(unit, "plugh");
+            assertEquals(unit, format.parse("plugh"));
+        } finally {
+            format.removeAliases(unit);
+        }
+        assertUnparseable("plugh");
+    }
+
+    private void assertUnparseable(String text) {
+        try {
+            format.parse(text);
+            fail("'" + text + "' must not be parseable");
+        } catch (MeasurementParseException expected) {
+            // no label or alias
+        }
+    }
+
+    private String formatUncached(Unit<?> unit) {
+        try {
+            return ((SimpleUnitFormat.DefaultFormat) format).formatUnit(unit, new StringBuilder()).toString();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
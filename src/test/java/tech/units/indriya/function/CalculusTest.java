@@ -0,0 +1,124 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import tech.units.indriya.function.Calculus.NumberSystemScope;
+import tech.units.indriya.spi.NumberSystem;
+
+public class CalculusTest {
+
+    @Test
+    public void testScopeInstallsAndRestores() {
+        final NumberSystem before = Calculus.currentNumberSystem();
+        final NumberSystem doubles = new DoubleNumberSystem();
+        try (NumberSystemScope scope = Calculus.withNumberSystem(doubles)) {
+            assertSame(doubles, Calculus.currentNumberSystem());
+        }
+        assertSame(before, Calculus.currentNumberSystem());
+    }
+
+    @Test
+    public void testNestedScopes() {
+        final NumberSystem outer = new DoubleNumberSystem();
+        final NumberSystem inner = new DoubleNumberSystem();
+        try (NumberSystemScope outerScope = Calculus.withNumberSystem(outer)) {
+            try (NumberSystemScope innerScope = Calculus.withNumberSystem(inner)) {
+                assertSame(inner, Calculus.currentNumberSystem());
+            }
+            assertSame(outer, Calculus.currentNumberSystem());
+        }
+    }
+
+    @Test
+    public void testScopeIsThreadConfined() throws InterruptedException {
+        final NumberSystem doubles = new DoubleNumberSystem();
+        final AtomicReference<NumberSystem> seen = new AtomicReference<>();
+        try (NumberSystemScope scope = Calculus.withNumberSystem(doubles)) {
+            final Thread other = new Thread(() -> seen.set(Calculus.currentNumberSystem()));
+            other.start();
+            other.join();
+        }
+        assertNotNull(seen.get());
+        assertNotSame(doubles, seen.get());
+    }
+
+    @Test
+    public void testCloseTwiceHasNoEffect() {
+        final NumberSystem outer = new DoubleNumberSystem();
+        try (NumberSystemScope outerScope = Calculus.withNumberSystem(outer)) {
+            final NumberSystemScope scope = Calculus.withNumberSystem(new DoubleNumberSystem());
+            scope.close();
+            scope.close();
+            assertSame(outer, Calculus.currentNumberSystem());
+        }
+    }
+
+    @Test
+    public void testCloseOutOfOrderFails() {
+        final NumberSystem outer = new DoubleNumberSystem();
+        final NumberSystemScope outerScope = Calculus.withNumberSystem(outer);
+        final NumberSystemScope innerScope = Calculus.withNumberSystem(new DoubleNumberSystem());
+        try {
+            outerScope.close();
+            fail("closing the outer scope first must fail");
+        } catch (IllegalStateException expected) {
+            // the failed close must leave the scopes untouched
+        } finally {
+            innerScope.close();
+        }
+        assertSame(outer, Calculus.currentNumberSystem());
+        outerScope.close();
+    }
+
+    @Test
+    public void testCloseFromOtherThreadFails() throws InterruptedException {
+        final NumberSystem doubles = new DoubleNumberSystem();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        try (NumberSystemScope scope = Calculus.withNumberSystem(doubles)) {
+            final Thread other = new Thread(() -> {
+                try {
+                    scope.close();
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            other.start();
+            other.join();
+            assertTrue(failure.get() instanceof IllegalStateException);
+            assertSame(doubles, Calculus.currentNumberSystem());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import tech.units.indriya.spi.NumberSystem;
+
+public class DoubleNumberSystemTest {
+
+    private final NumberSystem ns = new DoubleNumberSystem();
+
+    @Test
+    public void testRegisteredButNotDefault() {
+        boolean found = false;
+        for (NumberSystem system : Calculus.getAvailableNumberSystems()) {
+            found |= system instanceof DoubleNumberSystem;
+        }
+        assertTrue(found);
+        assertTrue(Calculus.getNumberSystem(DoubleNumberSystem.class.getName()) instanceof DoubleNumberSystem);
+        assertEquals(DefaultNumberSystem.class, Calculus.currentNumberSystem().getClass());
+    }
+
+    @Test
+    public void testLongArithmeticStaysExact() {
+        assertEquals(5L, ns.add(2, 3L));
+        assertEquals(-1L, ns.subtract(2L, 3));
+        assertEquals(6L, ns.multiply((short) 2, 3L));
+        assertEquals(4L, ns.divide(12L, 3L));
+        assertEquals(1024L, ns.power(2L, 10));
+        assertEquals(-3L, ns.negate(new AtomicInteger(3)));
+        assertEquals(5L, ns.add(BigInteger.valueOf(2), 3L));
+    }
+
+    @Test
+    public void testLongOverflowWidensToDouble() {
+        assertEquals(0x1p63, ns.add(Long.MAX_VALUE, 1L));
+        assertEquals(-0x1p63 - 0x1p63, ns.subtract(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(0x1p64, ns.multiply(1L << 32, 1L << 32));
+        assertEquals(0x1p63, ns.multiply(Long.MIN_VALUE, -1L));
+        assertEquals(0x1p63, ns.divide(Long.MIN_VALUE, -1L));
+        assertEquals(0x1p63, ns.negate(Long.MIN_VALUE));
+        assertEquals(0x1p63, ns.abs(Long.MIN_VALUE));
+        assertEquals(Math.pow(3, 40), ns.power(3L, 40));
+        assertEquals(Long.valueOf(1L << 62), ns.power(2L, 62));
+        assertEquals(0x1p63, ns.power(2L, 63));
+    }
+
+    @Test
+    public void testInexactDivisionIsDouble() {
+        assertEquals(0.5, ns.divide(1L, 2L));
+        assertEquals(0.5, ns.reciprocal(2L));
+        assertEquals(-1L, ns.reciprocal(-1));
+    }
+
+    @Test
+    public void testDoubleOverflowToInfinity() {
+        assertEquals(Double.POSITIVE_INFINITY, ns.multiply(Double.MAX_VALUE, 2L));
+        assertEquals(Double.NEGATIVE_INFINITY, ns.add(-Double.MAX_VALUE, -Double.MAX_VALUE));
+        assertEquals(Double.POSITIVE_INFINITY, ns.power(10d, 400));
+        assertEquals(Double.POSITIVE_INFINITY, ns.divide(1d, 0L));
+        assertEquals(Double.POSITIVE_INFINITY, ns.divide(1L, 0L));
+        assertFalse(ns.isInteger(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void testNaN() {
+        assertTrue(Double.isNaN(ns.add(Double.NaN, 1L).doubleValue()));
+        assertTrue(Double.isNaN(ns.divide(0L, 0L).doubleValue()));
+        assertTrue(Double.isNaN(ns.subtract(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY).doubleValue()));
+        assertFalse(ns.isZero(Double.NaN));
+        assertFalse(ns.isOne(Double.NaN));
+        assertFalse(ns.isInteger(Double.NaN));
+        assertEquals(0, ns.signum(Double.NaN));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDivideAndRemainderByZero() {
+        ns.divideAndRemainder(1d, 0L, true);
+    }
+
+    @Test
+    public void testDivideAndRemainder() {
+        assertArrayEquals(new Number[] {-3L, -1L}, ns.divideAndRemainder(-7L, 2L, true));
+        assertArrayEquals(new Number[] {3d, 0.5}, ns.divideAndRemainder(3.5, 1L, false));
+    }
+
+    @Test
+    public void testNarrow() {
+        final Double d = 3d;
+        final Long l = 3L;
+        assertSame(d, ns.narrow(d)); // doubles are never narrowed
+        assertSame(l, ns.narrow(l));
+        assertEquals(3L, ns.narrow(3));
+        assertEquals(3L, ns.narrow((byte) 3));
+        assertEquals(3L, ns.narrow(BigInteger.valueOf(3)));
+        assertEquals(0x1p64, ns.narrow(BigInteger.ONE.shiftLeft(64)));
+        assertEquals(1.5, ns.narrow(new BigDecimal("1.5")));
+        assertEquals(1.5, ns.narrow(1.5f));
+        assertEquals(-7L, ns.power(-7, 1));
+    }
+
+    @Test
+    public void testCompare() {
+        assertEquals(-1, ns.compare(1L, 2L));
+        assertEquals(1, ns.compare(2.5, 2L));
+        assertEquals(0, ns.compare(2L, 2d));
+        assertEquals(0, ns.compare(0.0, -0.0));
+        assertEquals(0, ns.compare(0L, -0.0));
+        assertEquals(1, ns.compare(Double.NaN, Double.POSITIVE_INFINITY));
+        assertEquals(1, ns.compare(Double.NaN, Long.MAX_VALUE));
+        assertEquals(-1, ns.compare(Long.MAX_VALUE, Double.NaN));
+        assertEquals(1, ns.compare(Long.MIN_VALUE, Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void testCompareMixedIsExact() {
+        // Long.MAX_VALUE - 1 and Long.MAX_VALUE both round to 2^63 as a double
+        assertEquals(-1, ns.compare(Long.MAX_VALUE - 1, 0x1p63));
+        assertEquals(1, ns.compare(0x1p63, Long.MAX_VALUE));
+        assertEquals(0, ns.compare(Long.MIN_VALUE, -0x1p63));
+        assertEquals(1, ns.compare(1L << 53 | 1, 0x1p53));
+        assertEquals(-1, ns.compare(-2L, -1.5));
+        assertEquals(1, ns.compare(-1L, -1.5));
+        assertEquals(-1, ns.compare(1L, 1.0000000000000002));
+    }
+
+    @Test
+    public void testPredicates() {
+        assertTrue(ns.isZero(0L));
+        assertTrue(ns.isZero(-0.0));
+        assertTrue(ns.isOne(1.0));
+        assertTrue(ns.isLessThanOne(0.999));
+        assertFalse(ns.isLessThanOne(1L));
+        assertTrue(ns.isInteger(1e300));
+        assertFalse(ns.isInteger(0.5));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testZeroToTheZero() {
+        ns.power(0d, 0);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.junit.Assert.*;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.KELVIN;
+import static tech.units.indriya.unit.Units.METRE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Temperature;
+
+import org.junit.Test;
+
+import tech.units.indriya.quantity.Quantities;
+
+public class QuantitySummaryStatisticsTest {
+
+    private static final Unit<Length> KILOMETRE = METRE.multiply(1000);
+
+    @Test
+    public void testEmpty() {
+        final QuantitySummaryStatistics<Length> summary = new QuantitySummaryStatistics<>(METRE);
+        assertEquals(0, summary.getCount());
+        assertEquals("0 m", summary.getMin().toString());
+        assertEquals("0 m", summary.getMax().toString());
+        assertEquals("0 m", summary.getSum().toString());
+        assertEquals("0 m", summary.getAverage().toString());
+        assertEquals(0d, summary.getSum(KILOMETRE).getValue().doubleValue(), 0);
+    }
+
+    @Test
+    public void testIntegerZeroRendered() {
+        final QuantitySummaryStatistics<Length> summary = summarize(METRE, 
+                Quantities.getQuantity(0, METRE), Quantities.getQuantity(20, METRE));
+        assertEquals("0 m", summary.getMin().toString());
+        assertEquals("20 m", summary.getMax().toString());
+        assertEquals("10 m", summary.getAverage().toString());
+    }
+
+    @Test
+    public void testAcceptAcrossUnits() {
+        final QuantitySummaryStatistics<Length> summary = summarize(METRE, 
+                Quantities.getQuantity(1.5, KILOMETRE), Quantities.getQuantity(500, METRE), Quantities.getQuantity(-2, METRE));
+        assertEquals(3, summary.getCount());
+        assertEquals(-2d, summary.getMin().getValue().doubleValue(), 0);
+        assertEquals(1500d, summary.getMax().getValue().doubleValue(), 0);
+        assertEquals(1998d, summary.getSum().getValue().doubleValue(), 0);
+        assertEquals(666d, summary.getAverage().getValue().doubleValue(), 0);
+        assertEquals(1.998, summary.getSum(KILOMETRE).getValue().doubleValue(), 1e-12);
+    }
+
+    @Test
+    public void testCombineAcrossUnits() {
+        final QuantitySummaryStatistics<Length> metres = summarize(METRE, Quantities.getQuantity(100, METRE));
+        final QuantitySummaryStatistics<Length> kilometres = summarize(KILOMETRE, 
+                Quantities.getQuantity(2, KILOMETRE), Quantities.getQuantity(0.05, KILOMETRE));
+        assertSame(metres, metres.combine(kilometres));
+        assertEquals(3, metres.getCount());
+        assertEquals(50d, metres.getMin().getValue().doubleValue(), 1e-9);
+        assertEquals(2000d, metres.getMax().getValue().doubleValue(), 1e-9);
+        assertEquals(2150d, metres.getSum().getValue().doubleValue(), 1e-9);
+        assertEquals(2.15, metres.to(KILOMETRE).getSum().getValue().doubleValue(), 1e-12);
+    }
+
+    @Test
+    public void testCombineWithEmpty() {
+        final QuantitySummaryStatistics<Length> summary = summarize(METRE, Quantities.getQuantity(3, METRE));
+        summary.combine(new QuantitySummaryStatistics<>(KILOMETRE));
+        assertEquals(1, summary.getCount());
+        assertEquals("3 m", summary.getMin().toString());
+        final QuantitySummaryStatistics<Length> empty = new QuantitySummaryStatistics<>(KILOMETRE).combine(summary);
+        assertEquals(1, empty.getCount());
+        assertEquals(0.003, empty.getMax().getValue().doubleValue(), 1e-15);
+    }
+
+    @Test
+    public void testOffsetUnitSum() {
+        final Quantity<Temperature> ten = Quantities.getQuantity(10, CELSIUS);
+        final Quantity<Temperature> twenty = Quantities.getQuantity(20, CELSIUS);
+        final QuantitySummaryStatistics<Temperature> summary = summarize(CELSIUS, ten, twenty);
+        // same semantics as Quantity.add, offsets are applied in the system unit
+        assertEquals(ten.add(twenty).to(KELVIN).getValue().doubleValue(), 
+                summary.getSum(KELVIN).getValue().doubleValue(), 1e-9);
+        assertEquals(576.3, summary.getSum(KELVIN).getValue().doubleValue(), 1e-9);
+        assertEquals(303.15, summary.getSum().getValue().doubleValue(), 1e-9);
+        assertEquals(15d, summary.getAverage().getValue().doubleValue(), 0);
+        assertEquals(288.15, summary.getAverage(KELVIN).getValue().doubleValue(), 1e-9);
+        assertEquals(10d, summary.getMin().getValue().doubleValue(), 0);
+
+        final QuantitySummaryStatistics<Temperature> inKelvin = summary.to(KELVIN);
+        assertEquals(576.3, inKelvin.getSum().getValue().doubleValue(), 1e-9);
+        assertEquals(283.15, inKelvin.getMin().getValue().doubleValue(), 1e-9);
+    }
+
+    @Test
+    public void testCompensatedSum() {
+        final List<Quantity<Length>> tenths = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tenths.add(Quantities.getQuantity(0.1, METRE));
+        }
+        final QuantitySummaryStatistics<Length> summary = tenths.stream().collect(QuantityStreams.summarizeQuantity(METRE));
+        assertEquals(100d, summary.getSum().getValue().doubleValue(), 0);
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        final List<Quantity<Length>> quantities = IntStream.range(0, 10_000)
+                .mapToObj(i -> Quantities.getQuantity(i % 3 == 0 ? i : i / 7d, i % 2 == 0 ? METRE : KILOMETRE))
+                .collect(Collectors.toList());
+        final QuantitySummaryStatistics<Length> sequential = quantities.stream().collect(QuantityStreams.summarizeQuantity(METRE));
+        final QuantitySummaryStatistics<Length> parallel = quantities.parallelStream().collect(QuantityStreams.summarizeQuantity(METRE));
+        assertEquals(sequential.getCount(), parallel.getCount());
+        assertEquals(sequential.getMin(), parallel.getMin());
+        assertEquals(sequential.getMax(), parallel.getMax());
+        assertEquals(sequential.getSum().getValue().doubleValue(), parallel.getSum().getValue().doubleValue(), 1e-6);
+    }
+
+    @SafeVarargs
+    private static <Q extends Quantity<Q>> QuantitySummaryStatistics<Q> summarize(Unit<Q> unit, Quantity<Q>... quantities) {
+        final QuantitySummaryStatistics<Q> summary = new QuantitySummaryStatistics<>(unit);
+        for (Quantity<Q> quantity : quantities) {
+            summary.accept(quantity);
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class NumberRendererTest {
+
+    private static final int OFFSET = 3;
+
+    private static void assertRendersLong(long value) {
+        final char[] dest = new char[OFFSET + NumberRenderer.MAX_LONG_LENGTH];
+        final int end = NumberRenderer.render(value, dest, OFFSET);
+        assertEquals(Long.toString(value), new String(dest, OFFSET, end - OFFSET));
+        assertEquals(end - OFFSET, NumberRenderer.length(value));
+    }
+
+    /**
+     * Asserts that the value is either declined or rendered like {@link Double#toString(double)}.
+     * 
+     * @return whether the value was rendered.
+     */
+    private static boolean assertRendersDecimal(double value) {
+        final char[] dest = new char[OFFSET + NumberRenderer.MAX_DECIMAL_LENGTH];
+        final int end = NumberRenderer.renderDecimal(value, dest, OFFSET);
+        if (end < 0) {
+            return false;
+        }
+        assertEquals(Double.toString(value), new String(dest, OFFSET, end - OFFSET));
+        return true;
+    }
+
+    @Test
+    public void testRenderLong() {
+        final long[] values = { 0, 1, -1, 9, 10, 99, 100, -100, 999_999_999, 1_000_000_000, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE / 10, Long.MIN_VALUE / 10 };
+        for (long value : values) {
+            assertRendersLong(value);
+        }
+        long power = 1;
+        for (int i = 0; i < 19; i++) {
+            assertRendersLong(power);
+            assertRendersLong(power - 1);
+            assertRendersLong(-power);
+            assertRendersLong(1 - power);
+            power *= 10;
+        }
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            assertRendersLong(random.nextLong() >> random.nextInt(64));
+        }
+    }
+
+    @Test
+    public void testRenderDecimalDeclines() {
+        final double[] values = { 0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 1e7, -1e7, 9.99e-4,
+                Math.nextDown(1e-3), 1e300, Double.MIN_VALUE, 0.1 + 0.2, 1.0 / 3 };
+        final char[] dest = new char[NumberRenderer.MAX_DECIMAL_LENGTH];
+        for (double value : values) {
+            assertEquals(Double.toString(value), -1, NumberRenderer.renderDecimal(value, dest, 0));
+        }
+    }
+
+    @Test
+    public void testRenderDecimalMatchesDoubleToString() {
+        final double[] values = { 1e-3, -1e-3, 0.1, 0.5, 1.0, -1.0, 2.5, 100.0, 123.456, 9_999_999.0, Math.nextDown(1e7), 0.001234,
+                1234567.891, 0.30000000000000004, 1.7976931348623157, 3.141592653589793 };
+        for (double value : values) {
+            assertRendersDecimal(value);
+        }
+        assertTrue(assertRendersDecimal(0.1));
+        assertTrue(assertRendersDecimal(-123.456));
+        assertTrue(assertRendersDecimal(9_999_999.0));
+    }
+
+    @Test
+    public void testRenderDecimalOnRandomShortDecimals() {
+        // decimals of up to 17 significant digits in and around the plain notation range, and their neighbours
+        final Random random = new Random(4242);
+        int rendered = 0;
+        final int count = 300_000;
+        for (int i = 0; i < count; i++) {
+            final int digits = 1 + random.nextInt(17);
+            long unscaled = 0;
+            for (int j = 0; j < digits; j++) {
+                unscaled = unscaled * 10 + random.nextInt(10);
+            }
+            final int exponent = random.nextInt(14) - 5 - digits;
+            final double value = Double.parseDouble(unscaled + "e" + exponent);
+            if (assertRendersDecimal(random.nextBoolean() ? value : -value)) {
+                rendered++;
+            }
+            assertRendersDecimal(Math.nextUp(value));
+            assertRendersDecimal(Math.nextDown(value));
+        }
+        assertTrue("rendered " + rendered, rendered > count / 4);
+    }
+
+    @Test
+    public void testRenderDecimalOnRandomDoubles() {
+        final Random random = new Random(23);
+        for (int i = 0; i < 300_000; i++) {
+            assertRendersDecimal(random.nextDouble() * Math.pow(10, random.nextInt(12) - 4));
+            assertRendersDecimal(Double.longBitsToDouble(random.nextLong()));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Random;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Unit;
+
+import org.junit.Test;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.format.Token;
+import tech.units.indriya.format.TokenException;
+import tech.units.indriya.format.TokenMgrError;
+import tech.units.indriya.function.LogConverter;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Checks the {@link UnitExpressionParser} against the generated {@link UnitFormatParser}, which it replaces.
+ */
+public class UnitExpressionParserTest {
+
+    private static final String[] SOURCES = { "m", "m/s", "m\u00b7s", "m*s", "m\u00b2", "m\u00b2\u00b3", "m^2", "m^-2", "m^+2", "m^(1/2)",
+            "m^(+3/-2)", "m^(2)", "km/s", "kg\u00b7m/s\u00b2", "mm", "2*m", "m*2", "1.5*m", ".5*m", "1e3*m", "1E-3/m", "m+1", "m-273.15",
+            "K+273.15", "1+m", "10-m+2", "e^m", "e^(m/s)", "10^m", "2^s", "ln(m)", "ln(m+1)", "log(m)", "log2(m)", "(m)", "((m))", "m:s", "m:",
+            "m::", "\u00b0C", "k\u00b0C", "e", "ln", "log", "m\u00b9\u2070", "m^", "^m", "()", "m)", "(m", "m//s", "m**s", "xyz", "kx",
+            "m s", "m\ts", " m", "", "1.", "1.e3", "1e", "1e+", "m^(1/0)", "m^(1/)", "m^99999999999", "99999999999999999999", "m-e",
+            "e^", "ln()", "log(", "m/e", "e*m", "eln", "lnm", "logm", "m\u207b\u00b9", "#", "m#s", "m.s", "m..s", "." };
+
+    private static final String[] TOKENS = { "m", "s", "g", "k", "K", "N", "\u00b0C", "x", "e", "ln", "log", "2", "3", "10", "1.5", ".5",
+            "1e3", "E", "*", "*", "/", "/", "\u00b7", "^", "^", "+", "-", ":", "(", "(", ")", ")", "\u00b2", "\u00b3", ".", " " };
+
+    private static SymbolMap symbols() {
+        final SymbolMap symbols = SymbolMap.of(new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[0][];
+            }
+        });
+        symbols.label(Units.METRE, "m");
+        symbols.label(Units.SECOND, "s");
+        symbols.label(Units.GRAM, "g");
+        symbols.label(Units.KELVIN, "K");
+        symbols.label(Units.NEWTON, "N");
+        symbols.label(Units.CELSIUS, "\u00b0C");
+        symbols.label(MetricPrefix.KILO, "k");
+        symbols.label(MetricPrefix.MILLI, "m");
+        return symbols;
+    }
+
+    /**
+     * Describes how a syntax error was reported, that is by the last consumed token, or the message if there is none.
+     */
+    private static String describe(TokenException e) {
+        final Token token = e.currentToken;
+        if (token == null) {
+            return "syntax error: " + e.getMessage();
+        }
+        return "syntax error after " + token.kind + " \"" + token.image + "\" at " + token.beginColumn + "-" + token.endColumn;
+    }
+
+    private static Object expected(SymbolMap symbols, String source) {
+        try {
+            return new UnitFormatParser(symbols, new StringReader(source)).parseUnit();
+        } catch (TokenException e) {
+            return describe(e);
+        } catch (TokenMgrError e) {
+            return "lexical error";
+        } catch (RuntimeException | StackOverflowError e) {
+            // large exponents exhaust the recursion of AbstractUnit.pow
+            return e.getClass().getName();
+        }
+    }
+
+    private static Object actual(UnitExpressionParser parser, String source) {
+        try {
+            return parser.parse(source, 0, source.length());
+        } catch (TokenException e) {
+            return describe(e);
+        } catch (TokenMgrError e) {
+            return "lexical error";
+        } catch (RuntimeException | StackOverflowError e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static void assertSameOutcome(List<String> sources) {
+        final SymbolMap symbols = symbols();
+        final UnitExpressionParser parser = new UnitExpressionParser(symbols);
+        int parsed = 0;
+        for (String source : sources) {
+            final Object expected = expected(symbols, source);
+            assertEquals("\"" + source + "\"", expected, actual(parser, source));
+            if (expected instanceof Unit) {
+                parsed++;
+            }
+        }
+        assertTrue("too few sources parse: " + parsed, parsed > sources.size() / 20);
+    }
+
+    private static List<String> randomSources(long seed, int count) {
+        final Random random = new Random(seed);
+        final List<String> sources = new ArrayList<>(count);
+        final StringBuilder source = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            source.setLength(0);
+            final int tokens = 1 + random.nextInt(7);
+            for (int j = 0; j < tokens; j++) {
+                source.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            sources.add(source.toString());
+        }
+        return sources;
+    }
+
+    @Test
+    public void testSameOutcome() {
+        assertSameOutcome(Arrays.asList(SOURCES));
+    }
+
+    @Test
+    public void testSameOutcomeOnRandomSources() {
+        assertSameOutcome(randomSources(23L, 50_000));
+    }
+
+    @Test
+    public void testParsesRange() throws TokenException {
+        final UnitExpressionParser parser = new UnitExpressionParser(symbols());
+        assertEquals(Units.METRE.divide(Units.SECOND), parser.parse("<<m/s>>", 2, 5));
+    }
+
+    @Test
+    public void testErrorColumnsAreRelativeToStart() {
+        final UnitExpressionParser parser = new UnitExpressionParser(symbols());
+        try {
+            parser.parse("<<m/*s>>", 2, 6);
+            fail("syntax error");
+        } catch (TokenException e) {
+            assertEquals("/", e.currentToken.image);
+            assertEquals(2, e.currentToken.beginColumn);
+            assertEquals(2, e.currentToken.endColumn);
+        }
+    }
+
+    @Test
+    public void testNaturalBase() throws TokenException {
+        final UnitExpressionParser parser = new UnitExpressionParser(symbols());
+        final Unit<?> exp = parser.parse("e^m", 0, 3);
+        assertEquals(Units.METRE.transform(new LogConverter(Math.E).inverse()), exp);
+        assertEquals(Math.E, ((AbstractUnit<?>) exp).getSystemConverter().convert(1.0), 1e-15);
+        final Unit<?> ln = parser.parse("ln(m)", 0, 5);
+        assertEquals(Units.METRE.transform(new LogConverter(Math.E)), ln);
+        assertEquals(1.0, ((AbstractUnit<?>) ln).getSystemConverter().convert(Math.E), 1e-15);
+        assertEquals(Units.METRE.transform(new LogConverter(2).inverse()), parser.parse("2^m", 0, 3));
+        assertEquals(Units.METRE.transform(new LogConverter(10)), parser.parse("log(m)", 0, 6));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.junit.Test;
+
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.DoubleNumberSystem;
+
+/**
+ * The static shortcuts must agree with the {@code Calculator.of(x).op(y).peek()} chains they 
+ * replace, in both value and type.
+ */
+public class CalculatorTest {
+
+    private static final Number[] SAMPLES = {
+            0, 1, -1, 7, (short) 3, (byte) -2, 1 << 29, -(1 << 29), 1 << 30, -(1 << 30), 
+            Integer.MAX_VALUE, Integer.MIN_VALUE,
+            0L, 5L, (long) Integer.MAX_VALUE + 1, 1L << 61, -(1L << 61), (1L << 62) - 1, 1L << 62, 
+            Long.MAX_VALUE, Long.MIN_VALUE,
+            0.0, -0.0, 0.5, -0.5, 1.5, 0.1, 0.2, 2.0, -3.0, 0x1p53, 0x1p53 + 2, 1e20, 1e300, 1e-300, 
+            Double.MAX_VALUE, Double.MIN_VALUE, 2.5f, 
+            new BigDecimal("0.3"), BigDecimal.TEN, BigInteger.ONE.shiftLeft(70), BigInteger.valueOf(12),
+    };
+
+    @Test
+    public void testNarrowParity() {
+        for (Number x : SAMPLES) {
+            assertNarrowParity(x, n -> Calculator.of(n).peek(), Calculator::narrow);
+        }
+    }
+
+    @Test
+    public void testAdditionParity() {
+        assertParity((x, y) -> Calculator.of(x).add(y).peek(), Calculator::addition);
+    }
+
+    @Test
+    public void testSubtractionParity() {
+        assertParity((x, y) -> Calculator.of(x).subtract(y).peek(), Calculator::subtraction);
+    }
+
+    @Test
+    public void testMultiplicationParity() {
+        assertParity((x, y) -> Calculator.of(x).multiply(y).peek(), Calculator::multiplication);
+    }
+
+    @Test
+    public void testParityUnderOtherNumberSystem() {
+        try (Calculus.NumberSystemScope scope = Calculus.withNumberSystem(new DoubleNumberSystem())) {
+            testNarrowParity();
+            testAdditionParity();
+            testSubtractionParity();
+            testMultiplicationParity();
+        }
+    }
+
+    @Test
+    public void testIntOverflowWidens() {
+        assertEquals(Long.valueOf((long) Integer.MAX_VALUE + 1), Calculator.addition(Integer.MAX_VALUE, 1));
+        assertEquals(Long.valueOf((long) Integer.MIN_VALUE - 1), Calculator.subtraction(Integer.MIN_VALUE, 1));
+        assertEquals(Long.valueOf(1L << 32), Calculator.multiplication(1 << 16, 1 << 16));
+        assertEquals(BigInteger.ONE.shiftLeft(63), Calculator.addition(Long.MAX_VALUE, 1));
+        assertEquals(Integer.valueOf(1 << 29), Calculator.narrow(Long.valueOf(1 << 29)));
+    }
+
+    @Test
+    public void testDoubleNarrowing() {
+        assertEquals(Integer.valueOf(3), Calculator.narrow(3.0));
+        assertEquals(Double.valueOf(0.5), Calculator.narrow(0.5));
+        assertEquals(Integer.valueOf(1), Calculator.multiplication(0.5, 2.0));
+        assertEquals(Integer.valueOf(1), Calculator.multiplication(0.5, 2));
+        assertEquals(Double.valueOf(0.25), Calculator.multiplication(0.5, 0.5));
+    }
+
+    private static void assertParity(BinaryOperator<Number> chain, BinaryOperator<Number> shortcut) {
+        for (Number x : SAMPLES) {
+            for (Number y : SAMPLES) {
+                final Object expected = outcome(() -> chain.apply(x, y));
+                final Object actual = outcome(() -> shortcut.apply(x, y));
+                assertEquals(x + " op " + y, expected, actual);
+                assertEquals(x + " op " + y, expected.getClass(), actual.getClass());
+            }
+        }
+    }
+
+    private static void assertNarrowParity(Number x, UnaryOperator<Number> chain, UnaryOperator<Number> shortcut) {
+        final Object expected = outcome(() -> chain.apply(x));
+        final Object actual = outcome(() -> shortcut.apply(x));
+        assertEquals(String.valueOf(x), expected, actual);
+        assertEquals(String.valueOf(x), expected.getClass(), actual.getClass());
+    }
+
+    // the result, or the type of exception thrown
+    private static Object outcome(Supplier<Number> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function;
+
+import static org.junit.Assert.*;
+
+import java.lang.ref.WeakReference;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+
+import org.junit.Test;
+
+import tech.units.indriya.spi.DimensionalModel;
+import tech.units.indriya.unit.Units;
+
+public class ConverterCacheTest {
+
+    /**
+     * Exposes the protected {@link DimensionalModel#setCurrent(DimensionalModel)}.
+     */
+    private static final class SwitchableModel extends DimensionalModel {
+        private static void install(DimensionalModel model) {
+            setCurrent(model);
+        }
+    }
+
+    @Test
+    public void testCapacityRoundedUp() {
+        assertEquals(1, new ConverterCache(1).getCapacity());
+        assertEquals(8, new ConverterCache(5).getCapacity());
+        assertEquals(1024, new ConverterCache(ConverterCache.DEFAULT_CAPACITY).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new ConverterCache(0);
+    }
+
+    @Test
+    public void testHit() {
+        final ConverterCache cache = new ConverterCache(16);
+        final UnitConverter converter = Units.METRE.getConverterTo(Units.METRE.multiply(1000));
+        assertNull(cache.get(Units.METRE, Units.METRE.multiply(1000)));
+        cache.put(Units.METRE, Units.METRE.multiply(1000), converter);
+        // equal, but not identical units hit as well
+        assertSame(converter, cache.get(Units.METRE, Units.METRE.multiply(1000)));
+        assertNull(cache.get(Units.METRE.multiply(1000), Units.METRE));
+        assertNull(cache.get(Units.METRE, Units.SECOND));
+    }
+
+    @Test
+    public void testCollidingPairEvicts() {
+        final ConverterCache cache = new ConverterCache(1);
+        final UnitConverter converter = Units.METRE.getConverterTo(Units.METRE);
+        cache.put(Units.METRE, Units.METRE, converter);
+        cache.put(Units.SECOND, Units.SECOND, converter);
+        assertNull(cache.get(Units.METRE, Units.METRE));
+        assertSame(converter, cache.get(Units.SECOND, Units.SECOND));
+    }
+
+    @Test
+    public void testClear() {
+        final ConverterCache cache = new ConverterCache(16);
+        cache.put(Units.METRE, Units.METRE, Units.METRE.getConverterTo(Units.METRE));
+        cache.clear();
+        assertNull(cache.get(Units.METRE, Units.METRE));
+    }
+
+    @Test
+    public void testInvalidatedByModelSwitch() {
+        final ConverterCache cache = new ConverterCache(16);
+        final UnitConverter converter = Units.METRE.getConverterTo(Units.METRE);
+        final DimensionalModel standard = DimensionalModel.current();
+        cache.put(Units.METRE, Units.METRE, converter);
+        try {
+            SwitchableModel.install(new SwitchableModel());
+            assertNull(cache.get(Units.METRE, Units.METRE));
+        } finally {
+            SwitchableModel.install(standard);
+        }
+        // entries are ignored, not discarded, hence valid again under their original model
+        assertSame(converter, cache.get(Units.METRE, Units.METRE));
+    }
+
+    @Test
+    public void testUnitsOnlyWeaklyReferenced() throws InterruptedException {
+        final ConverterCache cache = new ConverterCache(16);
+        Unit<Length> km = Units.METRE.multiply(1000);
+        cache.put(km, Units.METRE, km.getConverterTo(Units.METRE));
+        final WeakReference<Unit<Length>> ref = new WeakReference<>(km);
+        km = null;
+        for (int i = 0; i < 100 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("cache must not keep its units reachable", ref.get());
+        // a cleared entry never matches
+        assertNull(cache.get(Units.METRE.multiply(1000), Units.METRE));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function.simplify;
+
+import static org.junit.Assert.*;
+
+import java.math.MathContext;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+import javax.measure.UnitConverter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.function.AddConverter;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.ConverterCompositionHandler;
+import tech.units.indriya.function.DoubleNumberSystem;
+import tech.units.indriya.function.MultiplyConverter;
+
+public class MemoizingCompositionHandlerTest {
+
+    /**
+     * Normal-form handler that counts its invocations.
+     */
+    private static final class CountingHandler implements ConverterCompositionHandler {
+        private final ConverterCompositionHandler delegate = ConverterCompositionHandler.yieldingNormalForm();
+        private int count;
+
+        @Override
+        public AbstractConverter compose(AbstractConverter left, AbstractConverter right,
+                BiPredicate<AbstractConverter, AbstractConverter> canReduce,
+                BinaryOperator<AbstractConverter> doReduce) {
+            count++;
+            return delegate.compose(left, right, canReduce, doReduce);
+        }
+    }
+
+    private final UnitConverter a = MultiplyConverter.ofRational(5, 18);
+    private final UnitConverter b = new AddConverter(3);
+
+    private ConverterCompositionHandler installed;
+    private CountingHandler counting;
+    private MemoizingCompositionHandler memoizing;
+
+    @Before
+    public void setUp() {
+        installed = AbstractConverter.UNIT_COMPOSITION_HANDLER;
+        counting = new CountingHandler();
+        memoizing = new MemoizingCompositionHandler(counting, 16);
+        AbstractConverter.UNIT_COMPOSITION_HANDLER = memoizing;
+    }
+
+    @After
+    public void tearDown() {
+        AbstractConverter.UNIT_COMPOSITION_HANDLER = installed;
+        Calculus.MATH_CONTEXT = Calculus.DEFAULT_MATH_CONTEXT;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new MemoizingCompositionHandler(counting, 0);
+    }
+
+    @Test
+    public void testHit() {
+        final UnitConverter composition = a.concatenate(b);
+        final int computed = counting.count;
+        assertTrue(computed > 0);
+        assertSame(composition, a.concatenate(b));
+        assertSame(composition, MultiplyConverter.ofRational(5, 18).concatenate(new AddConverter(3)));
+        assertEquals(computed, counting.count);
+    }
+
+    @Test
+    public void testEqualsUnmemoized() {
+        final UnitConverter memoized = a.concatenate(b).concatenate(a.inverse());
+        AbstractConverter.UNIT_COMPOSITION_HANDLER = ConverterCompositionHandler.yieldingNormalForm();
+        final UnitConverter unmemoized = a.concatenate(b).concatenate(a.inverse());
+        assertEquals(unmemoized, memoized);
+        assertEquals(unmemoized.convert(42d), memoized.convert(42d), 0);
+    }
+
+    @Test
+    public void testClear() {
+        a.concatenate(b);
+        final int computed = counting.count;
+        memoizing.clear();
+        a.concatenate(b);
+        assertTrue(counting.count > computed);
+    }
+
+    @Test
+    public void testKeyedByNumberSystem() {
+        a.concatenate(b);
+        final int computed = counting.count;
+        try (Calculus.NumberSystemScope scope = Calculus.withNumberSystem(new DoubleNumberSystem())) {
+            a.concatenate(b);
+        }
+        assertTrue(counting.count > computed);
+    }
+
+    @Test
+    public void testKeyedByMathContext() {
+        a.concatenate(b);
+        final int computed = counting.count;
+        Calculus.MATH_CONTEXT = MathContext.DECIMAL64;
+        a.concatenate(b);
+        final int recomputed = counting.count;
+        assertTrue(recomputed > computed);
+        // an equal, but not identical math context hits
+        Calculus.MATH_CONTEXT = new MathContext(16, MathContext.DECIMAL64.getRoundingMode());
+        a.concatenate(b);
+        assertEquals(recomputed, counting.count);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static org.junit.Assert.*;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+
+import org.junit.Test;
+
+import tech.units.indriya.ComparableQuantity;
+
+public class DoubleQuantityTest {
+
+    @Test
+    public void testPrimitiveOverloads() {
+        assertTrue(Quantities.getQuantity(1.5, METRE) instanceof DoubleQuantity);
+        assertTrue(Quantities.getQuantity(1, METRE) instanceof LongQuantity);
+        assertTrue(Quantities.getQuantity((Number) 1.5, METRE) instanceof NumberQuantity);
+    }
+
+    @Test
+    public void testEqualToNumberQuantity() {
+        final ComparableQuantity<Length> primitive = Quantities.getQuantity(1.5, METRE);
+        final ComparableQuantity<Length> boxed = Quantities.getQuantity((Number) 1.5, METRE);
+        assertEquals(boxed, primitive);
+        assertEquals(boxed.hashCode(), primitive.hashCode());
+        assertEquals(Integer.valueOf(2), Quantities.getQuantity(2d, METRE).getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNaNRejected() {
+        Quantities.getQuantity(Double.NaN, METRE);
+    }
+
+    @Test
+    public void testDoublePrecisionArithmetic() {
+        final ComparableQuantity<Length> sum = Quantities.getQuantity(0.1, METRE).add(Quantities.getQuantity(0.2, METRE));
+        assertTrue(sum instanceof DoubleQuantity);
+        assertEquals(0.30000000000000004, sum.getValue());
+        // boxed arguments retain the exact decimal arithmetic of the default number system
+        final ComparableQuantity<Length> exact = Quantities.getQuantity((Number) 0.1, METRE)
+                .add(Quantities.getQuantity((Number) 0.2, METRE));
+        assertEquals(new BigDecimal("0.3"), exact.getValue());
+    }
+
+    @Test
+    public void testPrimitivePaths() {
+        final ComparableQuantity<Length> a = Quantities.getQuantity(1.5, METRE);
+        assertTrue(a.subtract(Quantities.getQuantity(0.25, METRE)) instanceof DoubleQuantity);
+        assertTrue(a.multiply(2.5) instanceof DoubleQuantity);
+        assertTrue(a.divide(2.5) instanceof DoubleQuantity);
+        assertTrue(a.inverse() instanceof DoubleQuantity);
+        assertTrue(a.divide(Quantities.getQuantity(0.5, SECOND)) instanceof DoubleQuantity);
+        assertEquals(0.0015, a.to(METRE.multiply(1000)).getValue().doubleValue(), 0);
+    }
+
+    @Test
+    public void testDivisionByZeroFallsBack() {
+        final Quantity<Length> primitive = Quantities.getQuantity(1.5, METRE);
+        final Quantity<Length> boxed = Quantities.getQuantity((Number) 1.5, METRE);
+        assertSameOutcome(() -> boxed.divide(0d), () -> primitive.divide(0d));
+        assertSameOutcome(() -> boxed.divide(Quantities.getQuantity((Number) 0d, SECOND)), 
+                () -> primitive.divide(Quantities.getQuantity(0d, SECOND)));
+        // the number system decides how to invert zero
+        assertTrue(Quantities.getQuantity(0d, METRE).inverse() instanceof NumberQuantity);
+        try {
+            primitive.divide(0d);
+            fail("division by zero");
+        } catch (ArithmeticException expected) {
+            // as thrown by NumberQuantity
+        }
+    }
+
+    @Test
+    public void testOverflowFallsBack() {
+        final ComparableQuantity<Length> huge = Quantities.getQuantity(1e308, METRE);
+        final ComparableQuantity<Length> hugeBoxed = Quantities.getQuantity((Number) 1e308, METRE);
+        assertSameOutcome(() -> hugeBoxed.multiply(10d), () -> huge.multiply(10d));
+        assertSameOutcome(() -> hugeBoxed.add(hugeBoxed), () -> huge.add(huge));
+        assertSameOutcome(() -> hugeBoxed.subtract(hugeBoxed.negate()), () -> huge.subtract(huge.negate()));
+        assertSameOutcome(() -> hugeBoxed.multiply(hugeBoxed), () -> huge.multiply(huge));
+        assertSameOutcome(() -> hugeBoxed.divide(1e-10), () -> huge.divide(1e-10));
+        assertSameOutcome(() -> hugeBoxed.to(METRE.divide(1000)), () -> huge.to(METRE.divide(1000)));
+        assertSameOutcome(() -> Quantities.getQuantity((Number) Double.MIN_VALUE, METRE).inverse(), 
+                () -> Quantities.getQuantity(Double.MIN_VALUE, METRE).inverse());
+        assertEquals(new BigDecimal("1e309").toBigInteger(), huge.multiply(10d).getValue());
+    }
+
+    @Test
+    public void testCompareTo() {
+        assertEquals(0, Quantities.getQuantity(1d, METRE.multiply(1000)).compareTo(Quantities.getQuantity(1000d, METRE)));
+        final ComparableQuantity<Length> a = Quantities.getQuantity(0d, METRE);
+        assertEquals(0, a.compareTo(Quantities.getQuantity(-0d, METRE)));
+        assertTrue(a.compareTo(Quantities.getQuantity(1e-3, METRE.multiply(1000))) < 0);
+    }
+
+    private static void assertSameOutcome(Supplier<Quantity<?>> expected, Supplier<Quantity<?>> actual) {
+        final Object expectedOutcome = outcome(expected);
+        final Object actualOutcome = outcome(actual);
+        if (expectedOutcome instanceof Quantity) {
+            assertEquals(((Quantity<?>) expectedOutcome).getValue(), ((Quantity<?>) actualOutcome).getValue());
+            assertEquals(((Quantity<?>) expectedOutcome).getUnit(), ((Quantity<?>) actualOutcome).getUnit());
+        } else {
+            assertEquals(expectedOutcome, actualOutcome);
+        }
+    }
+
+    // the result, or the type of exception thrown
+    private static Object outcome(Supplier<Quantity<?>> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static org.junit.Assert.*;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.KELVIN;
+import static tech.units.indriya.unit.Units.METRE;
+
+import java.math.BigInteger;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+
+import org.junit.Test;
+
+import tech.units.indriya.ComparableQuantity;
+
+public class LongQuantityTest {
+
+    private static final Unit<Length> KILOMETRE = MetricPrefix.KILO(METRE);
+
+    /**
+     * Asserts that the primitive conversion equals that of a {@link NumberQuantity} of the same amount.
+     */
+    private static <Q extends Quantity<Q>> ComparableQuantity<Q> assertConvertsLikeNumberQuantity(long value, Unit<Q> unit,
+            Unit<Q> anotherUnit) {
+        final ComparableQuantity<Q> converted = Quantities.getQuantity(value, unit).to(anotherUnit);
+        final ComparableQuantity<Q> expected = Quantities.getQuantity((Number) value, unit).to(anotherUnit);
+        assertEquals(expected, converted);
+        assertEquals(expected.getValue(), converted.getValue());
+        return converted;
+    }
+
+    @Test
+    public void testToByIntegralFactor() {
+        final ComparableQuantity<Length> metres = assertConvertsLikeNumberQuantity(2, KILOMETRE, METRE);
+        assertTrue(metres instanceof LongQuantity);
+        assertEquals(2000L, ((LongQuantity<Length>) metres).longValue());
+        assertTrue(assertConvertsLikeNumberQuantity(-3, METRE.multiply(1000), METRE) instanceof LongQuantity);
+        assertTrue(assertConvertsLikeNumberQuantity(5, MetricPrefix.MEGA(METRE), MetricPrefix.MILLI(METRE)) instanceof LongQuantity);
+    }
+
+    @Test
+    public void testToSameUnit() {
+        final ComparableQuantity<Length> quantity = Quantities.getQuantity(2, METRE);
+        assertSame(quantity, quantity.to(METRE));
+    }
+
+    @Test
+    public void testToByOtherFactors() {
+        assertEquals(2.5, assertConvertsLikeNumberQuantity(2500, METRE, KILOMETRE).getValue().doubleValue(), 0);
+        assertConvertsLikeNumberQuantity(3, METRE.multiply(0.3048), METRE);
+        assertConvertsLikeNumberQuantity(300, KELVIN, CELSIUS);
+    }
+
+    @Test
+    public void testToOverflowWidens() {
+        final ComparableQuantity<Length> metres = assertConvertsLikeNumberQuantity(Long.MAX_VALUE, KILOMETRE, METRE);
+        assertFalse(metres instanceof LongQuantity);
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(1000)),
+                new BigInteger(metres.getValue().toString()));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static org.junit.Assert.*;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.KELVIN;
+import static tech.units.indriya.unit.Units.METRE;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Temperature;
+
+import org.junit.Test;
+
+import tech.units.indriya.ComparableQuantity;
+
+public class QuantityArrayTest {
+
+    @Test
+    public void testOfCopiesValues() {
+        final double[] values = { 1, 2.5, -3 };
+        final QuantityArray<Length> array = QuantityArray.of(METRE, values);
+        values[0] = 42;
+        assertEquals(3, array.size());
+        assertEquals(1d, array.doubleValue(0), 0);
+        assertEquals(Quantities.getQuantity(2.5, METRE), array.get(1));
+        assertEquals(METRE, array.getUnit());
+    }
+
+    @Test
+    public void testOfQuantities() {
+        final QuantityArray<Length> array = QuantityArray.of(METRE, 
+                Arrays.asList(Quantities.getQuantity(1.5, METRE.multiply(1000)), Quantities.getQuantity(2, METRE)));
+        assertArrayEquals(new double[] { 1500, 2 }, array.toDoubleArray(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNaNRejected() {
+        QuantityArray.of(METRE, 1, Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInfinityRejected() {
+        QuantityArray.of(METRE, Double.NEGATIVE_INFINITY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConversionOverflowRejected() {
+        QuantityArray.of(METRE, 1e300).to(METRE.divide(1e10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testScaleOverflowRejected() {
+        QuantityArray.of(METRE, 1, Double.MAX_VALUE).scale(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddOverflowRejected() {
+        final QuantityArray<Length> array = QuantityArray.of(METRE, Double.MAX_VALUE);
+        array.add(array);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddSizeMismatch() {
+        QuantityArray.of(METRE, 1).add(QuantityArray.of(METRE, 1, 2));
+    }
+
+    @Test
+    public void testSumOverflowWidens() {
+        final ComparableQuantity<Length> sum = QuantityArray.of(METRE, Double.MAX_VALUE, Double.MAX_VALUE).sum();
+        assertEquals(METRE, sum.getUnit());
+        assertEquals(BigDecimal.valueOf(Double.MAX_VALUE).toBigInteger().shiftLeft(1), 
+                ((BigInteger) sum.getValue()));
+    }
+
+    @Test
+    public void testArithmetic() {
+        final QuantityArray<Length> array = QuantityArray.of(METRE, 1, 2, 3);
+        assertArrayEquals(new double[] { 2, 4, 6 }, array.scale(2).toDoubleArray(), 0);
+        assertArrayEquals(new double[] { 1001, 2002, 3003 }, 
+                array.add(QuantityArray.of(METRE.multiply(1000), 1, 2, 3)).toDoubleArray(), 0);
+        assertEquals(Quantities.getQuantity(6, METRE), array.sum());
+        assertEquals(Quantities.getQuantity(1, METRE), array.min());
+        assertEquals(Quantities.getQuantity(3, METRE), array.max());
+        assertSame(array, array.to(METRE));
+    }
+
+    @Test
+    public void testOffsetUnitsAddedInSystemUnit() {
+        final QuantityArray<Temperature> sum = QuantityArray.of(CELSIUS, 10).add(QuantityArray.of(CELSIUS, 20));
+        assertEquals(CELSIUS, sum.getUnit());
+        // 283.15 K + 293.15 K
+        assertEquals(303.15, sum.doubleValue(0), 1e-9);
+        assertEquals(576.3, sum.to(KELVIN).doubleValue(0), 1e-9);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testMinOfEmpty() {
+        QuantityArray.of(METRE).min();
+    }
+
+    @Test
+    public void testEmpty() {
+        final QuantityArray<Length> empty = QuantityArray.of(METRE);
+        assertEquals(0, empty.size());
+        assertEquals(0d, empty.sum().getValue().doubleValue(), 0);
+        assertTrue(empty.asList().isEmpty());
+    }
+
+    @Test
+    public void testAsListAndEquality() {
+        final QuantityArray<Length> array = QuantityArray.of(METRE, 1, 2);
+        final List<ComparableQuantity<Length>> list = array.asList();
+        assertEquals(Arrays.asList(Quantities.getQuantity(1, METRE), Quantities.getQuantity(2, METRE)), list);
+        assertEquals(QuantityArray.of(METRE, 1, 2), array);
+        assertEquals(QuantityArray.of(METRE, 1, 2).hashCode(), array.hashCode());
+        assertFalse(array.equals(QuantityArray.of(METRE.multiply(1000), 1, 2)));
+    }
+}
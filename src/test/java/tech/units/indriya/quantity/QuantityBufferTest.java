@@ -0,0 +1,254 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static org.junit.Assert.*;
+import static tech.units.indriya.unit.Units.METRE;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+
+import org.junit.Test;
+
+public class QuantityBufferTest {
+
+    private static final Unit<Length> KILOMETRE = METRE.multiply(1000);
+
+    @Test
+    public void testAllocateDirect() {
+        final QuantityBuffer<Length> buffer = QuantityBuffer.allocateDirect(METRE, 3);
+        assertEquals(3, buffer.size());
+        assertEquals(METRE, buffer.getUnit());
+        assertEquals(0d, buffer.doubleValue(2), 0);
+        buffer.set(0, 1.5);
+        buffer.set(1, Quantities.getQuantity(2, KILOMETRE));
+        assertEquals(Quantities.getQuantity(1.5, METRE), buffer.get(0));
+        assertEquals(2000d, buffer.doubleValue(1), 0);
+        assertEquals(3, buffer.asList().size());
+        assertEquals(Quantities.getQuantity(2000, METRE), buffer.asList().get(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize() {
+        QuantityBuffer.allocateDirect(METRE, -1);
+    }
+
+    @Test
+    public void testWrapRoundTrip() throws Exception {
+        final Path file = Files.createTempFile("quantities", ".qbuf");
+        try {
+            final QuantityBuffer<Length> written = QuantityBuffer.create(file, KILOMETRE, 2);
+            written.set(0, 4.25);
+            written.set(1, -1);
+            written.force();
+            final QuantityBuffer<Length> copy = QuantityBuffer.wrap(ByteBuffer.wrap(Files.readAllBytes(file)))
+                    .asType(Length.class);
+            assertEquals(KILOMETRE, copy.getUnit());
+            assertEquals(2, copy.size());
+            assertEquals(4.25, copy.doubleValue(0), 0);
+            assertEquals(-1d, copy.doubleValue(1), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrapRejectsForeignBuffer() {
+        QuantityBuffer.wrap(ByteBuffer.allocate(QuantityBuffer.HEADER_SIZE));
+    }
+
+    @Test
+    public void testFileRoundTrip() throws Exception {
+        final Path file = Files.createTempFile("quantities", ".qbuf");
+        try {
+            final QuantityBuffer<Length> written = QuantityBuffer.create(file, KILOMETRE, 1500);
+            for (int i = 0; i < written.size(); i++) {
+                written.set(i, i * 0.5);
+            }
+            written.force();
+            assertEquals(QuantityBuffer.HEADER_SIZE + 1500L * Double.BYTES, Files.size(file));
+
+            final QuantityBuffer<Length> read = QuantityBuffer.map(file, MapMode.READ_ONLY).asType(Length.class);
+            assertEquals(KILOMETRE, read.getUnit());
+            assertEquals(1500, read.size());
+            for (int i = 0; i < read.size(); i++) {
+                assertEquals(i * 0.5, read.doubleValue(i), 0);
+            }
+            try {
+                read.set(0, 1);
+                fail("read-only mapping");
+            } catch (ReadOnlyBufferException expected) {
+                // mapped read-only
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testConvertToInChunks() throws Exception {
+        // more values than fit into a single conversion chunk
+        final QuantityBuffer<Length> buffer = QuantityBuffer.allocateDirect(KILOMETRE, 2500);
+        for (int i = 0; i < buffer.size(); i++) {
+            buffer.set(i, i);
+        }
+        assertSame(buffer, buffer.convertTo(METRE));
+        assertEquals(METRE, buffer.getUnit());
+        for (int i = 0; i < buffer.size(); i++) {
+            assertEquals(i * 1000d, buffer.doubleValue(i), 0);
+        }
+        assertSame(buffer, buffer.convertTo(METRE));
+    }
+
+    @Test
+    public void testConvertedUnitPersisted() throws Exception {
+        final Path file = Files.createTempFile("quantities", ".qbuf");
+        try {
+            final QuantityBuffer<Length> written = QuantityBuffer.create(file, KILOMETRE, 1);
+            written.set(0, 1.5);
+            written.convertTo(METRE).force();
+            final QuantityBuffer<?> read = QuantityBuffer.map(file, MapMode.READ_ONLY);
+            assertEquals(METRE, read.getUnit());
+            assertEquals(1500d, read.doubleValue(0), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testSliceSharesValues() {
+        final QuantityBuffer<Length> buffer = QuantityBuffer.allocateDirect(METRE, 5);
+        final QuantityBuffer<Length> slice = buffer.slice(1, 3);
+        assertEquals(2, slice.size());
+        slice.set(0, 7);
+        assertEquals(7d, buffer.doubleValue(1), 0);
+        buffer.set(2, 9);
+        assertEquals(9d, slice.doubleValue(1), 0);
+        assertEquals(1, slice.slice(1, 2).size());
+    }
+
+    @Test
+    public void testSliceFollowsConversion() {
+        final QuantityBuffer<Length> buffer = QuantityBuffer.allocateDirect(KILOMETRE, 3);
+        buffer.set(1, 2);
+        final QuantityBuffer<Length> slice = buffer.slice(1, 3);
+        final QuantityBuffer<Length> nested = slice.slice(0, 1);
+        buffer.convertTo(METRE);
+        assertEquals(METRE, slice.getUnit());
+        assertEquals(METRE, nested.getUnit());
+        assertEquals(Quantities.getQuantity(2000, METRE), slice.get(0));
+        assertEquals(Quantities.getQuantity(2000, METRE), nested.get(0));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSliceCannotConvert() {
+        QuantityBuffer.allocateDirect(METRE, 3).slice(0, 1).convertTo(KILOMETRE);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSliceOutOfBounds() {
+        QuantityBuffer.allocateDirect(METRE, 3).slice(2, 4);
+    }
+
+    @Test
+    public void testSetRejectsNonFinite() {
+        final QuantityBuffer<Length> buffer = QuantityBuffer.allocateDirect(METRE, 2);
+        buffer.set(0, 1.5);
+        for (double value : new double[] { Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY }) {
+            try {
+                buffer.set(0, value);
+                fail(Double.toString(value));
+            } catch (IllegalArgumentException expected) {
+                assertEquals(1.5, buffer.doubleValue(0), 0);
+            }
+        }
+        try {
+            // finite, but not once converted
+            buffer.set(0, Quantities.getQuantity(1e308, KILOMETRE));
+            fail("overflow");
+        } catch (IllegalArgumentException expected) {
+            assertEquals(1.5, buffer.doubleValue(0), 0);
+        }
+        assertEquals(Quantities.getQuantity(1.5, METRE), buffer.get(0));
+    }
+
+    @Test
+    public void testConvertToRejectsOverflow() throws Exception {
+        final Path file = Files.createTempFile("quantities", ".qbuf");
+        try {
+            final QuantityBuffer<Length> buffer = QuantityBuffer.create(file, KILOMETRE, 2500);
+            for (int i = 0; i < buffer.size(); i++) {
+                buffer.set(i, i);
+            }
+            // in the second conversion chunk
+            buffer.set(2000, 1e306);
+            try {
+                buffer.convertTo(METRE.divide(1_000_000));
+                fail("overflow");
+            } catch (IllegalArgumentException expected) {
+                assertTrue(expected.getMessage(), expected.getMessage().contains("index 2000"));
+            }
+            assertEquals(KILOMETRE, buffer.getUnit());
+            for (int i = 0; i < buffer.size(); i++) {
+                assertEquals(i == 2000 ? 1e306 : i, buffer.doubleValue(i), 0);
+            }
+            buffer.force();
+            assertEquals(KILOMETRE, QuantityBuffer.map(file, MapMode.READ_ONLY).getUnit());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testWrapKeepsByteOrder() throws Exception {
+        final Path file = Files.createTempFile("quantities", ".qbuf");
+        try {
+            QuantityBuffer.create(file, KILOMETRE, 1).set(0, 2);
+            final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+            final QuantityBuffer<Length> buffer = QuantityBuffer.wrap(bytes).asType(Length.class);
+            assertEquals(ByteOrder.BIG_ENDIAN, bytes.order());
+            buffer.convertTo(METRE);
+            assertEquals(ByteOrder.BIG_ENDIAN, bytes.order());
+            assertEquals(0, bytes.position());
+            final QuantityBuffer<?> reread = QuantityBuffer.wrap(bytes);
+            assertEquals(METRE, reread.getUnit());
+            assertEquals(2000d, reread.doubleValue(0), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2023, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.unit;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+
+import org.junit.Test;
+
+import tech.units.indriya.AbstractUnit;
+
+/**
+ * Values memoized by {@link ProductUnit} and {@link TransformedUnit} must equal freshly computed ones.
+ */
+public class MemoizedUnitTest {
+
+    // km/h, as a product of transformed units
+    private static Unit<?> kilometrePerHour() {
+        return Units.METRE.multiply(1000).divide(Units.HOUR);
+    }
+
+    @Test
+    public void testProductUnitMemoizedValues() {
+        final AbstractUnit<?> unit = (AbstractUnit<?>) kilometrePerHour();
+        assertTrue(unit instanceof ProductUnit);
+
+        assertEquals(Units.METRE_PER_SECOND, unit.getSystemUnit());
+        assertSame(unit.getSystemUnit(), unit.getSystemUnit());
+
+        final UnitConverter converter = unit.getSystemConverter();
+        assertEquals(10d, converter.convert(36d), 1e-12);
+        assertSame(converter, unit.getSystemConverter());
+
+        assertEquals(Units.METRE_PER_SECOND.getDimension(), unit.getDimension());
+        assertSame(unit.getDimension(), unit.getDimension());
+
+        assertSame(unit.getBaseUnits(), unit.getBaseUnits());
+    }
+
+    @Test
+    public void testMemoizedEqualsFresh() {
+        final AbstractUnit<?> memoized = (AbstractUnit<?>) kilometrePerHour();
+        memoized.getSystemUnit();
+        memoized.getSystemConverter();
+        memoized.getDimension();
+        memoized.getBaseUnits();
+
+        final AbstractUnit<?> fresh = (AbstractUnit<?>) kilometrePerHour();
+        assertNotSame(memoized, fresh);
+        assertEquals(fresh.getSystemUnit(), memoized.getSystemUnit());
+        assertEquals(fresh.getSystemConverter(), memoized.getSystemConverter());
+        assertEquals(fresh.getDimension(), memoized.getDimension());
+        assertEquals(fresh.getBaseUnits(), memoized.getBaseUnits());
+    }
+
+    @Test
+    public void testBaseUnits() {
+        final Map<? extends Unit<?>, Integer> baseUnits = kilometrePerHour().getBaseUnits();
+        assertEquals(2, baseUnits.size());
+        assertEquals(Integer.valueOf(1), baseUnits.get(Units.METRE.multiply(1000)));
+        assertEquals(Integer.valueOf(-1), baseUnits.get(Units.HOUR));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testBaseUnitsUnmodifiable() {
+        ((ProductUnit<?>) kilometrePerHour()).getBaseUnits().put(Units.SECOND, 1);
+    }
+
+    @Test
+    public void testNonLinearConverterNotMemoized() {
+        final AbstractUnit<?> unit = (AbstractUnit<?>) Units.CELSIUS.multiply(Units.SECOND);
+        for (int i = 0; i < 2; i++) {
+            try {
+                unit.getSystemConverter();
+                fail("non-linear product must not be convertible");
+            } catch (UnsupportedOperationException expected) {
+                // thrown on every call
+            }
+        }
+    }
+
+    @Test
+    public void testTransformedUnitMemoizedConverter() {
+        final AbstractUnit<Length> km = (AbstractUnit<Length>) Units.METRE.multiply(1000);
+        assertTrue(km instanceof TransformedUnit);
+        final UnitConverter converter = km.getSystemConverter();
+        assertSame(converter, km.getSystemConverter());
+        assertEquals(((AbstractUnit<Length>) Units.METRE.multiply(1000)).getSystemConverter(), converter);
+        assertEquals(1500d, converter.convert(1.5d), 0);
+    }
+
+    @Test
+    public void testMemoizedValuesNotSerialized() throws Exception {
+        final AbstractUnit<?> unit = (AbstractUnit<?>) kilometrePerHour();
+        unit.getSystemConverter();
+        unit.getBaseUnits();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(unit);
+        }
+        final AbstractUnit<?> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (AbstractUnit<?>) in.readObject();
+        }
+        assertEquals(unit, copy);
+        assertEquals(unit.getSystemConverter(), copy.getSystemConverter());
+        assertEquals(unit.getBaseUnits(), copy.getBaseUnits());
+    }
+}
@@ -19,6 +19,14 @@ public class AddConverterTest {
       assertEquals(BigDecimal.TEN, converter.convert(BigDecimal.ZERO));
    }
 
+   @Test
+   public void testDoubleConversion() {
+      AddConverter converter = new AddConverter(new BigDecimal("273.15"));
+      assertEquals(273.15, converter.convert(0d), 0);
+      assertEquals(0d, converter.inverse().convert(273.15), 0);
+      assertEquals(283.15, converter.convert(10L), 1e-12);
+   }
+
    @Test
    public void testInverseConversion() {
       UnitConverter converter = new AddConverter(BigDecimal.TEN).inverse();
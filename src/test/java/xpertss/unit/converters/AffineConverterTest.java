@@ -0,0 +1,89 @@
+package xpertss.unit.converters;
+
+
+import org.junit.Test;
+
+import org.xpertss.measure.UnitConverter;
+import java.math.BigDecimal;
+
+import static junit.framework.Assert.assertSame;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static java.math.BigDecimal.*;
+
+public class AffineConverterTest {
+
+   @Test
+   public void testBasicConversion() {
+      AffineConverter converter = new AffineConverter(valueOf(9), valueOf(5), valueOf(32));
+      assertEquals(valueOf(212), converter.convert(valueOf(100)));
+      assertEquals(212d, converter.convert(100d), 1e-12);
+      assertFalse(converter.isLinear());
+   }
+
+   @Test
+   public void testInverse() {
+      AffineConverter converter = new AffineConverter(valueOf(9), valueOf(5), valueOf(32));
+      UnitConverter inverse = converter.inverse();
+      assertEquals(valueOf(100), inverse.convert(valueOf(212)));
+      assertEquals(converter, inverse.inverse());
+   }
+
+   @Test
+   public void testNegativeDividendInverse() {
+      AffineConverter converter = new AffineConverter(valueOf(-2), ONE, ONE);
+      UnitConverter inverse = converter.inverse();
+      assertEquals(valueOf(3), inverse.convert(valueOf(-5)));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testIdentityThrowsException() {
+      new AffineConverter(TEN, TEN, ZERO);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testZeroDivisorThrowsException() {
+      new AffineConverter(TEN, ZERO, ONE);
+   }
+
+   @Test
+   public void testNormalizeFoldsLinearRun() {
+      UnitConverter chain = new MultiplyConverter(new BigDecimal("1.8"))
+                              .concatenate(new AddConverter(valueOf(32)))
+                              .concatenate(new RationalConverter(1, 10));
+      UnitConverter normal = AffineConverter.normalize(chain);
+      assertEquals(1, normal.getConversionSteps().size());
+      assertEquals(chain.convert(valueOf(1000)), normal.convert(valueOf(1000)));
+      assertEquals(chain.convert(1000d), normal.convert(1000d), 1e-12);
+   }
+
+   @Test
+   public void testNormalizeWithoutOffsetYieldsRational() {
+      UnitConverter chain = new MultiplyConverter(new BigDecimal("2.5"))
+                              .concatenate(new MultiplyConverter(new BigDecimal("4")));
+      UnitConverter normal = AffineConverter.normalize(chain);
+      assertTrue(normal instanceof RationalConverter);
+      assertEquals(TEN, normal.convert(ONE));
+   }
+
+   @Test
+   public void testNormalizeToIdentity() {
+      UnitConverter chain = new MultiplyConverter(new BigDecimal("2.5"))
+                              .concatenate(new MultiplyConverter(new BigDecimal("0.4")));
+      assertSame(UnitConverter.IDENTITY, AffineConverter.normalize(chain));
+   }
+
+   @Test
+   public void testNormalizeKeepsNonLinearSteps() {
+      UnitConverter chain = new RationalConverter(2, 1)
+                              .concatenate(new MultiplyConverter(new BigDecimal("1.5")))
+                              .concatenate(new PiMultiplierConverter())
+                              .concatenate(new AddConverter(ONE))
+                              .concatenate(new AddConverter(ONE));
+      UnitConverter normal = AffineConverter.normalize(chain);
+      assertEquals(3, normal.getConversionSteps().size());
+      assertEquals(chain.convert(2d), normal.convert(2d), 1e-12);
+   }
+
+}
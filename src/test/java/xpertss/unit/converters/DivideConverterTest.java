@@ -21,6 +21,14 @@ public class DivideConverterTest {
       assertEquals(BigDecimal.TEN, converter.convert(new BigDecimal(100)));
    }
 
+   @Test
+   public void testDoubleConversion() {
+      DivideConverter converter = new DivideConverter(BigDecimal.TEN);
+      assertEquals(1d, converter.convert(10d), 0);
+      assertEquals(10d, converter.convert(100L), 0);
+      assertEquals(100d, converter.inverse().convert(10d), 0);
+   }
+
    @Test
    public void testInverseConversion() {
       DivideConverter normal = new DivideConverter(BigDecimal.TEN);
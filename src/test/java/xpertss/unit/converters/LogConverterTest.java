@@ -0,0 +1,84 @@
+package xpertss.unit.converters;
+
+import org.junit.Test;
+
+import org.xpertss.measure.UnitConverter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.math.BigDecimal.valueOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class LogConverterTest {
+
+   @Test
+   public void testDoubleConversion() {
+      UnitConverter converter = new LogConverter(10);
+      assertEquals(3d, converter.convert(1000d), 1e-15);
+      assertEquals(1000d, converter.inverse().convert(3d), 1e-9);
+      assertFalse(converter.isLinear());
+   }
+
+   @Test
+   public void testBigDecimalConversion() {
+      UnitConverter converter = new LogConverter(10);
+      assertEquals(0, valueOf(3).compareTo(converter.convert(valueOf(1000))));
+      assertEquals(0, valueOf(-2).compareTo(converter.convert(new BigDecimal("0.01"))));
+      assertEquals(0, valueOf(1000).compareTo(converter.inverse().convert(valueOf(3))));
+   }
+
+   @Test
+   public void testNaturalLogarithm() {
+      LogConverter converter = new LogConverter(Math.E);
+      BigDecimal ln2 = new BigDecimal("0.6931471805599453094172321214581765680755");
+      assertEquals(0, ln2.round(MathContext.DECIMAL64).compareTo(converter.convert(valueOf(2), MathContext.DECIMAL64)));
+      MathContext mc = new MathContext(40);
+      assertEquals(0, ln2.round(mc).compareTo(converter.convert(valueOf(2), mc)));
+   }
+
+   @Test
+   public void testMatchesDoublePath() {
+      UnitConverter converter = new LogConverter(2).inverse();
+      for(double value : new double[] { -3.5, -0.25, 0.5, 1.75, 10, 42.125 }) {
+         double expected = converter.convert(value);
+         double actual = converter.convert(BigDecimal.valueOf(value)).doubleValue();
+         assertEquals(expected, actual, Math.ulp(expected) * 4);
+      }
+   }
+
+   @Test
+   public void testForwardBackward() {
+      UnitConverter converter = new LogConverter(Math.E);
+      BigDecimal value = new BigDecimal("123.456");
+      BigDecimal result = converter.inverse().convert(converter.convert(value));
+      assertEquals(0, value.compareTo(result.round(MathContext.DECIMAL64)));
+   }
+
+   @Test
+   public void testLogOfBaseSharedWithInverse() {
+      MathContext mc = new MathContext(30);
+      BigDecimal lnOfBase = BigMath.lnOfBase(7, mc);
+      assertSame(lnOfBase, BigMath.lnOfBase(7, mc));
+      assertEquals(0, BigMath.ln(valueOf(7), mc).compareTo(lnOfBase));
+      LogConverter converter = new LogConverter(7);
+      converter.convert(valueOf(49), mc);
+      ((ExpConverter) converter.inverse()).convert(valueOf(2), mc);
+      assertSame(lnOfBase, BigMath.lnOfBase(7, mc));
+      assertSame(BigDecimal.ONE, BigMath.lnOfBase(Math.E, mc));
+   }
+
+   @Test(expected = ArithmeticException.class)
+   public void testNonPositiveThrowsException() {
+      new LogConverter(10).convert(BigDecimal.ZERO);
+   }
+
+   @Test
+   public void testEquals() {
+      assertEquals(new LogConverter(10), new LogConverter(10));
+      assertEquals(new LogConverter(10), new LogConverter(10).inverse().inverse());
+      assertFalse(new LogConverter(10).equals(new LogConverter(10).inverse()));
+   }
+
+}
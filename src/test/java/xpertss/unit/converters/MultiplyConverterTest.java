@@ -20,6 +20,14 @@ public class MultiplyConverterTest {
       assertEquals(BigDecimal.TEN, converter.convert(BigDecimal.ONE));
    }
 
+   @Test
+   public void testDoubleConversion() {
+      MultiplyConverter converter = new MultiplyConverter(new BigDecimal("2.5"));
+      assertEquals(25d, converter.convert(10d), 0);
+      assertEquals(25d, converter.convert(10L), 0);
+      assertEquals(4d, converter.inverse().convert(10d), 0);
+   }
+
    @Test
    public void testInverseConversion() {
       MultiplyConverter normal = new MultiplyConverter(BigDecimal.TEN);
@@ -25,6 +25,13 @@ public class PiConverterTest {
       assertEquals(ONE, inverted.convert(converter.convert(ONE)));
    }
 
+   @Test
+   public void testDoubleForwardBackward() {
+      UnitConverter converter = new PiMultiplierConverter();
+      assertEquals(Math.PI, converter.convert(1d), 0);
+      assertEquals(1d, converter.inverse().convert(converter.convert(1d)), 1e-15);
+   }
+
    @Test
    public void testEquals() {
       UnitConverter converter = new PiMultiplierConverter();
@@ -31,6 +31,16 @@ public class RationalConverterTest  {
       assertEquals(valueOf(100), converter.convert(TEN));
    }
 
+   @Test
+   public void testDoubleConversion() {
+      RationalConverter converter = new RationalConverter(1, 1000);
+      assertEquals(0.001, converter.convert(1d), 0);
+      assertEquals(1.5, converter.convert(1500L), 0);
+      assertEquals(1500d, converter.inverse().convert(1.5), 0);
+      UnitConverter compound = converter.concatenate(new AddConverter(TEN));
+      assertEquals(0.011, compound.convert(1d), 1e-15);
+   }
+
    @Test(expected = IllegalArgumentException.class)
    public void testNegativeDivisorThrowsException() {
       new RationalConverter(10, -1);